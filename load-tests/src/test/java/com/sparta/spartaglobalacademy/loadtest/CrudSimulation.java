@@ -0,0 +1,66 @@
+package com.sparta.spartaglobalacademy.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * Full create → read → update → read → delete cycle per iteration with no think time, so every
+ * request is a short transaction and connection acquisition and statement preparation dominate.
+ * Used to compare connection pool and driver settings (see "Pool and driver tuning" in README.md);
+ * run the API with {@code academy.ratelimit.enabled=false} so the limiter does not cap throughput.
+ */
+public class CrudSimulation extends Simulation {
+
+    private static Iterator<Map<String, Object>> crudFeeder() {
+        return Stream.generate(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            return Map.<String, Object>of(
+                    "trainerId", random.nextInt(1, LoadTestConfig.MAX_TRAINER_ID + 1),
+                    "enrollDate", LocalDate.now().plusDays(random.nextInt(1, 366)).toString(),
+                    "clientIp", "10.0." + random.nextInt(4) + "." + random.nextInt(1, 251));
+        }).iterator();
+    }
+
+    private final ScenarioBuilder crud = scenario("crud")
+            .feed(crudFeeder())
+            // Titles must be unique, so each iteration gets its own
+            .exec(http("POST /courses").post("/courses")
+                    .header("X-Forwarded-For", "#{clientIp}")
+                    .body(StringBody("""
+                            {"title":"Crud #{randomUuid()}","description":"created by load test",\
+                            "enrollDate":"#{enrollDate}","trainerId":#{trainerId}}"""))
+                    .check(status().in(200, 429, 503))
+                    .check(jsonPath("$.id").optional().saveAs("createdId")))
+            .doIf(session -> session.contains("createdId")).then(
+                    exec(http("GET /courses/{id}").get("/courses/#{createdId}").check(status().is(200)))
+                    .exec(http("PUT /courses/{id}").put("/courses/#{createdId}")
+                            .header("X-Forwarded-For", "#{clientIp}")
+                            .body(StringBody("""
+                                    {"title":"Crud #{randomUuid()}","description":"updated by load test",\
+                                    "enrollDate":"#{enrollDate}","trainerId":#{trainerId}}"""))
+                            .check(status().in(200, 429, 503)))
+                    .exec(http("GET /course-details/{id}").get("/course-details/#{createdId}").check(status().is(200)))
+                    .exec(http("DELETE /courses/{id}").delete("/courses/#{createdId}")
+                            .header("X-Forwarded-For", "#{clientIp}")
+                            .check(status().in(204, 429, 503))))
+            .exec(session -> session.remove("createdId"));
+
+    {
+        setUp(crud.injectClosed(
+                rampConcurrentUsers(1).to(LoadTestConfig.USERS).during(Duration.ofSeconds(30)),
+                constantConcurrentUsers(LoadTestConfig.USERS).during(LoadTestConfig.DURATION)))
+                .protocols(LoadTestConfig.httpProtocol())
+                .assertions(global().failedRequests().percent().lt(1.0));
+    }
+}
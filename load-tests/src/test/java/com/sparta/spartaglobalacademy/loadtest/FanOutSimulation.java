@@ -0,0 +1,59 @@
+package com.sparta.spartaglobalacademy.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * Fan-out traffic limited to the /courses and /trainers contract shared by the servlet API and the
+ * reactive variant (reactive/), so the same run can be pointed at either one.
+ * <p>
+ * Each iteration loads a course and, in parallel, its trainer plus four more courses, then
+ * occasionally lists every trainer. Users loop with no think time, so concurrency rather than
+ * arrival rate drives the load; run it with a few hundred or thousand {@code users}.
+ */
+public class FanOutSimulation extends Simulation {
+
+    private static Iterator<Map<String, Object>> fanOutFeeder() {
+        return Stream.generate(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            return Map.<String, Object>of(
+                    "courseId", random.nextInt(1, LoadTestConfig.MAX_COURSE_ID + 1),
+                    "trainerId", random.nextInt(1, LoadTestConfig.MAX_TRAINER_ID + 1),
+                    "related1", random.nextInt(1, LoadTestConfig.MAX_COURSE_ID + 1),
+                    "related2", random.nextInt(1, LoadTestConfig.MAX_COURSE_ID + 1),
+                    "related3", random.nextInt(1, LoadTestConfig.MAX_COURSE_ID + 1),
+                    "related4", random.nextInt(1, LoadTestConfig.MAX_COURSE_ID + 1));
+        }).iterator();
+    }
+
+    private final ScenarioBuilder fanOut = scenario("fan-out")
+            .feed(fanOutFeeder())
+            .exec(http("GET /courses/{id}").get("/courses/#{courseId}")
+                    .check(status().in(200, 404))
+                    .resources(
+                            http("GET /trainers/{id}").get("/trainers/#{trainerId}").check(status().in(200, 404)),
+                            http("GET /courses/{id} related").get("/courses/#{related1}").check(status().in(200, 404)),
+                            http("GET /courses/{id} related").get("/courses/#{related2}").check(status().in(200, 404)),
+                            http("GET /courses/{id} related").get("/courses/#{related3}").check(status().in(200, 404)),
+                            http("GET /courses/{id} related").get("/courses/#{related4}").check(status().in(200, 404))))
+            .randomSwitch().on(
+                    percent(5.0).then(exec(http("GET /trainers").get("/trainers").check(status().is(200)))));
+
+    {
+        setUp(fanOut.injectClosed(
+                rampConcurrentUsers(1).to(LoadTestConfig.USERS).during(Duration.ofSeconds(30)),
+                constantConcurrentUsers(LoadTestConfig.USERS).during(LoadTestConfig.DURATION)))
+                .protocols(LoadTestConfig.httpProtocol())
+                .assertions(global().failedRequests().percent().lt(1.0));
+    }
+}
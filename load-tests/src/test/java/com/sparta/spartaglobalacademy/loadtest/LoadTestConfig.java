@@ -0,0 +1,51 @@
+package com.sparta.spartaglobalacademy.loadtest;
+
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.http.HttpDsl.http;
+
+/**
+ * Settings shared by every simulation, read from system properties so runs are reproducible
+ * from the command line (the Maven plugin forwards them, see pom.xml).
+ */
+final class LoadTestConfig {
+
+    static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8091");
+    static final int USERS = Integer.getInteger("users", 50);
+    static final Duration DURATION = Duration.ofSeconds(Integer.getInteger("durationSeconds", 120));
+    // Upper bounds of the seeded id ranges; ids are drawn uniformly below them
+    static final int MAX_COURSE_ID = Integer.getInteger("maxCourseId", 10_000);
+    static final int MAX_TRAINER_ID = Integer.getInteger("maxTrainerId", 100);
+
+    private LoadTestConfig() {
+    }
+
+    static HttpProtocolBuilder httpProtocol() {
+        return http.baseUrl(BASE_URL)
+                .acceptHeader("application/json")
+                .contentTypeHeader("application/json")
+                .shareConnections();
+    }
+
+    /**
+     * Endless feeder of random ids plus a client IP, sent as X-Forwarded-For, so write requests are
+     * rate limited per virtual user rather than all sharing the load generator's IP bucket.
+     */
+    static Iterator<Map<String, Object>> idFeeder() {
+        return Stream.generate(() -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            return Map.<String, Object>of(
+                    "courseId", random.nextInt(1, MAX_COURSE_ID + 1),
+                    "trainerId", random.nextInt(1, MAX_TRAINER_ID + 1),
+                    "enrollDate", LocalDate.of(2024, 1, 1).plusDays(random.nextInt(730)).toString(),
+                    "clientIp", "10.0." + random.nextInt(4) + "." + random.nextInt(1, 251));
+        }).iterator();
+    }
+}
@@ -0,0 +1,52 @@
+package com.sparta.spartaglobalacademy.loadtest;
+
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+
+import java.time.Duration;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * Browse-style traffic: mostly single-entity lookups, some joined listings, the occasional
+ * full listing and a trickle of writes. Ramps to {@code users} concurrent users and holds for
+ * {@code durationSeconds}.
+ */
+public class ReadHeavySimulation extends Simulation {
+
+    private final ScenarioBuilder browse = scenario("read-heavy")
+            .feed(LoadTestConfig.idFeeder())
+            .randomSwitch().on(
+                    percent(40.0).then(exec(http("GET /courses/{id}").get("/courses/#{courseId}")
+                            .check(status().in(200, 404)))),
+                    percent(20.0).then(exec(http("GET /trainers/{id}").get("/trainers/#{trainerId}")
+                            .check(status().in(200, 404)))),
+                    percent(15.0).then(exec(http("GET /course-details?trainerId").get("/course-details")
+                            .queryParam("trainerId", "#{trainerId}")
+                            .check(status().is(200)))),
+                    percent(10.0).then(exec(http("GET /course-details/{id}").get("/course-details/#{courseId}")
+                            .check(status().in(200, 404)))),
+                    percent(5.0).then(exec(http("GET /trainers").get("/trainers")
+                            .check(status().is(200)))),
+                    percent(3.0).then(exec(http("GET /courses").get("/courses")
+                            .check(status().is(200)))),
+                    percent(3.0).then(exec(http("GET /db/sample").get("/db/sample")
+                            .check(status().is(200)))),
+                    percent(2.0).then(exec(http("PUT /courses/{id}").put("/courses/#{courseId}")
+                            .header("X-Forwarded-For", "#{clientIp}")
+                            .body(StringBody("""
+                                    {"title":"Load #{courseId}","description":"updated by load test",\
+                                    "enrollDate":"#{enrollDate}","trainerId":#{trainerId}}"""))
+                            .check(status().in(200, 404, 429, 503)))))
+            .pause(Duration.ofMillis(50), Duration.ofMillis(250));
+
+    {
+        setUp(browse.injectClosed(
+                rampConcurrentUsers(1).to(LoadTestConfig.USERS).during(Duration.ofSeconds(30)),
+                constantConcurrentUsers(LoadTestConfig.USERS).during(LoadTestConfig.DURATION)))
+                .protocols(LoadTestConfig.httpProtocol())
+                .assertions(global().failedRequests().percent().lt(1.0));
+    }
+}
@@ -0,0 +1,81 @@
+package com.sparta.spartaglobalacademy.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Condenses the newest Gatling run into a small, stable TSV (one row per request name, sorted,
+ * no timestamps) under {@code reports/}, so two commits can be compared with a plain diff.
+ * Percentile columns follow {@code gatling.conf}: p50, p95, p99.
+ * Pass {@code -Dlabel=...} to keep runs of the same simulation apart, e.g. against two targets.
+ * <p>
+ * Usage: {@code mvn exec:java -Dexec.mainClass=com.sparta.spartaglobalacademy.loadtest.ReportSummary}
+ */
+public final class ReportSummary {
+
+    private static final String HEADER = "request\ttotal\tok\tko\tp50_ms\tp95_ms\tp99_ms\tmax_ms\treq_per_s";
+
+    public static void main(String[] args) throws IOException {
+        Path results = Path.of(args.length > 0 ? args[0] : "target/gatling");
+        Path run = latestRun(results);
+        JsonNode root = new ObjectMapper().readTree(run.resolve("js/stats.json").toFile());
+
+        List<String> rows = new ArrayList<>();
+        collect(root, rows);
+        rows.sort(Comparator.naturalOrder());
+        rows.add(0, row("ALL", root.path("stats")));
+        rows.add(0, HEADER);
+
+        // Run directories are named <simulation>-<timestamp>; keep only the simulation part
+        String simulation = run.getFileName().toString().replaceFirst("-\\d+$", "");
+        String label = System.getProperty("label", "");
+        Path out = Path.of("reports", simulation + (label.isEmpty() ? "" : "-" + label) + ".tsv");
+        Files.createDirectories(out.getParent());
+        Files.write(out, rows);
+        System.out.println("Wrote " + out.toAbsolutePath() + " from " + run);
+    }
+
+    private static Path latestRun(Path results) throws IOException {
+        try (Stream<Path> runs = Files.list(results)) {
+            return runs.filter(p -> Files.exists(p.resolve("js/stats.json")))
+                    .max(Comparator.comparing(p -> p.toFile().lastModified()))
+                    .orElseThrow(() -> new IllegalStateException("No Gatling results found in " + results));
+        }
+    }
+
+    private static void collect(JsonNode node, List<String> rows) {
+        Iterator<JsonNode> children = node.path("contents").elements();
+        while (children.hasNext()) {
+            JsonNode child = children.next();
+            if ("REQUEST".equals(child.path("type").asText())) {
+                rows.add(row(child.path("name").asText(), child.path("stats")));
+            }
+            collect(child, rows);
+        }
+    }
+
+    private static String row(String name, JsonNode stats) {
+        return String.join("\t",
+                name,
+                stats.path("numberOfRequests").path("total").asText(),
+                stats.path("numberOfRequests").path("ok").asText(),
+                stats.path("numberOfRequests").path("ko").asText(),
+                stats.path("percentiles1").path("total").asText(),
+                stats.path("percentiles2").path("total").asText(),
+                stats.path("percentiles3").path("total").asText(),
+                stats.path("maxResponseTime").path("total").asText(),
+                stats.path("meanNumberOfRequestsPerSecond").path("total").asText());
+    }
+
+    private ReportSummary() {
+    }
+}
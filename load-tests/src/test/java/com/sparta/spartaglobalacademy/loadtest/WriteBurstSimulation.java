@@ -0,0 +1,66 @@
+package com.sparta.spartaglobalacademy.loadtest;
+
+import io.gatling.javaapi.core.OpenInjectionStep;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.http;
+import static io.gatling.javaapi.http.HttpDsl.status;
+
+/**
+ * Steady background reads with periodic bursts of create/update/delete traffic, as produced by
+ * a bulk import or an admin script. 429 and 503 are expected outcomes under a burst (rate limit
+ * and adaptive concurrency limit) and are tracked separately from errors, as is 409 when a random
+ * id repeats a title that is still stored.
+ */
+public class WriteBurstSimulation extends Simulation {
+
+    private static final int BURSTS = 3;
+
+    private final ScenarioBuilder background = scenario("background-reads")
+            .feed(LoadTestConfig.idFeeder())
+            .exec(http("GET /courses/{id}").get("/courses/#{courseId}").check(status().in(200, 404)))
+            .pause(Duration.ofMillis(100), Duration.ofMillis(300));
+
+    private final ScenarioBuilder writer = scenario("write-burst")
+            .feed(LoadTestConfig.idFeeder())
+            .exec(http("POST /courses").post("/courses")
+                    .header("X-Forwarded-For", "#{clientIp}")
+                    .body(StringBody("""
+                            {"title":"Burst #{courseId}","description":"created by load test",\
+                            "enrollDate":"#{enrollDate}","trainerId":#{trainerId}}"""))
+                    .check(status().in(200, 400, 409, 429, 503))
+                    .check(jsonPath("$.id").optional().saveAs("createdId")))
+            .doIf(session -> session.contains("createdId")).then(
+                    exec(http("PUT /courses/{id}").put("/courses/#{createdId}")
+                            .header("X-Forwarded-For", "#{clientIp}")
+                            .body(StringBody("""
+                                    {"title":"Burst #{createdId} v2","description":"updated by load test",\
+                                    "enrollDate":"#{enrollDate}","trainerId":#{trainerId}}"""))
+                            .check(status().in(200, 409, 429, 503)))
+                    .exec(http("DELETE /courses/{id}").delete("/courses/#{createdId}")
+                            .header("X-Forwarded-For", "#{clientIp}")
+                            .check(status().in(204, 429, 503))));
+
+    {
+        // Each third of the run is two quiet thirds followed by one third of `users` new writers per second
+        Duration slot = LoadTestConfig.DURATION.dividedBy(BURSTS * 3L);
+        List<OpenInjectionStep> bursts = new ArrayList<>();
+        for (int i = 0; i < BURSTS; i++) {
+            bursts.add(nothingFor(slot.multipliedBy(2)));
+            bursts.add(constantUsersPerSec(LoadTestConfig.USERS).during(slot));
+        }
+
+        setUp(
+                background.injectClosed(constantConcurrentUsers(LoadTestConfig.USERS)
+                        .during(LoadTestConfig.DURATION)),
+                writer.injectOpen(bursts))
+                .protocols(LoadTestConfig.httpProtocol())
+                .assertions(global().failedRequests().percent().lt(1.0));
+    }
+}
@@ -0,0 +1,12 @@
+package com.sparta.spartaglobalacademy.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveAcademyApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveAcademyApplication.class, args);
+    }
+}
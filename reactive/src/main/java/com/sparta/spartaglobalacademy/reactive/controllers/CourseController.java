@@ -0,0 +1,95 @@
+package com.sparta.spartaglobalacademy.reactive.controllers;
+
+import com.sparta.spartaglobalacademy.reactive.records.CourseRecord;
+import com.sparta.spartaglobalacademy.reactive.services.CourseService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/courses")
+@Validated
+public class CourseController {
+
+    private final CourseService courseService;
+
+    public CourseController(CourseService courseService) {
+        this.courseService = courseService;
+    }
+
+    // CREATE: POST /courses
+    @Operation(summary = "Create a new course", description = "Add a new course to the system")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Course created",
+                    content = @Content(schema = @Schema(implementation = CourseRecord.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input", content = @Content),
+            @ApiResponse(responseCode = "409", description = "A course with this title already exists", content = @Content)
+    })
+    @PostMapping
+    public Mono<ResponseEntity<CourseRecord>> createCourse(@Valid @RequestBody CourseRecord courseRecord) {
+        return courseService.createCourse(courseRecord.toEntity()).map(ResponseEntity::ok);
+    }
+
+    // READ: GET /courses (a streamed JSON array, or one course per line with Accept: application/x-ndjson)
+    @Operation(summary = "Get all courses", description = "Stream every course")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "List of courses",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = CourseRecord.class))))
+    })
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CourseRecord> getAllCourses() {
+        return courseService.getAllCourses();
+    }
+
+    // READ: GET /courses/{id}
+    @Operation(summary = "Get a course by ID", description = "Retrieve a single course by its ID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Course found",
+                    content = @Content(schema = @Schema(implementation = CourseRecord.class))),
+            @ApiResponse(responseCode = "404", description = "Course not found", content = @Content)
+    })
+    @GetMapping("/{id}")
+    public Mono<CourseRecord> getCourseById(@Min(1) @PathVariable Integer id) {
+        return courseService.getCourseById(id);
+    }
+
+    // UPDATE: PUT /courses/{id}
+    @Operation(summary = "Update a course", description = "Update an existing course by ID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Course updated",
+                    content = @Content(schema = @Schema(implementation = CourseRecord.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Course not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Another course already has this title", content = @Content)
+    })
+    @PutMapping("/{id}")
+    public Mono<CourseRecord> updateCourse(
+            @Min(1) @PathVariable Integer id,
+            @Valid @RequestBody CourseRecord courseRecord
+    ) {
+        return courseService.updateCourse(id, courseRecord.toEntity());
+    }
+
+    // DELETE: DELETE /courses/{id}
+    @Operation(summary = "Delete a course", description = "Delete a course by ID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Course deleted", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Course not found", content = @Content)
+    })
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteCourse(@Min(1) @PathVariable Integer id) {
+        return courseService.deleteCourse(id)
+                .map(deleted -> deleted ? ResponseEntity.noContent().<Void>build() : ResponseEntity.notFound().<Void>build());
+    }
+}
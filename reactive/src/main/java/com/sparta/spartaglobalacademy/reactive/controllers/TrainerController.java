@@ -0,0 +1,95 @@
+package com.sparta.spartaglobalacademy.reactive.controllers;
+
+import com.sparta.spartaglobalacademy.reactive.records.TrainerRecord;
+import com.sparta.spartaglobalacademy.reactive.services.TrainerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/trainers")
+@Validated
+public class TrainerController {
+
+    private final TrainerService service;
+
+    public TrainerController(TrainerService service) {
+        this.service = service;
+    }
+
+    // GET all trainers
+    @Operation(summary = "Get all trainers", description = "Stream every trainer")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "List of trainers",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TrainerRecord.class))))
+    })
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TrainerRecord> getAllTrainers() {
+        return service.getAllTrainers();
+    }
+
+    // GET trainer by ID
+    @Operation(summary = "Get trainer by ID", description = "Retrieve a single trainer by their ID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Trainer found",
+                    content = @Content(schema = @Schema(implementation = TrainerRecord.class))),
+            @ApiResponse(responseCode = "404", description = "Trainer not found", content = @Content)
+    })
+    @GetMapping("/{id}")
+    public Mono<TrainerRecord> getTrainerById(@Min(1) @PathVariable Integer id) {
+        return service.getTrainerById(id);
+    }
+
+    // CREATE a new trainer
+    @Operation(summary = "Add a new trainer", description = "Create a new trainer in the system")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Trainer created",
+                    content = @Content(schema = @Schema(implementation = TrainerRecord.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input", content = @Content)
+    })
+    @PostMapping
+    public Mono<ResponseEntity<TrainerRecord>> addTrainer(@Valid @RequestBody TrainerRecord trainerRecord) {
+        return service.createTrainer(trainerRecord.toEntity())
+                .map(saved -> ResponseEntity.status(HttpStatus.CREATED).body(saved));
+    }
+
+    // UPDATE an existing trainer
+    @Operation(summary = "Update a trainer", description = "Update an existing trainer by ID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Trainer updated",
+                    content = @Content(schema = @Schema(implementation = TrainerRecord.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Trainer not found", content = @Content)
+    })
+    @PutMapping("/{id}")
+    public Mono<TrainerRecord> updateTrainer(
+            @Min(1) @PathVariable Integer id,
+            @Valid @RequestBody TrainerRecord trainerRecord
+    ) {
+        return service.updateTrainer(id, trainerRecord.toEntity());
+    }
+
+    // DELETE a trainer
+    @Operation(summary = "Delete a trainer", description = "Delete a trainer by ID")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Trainer deleted", content = @Content),
+            @ApiResponse(responseCode = "404", description = "Trainer not found", content = @Content)
+    })
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTrainer(@Min(1) @PathVariable Integer id) {
+        return service.deleteTrainerById(id)
+                .map(deleted -> deleted ? ResponseEntity.noContent().<Void>build() : ResponseEntity.notFound().<Void>build());
+    }
+}
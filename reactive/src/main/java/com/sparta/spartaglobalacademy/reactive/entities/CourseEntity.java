@@ -0,0 +1,25 @@
+package com.sparta.spartaglobalacademy.reactive.entities;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+
+/**
+ * Row of {@code courses}. The trainer is kept as a plain id: R2DBC has no lazy associations,
+ * and the API only ever exposes {@code trainerId}. Timestamps are left to the column defaults.
+ */
+@Table("courses")
+public record CourseEntity(
+        @Id @Column("course_id") Integer id,
+        @Column("title") String title,
+        @Column("description") String description,
+        @Column("enroll_date") LocalDate enrollDate,
+        @Column("trainer_id") Integer trainerId
+) {
+
+    public CourseEntity withId(Integer id) {
+        return new CourseEntity(id, title, description, enrollDate, trainerId);
+    }
+}
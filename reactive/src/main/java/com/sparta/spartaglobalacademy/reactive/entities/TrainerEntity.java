@@ -0,0 +1,16 @@
+package com.sparta.spartaglobalacademy.reactive.entities;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Table("trainers")
+public record TrainerEntity(
+        @Id @Column("trainer_id") Integer id,
+        @Column("full_name") String fullName
+) {
+
+    public TrainerEntity withId(Integer id) {
+        return new TrainerEntity(id, fullName);
+    }
+}
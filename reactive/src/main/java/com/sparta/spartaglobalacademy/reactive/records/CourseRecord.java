@@ -0,0 +1,33 @@
+package com.sparta.spartaglobalacademy.reactive.records;
+
+import com.sparta.spartaglobalacademy.reactive.entities.CourseEntity;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(name = "Course", description = "Record for Course")
+public record CourseRecord(
+        @Schema(description = "Course ID", example = "1")
+        Integer id,
+
+        @Schema(description = "Title of the course", example = "Java Basics")
+        String title,
+
+        @Schema(description = "Short description of the course", example = "Intro to Java")
+        String description,
+
+        @Schema(description = "Enrollment date", example = "2025-01-15")
+        LocalDate enrollDate,
+
+        @Schema(description = "Trainer ID for this course", example = "2")
+        Integer trainerId
+) {
+
+    public static CourseRecord from(CourseEntity entity) {
+        return new CourseRecord(entity.id(), entity.title(), entity.description(), entity.enrollDate(), entity.trainerId());
+    }
+
+    public CourseEntity toEntity() {
+        return new CourseEntity(id, title, description, enrollDate, trainerId);
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.spartaglobalacademy.reactive.records;
+
+import com.sparta.spartaglobalacademy.reactive.entities.TrainerEntity;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "Trainer", description = "Record for Trainer")
+public record TrainerRecord(
+        @Schema(description = "Trainer ID", example = "1")
+        Integer id,
+
+        @Schema(description = "Full name of the trainer", example = "John Doe")
+        String fullName
+) {
+
+    public static TrainerRecord from(TrainerEntity entity) {
+        return new TrainerRecord(entity.id(), entity.fullName());
+    }
+
+    public TrainerEntity toEntity() {
+        return new TrainerEntity(id, fullName);
+    }
+}
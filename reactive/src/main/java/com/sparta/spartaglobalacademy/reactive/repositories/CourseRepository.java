@@ -0,0 +1,14 @@
+package com.sparta.spartaglobalacademy.reactive.repositories;
+
+import com.sparta.spartaglobalacademy.reactive.entities.CourseEntity;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public interface CourseRepository extends R2dbcRepository<CourseEntity, Integer> {
+    Flux<CourseEntity> findByTrainerId(Integer trainerId);
+    Mono<Boolean> existsByTitleIgnoreCase(String title);
+    Mono<Boolean> existsByTitleIgnoreCaseAndIdNot(String title, Integer id);
+}
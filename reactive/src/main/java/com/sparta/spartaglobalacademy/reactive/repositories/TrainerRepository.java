@@ -0,0 +1,9 @@
+package com.sparta.spartaglobalacademy.reactive.repositories;
+
+import com.sparta.spartaglobalacademy.reactive.entities.TrainerEntity;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TrainerRepository extends R2dbcRepository<TrainerEntity, Integer> {
+}
@@ -0,0 +1,121 @@
+package com.sparta.spartaglobalacademy.reactive.services;
+
+import com.sparta.spartaglobalacademy.reactive.entities.CourseEntity;
+import com.sparta.spartaglobalacademy.reactive.records.CourseRecord;
+import com.sparta.spartaglobalacademy.reactive.repositories.CourseRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+/**
+ * Same rules and status codes as the servlet CourseService, expressed as Reactor pipelines.
+ */
+@Service
+public class CourseService {
+
+    // Rows requested from the driver at a time while a listing is streamed to the client
+    static final int STREAM_BATCH = 256;
+
+    private final CourseRepository courseRepository;
+
+    public CourseService(CourseRepository courseRepository) {
+        if (courseRepository == null) {
+            throw new IllegalArgumentException("CourseRepository cannot be null");
+        }
+        this.courseRepository = courseRepository;
+    }
+
+    // CREATE a new course with validation
+    @Transactional
+    public Mono<CourseRecord> createCourse(CourseEntity course) {
+        return validateCourse(course)
+                .then(Mono.defer(() -> ensureTitleAvailable(course.title(), null)))
+                .then(Mono.defer(() -> courseRepository.save(course.withId(null))))
+                .map(CourseRecord::from);
+    }
+
+    // READ: stream all courses; demand from the client bounds how far ahead the driver reads
+    public Flux<CourseRecord> getAllCourses() {
+        return courseRepository.findAll()
+                .limitRate(STREAM_BATCH)
+                .map(CourseRecord::from);
+    }
+
+    // READ: get course by ID
+    public Mono<CourseRecord> getCourseById(Integer id) {
+        return courseRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .map(CourseRecord::from);
+    }
+
+    // UPDATE: update existing course with validation
+    @Transactional
+    public Mono<CourseRecord> updateCourse(Integer id, CourseEntity updatedCourse) {
+        if (id == null || updatedCourse == null) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Course ID and entity cannot be null"));
+        }
+        return courseRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .flatMap(existing -> validateCourse(updatedCourse)
+                        .then(Mono.defer(() -> existing.title().strip().equalsIgnoreCase(updatedCourse.title().strip())
+                                ? Mono.<Void>empty()
+                                : ensureTitleAvailable(updatedCourse.title(), id))))
+                .then(Mono.defer(() -> courseRepository.save(updatedCourse.withId(id))))
+                .map(CourseRecord::from);
+    }
+
+    // DELETE: delete a course (emit whether it existed)
+    @Transactional
+    public Mono<Boolean> deleteCourse(Integer id) {
+        return courseRepository.existsById(id)
+                .flatMap(exists -> exists
+                        ? courseRepository.deleteById(id).thenReturn(true)
+                        : Mono.just(false));
+    }
+
+    // Utility: reject a title another course already has
+    private Mono<Void> ensureTitleAvailable(String title, Integer excludingId) {
+        Mono<Boolean> taken = excludingId == null
+                ? courseRepository.existsByTitleIgnoreCase(title.strip())
+                : courseRepository.existsByTitleIgnoreCaseAndIdNot(title.strip(), excludingId);
+        return taken.flatMap(exists -> exists
+                ? Mono.error(new ResponseStatusException(HttpStatus.CONFLICT, "Course title already exists: " + title))
+                : Mono.empty());
+    }
+
+    private static ResponseStatusException notFound(Integer id) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Course not found with ID: " + id);
+    }
+
+    // Utility: validate course fields
+    private static Mono<Void> validateCourse(CourseEntity course) {
+        if (course == null) {
+            return badRequest("Course cannot be null");
+        }
+        if (course.title() == null || course.title().isBlank()) {
+            return badRequest("Course title cannot be empty");
+        }
+        if (course.description() == null || course.description().isBlank()) {
+            return badRequest("Course description cannot be empty");
+        }
+        if (course.enrollDate() == null) {
+            return badRequest("Enroll date cannot be null");
+        }
+        if (course.enrollDate().isBefore(LocalDate.now())) {
+            return badRequest("Enroll date cannot be in the past");
+        }
+        if (course.trainerId() == null) {
+            return badRequest("Course must have a trainer assigned");
+        }
+        return Mono.empty();
+    }
+
+    private static Mono<Void> badRequest(String reason) {
+        return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, reason));
+    }
+}
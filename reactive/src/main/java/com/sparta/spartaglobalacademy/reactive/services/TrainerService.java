@@ -0,0 +1,73 @@
+package com.sparta.spartaglobalacademy.reactive.services;
+
+import com.sparta.spartaglobalacademy.reactive.entities.TrainerEntity;
+import com.sparta.spartaglobalacademy.reactive.records.TrainerRecord;
+import com.sparta.spartaglobalacademy.reactive.repositories.TrainerRepository;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Service
+public class TrainerService {
+
+    private final TrainerRepository trainerRepository;
+
+    public TrainerService(TrainerRepository trainerRepository) {
+        if (trainerRepository == null) {
+            throw new IllegalArgumentException("trainerRepository cannot be null");
+        }
+        this.trainerRepository = trainerRepository;
+    }
+
+    // GET all trainers, streamed
+    public Flux<TrainerRecord> getAllTrainers() {
+        return trainerRepository.findAll()
+                .limitRate(CourseService.STREAM_BATCH)
+                .map(TrainerRecord::from);
+    }
+
+    // GET trainer by ID
+    public Mono<TrainerRecord> getTrainerById(Integer id) {
+        return trainerRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .map(TrainerRecord::from);
+    }
+
+    // CREATE a new trainer
+    @Transactional
+    public Mono<TrainerRecord> createTrainer(TrainerEntity trainerEntity) {
+        if (trainerEntity == null) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Trainer entity cannot be null"));
+        }
+        return trainerRepository.save(trainerEntity.withId(null)).map(TrainerRecord::from);
+    }
+
+    // UPDATE an existing trainer
+    @Transactional
+    public Mono<TrainerRecord> updateTrainer(Integer id, TrainerEntity updatedTrainer) {
+        if (id == null || updatedTrainer == null) {
+            return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, "Trainer ID and entity cannot be null"));
+        }
+        return trainerRepository.existsById(id)
+                .flatMap(exists -> exists
+                        ? trainerRepository.save(updatedTrainer.withId(id))
+                        : Mono.error(notFound(id)))
+                .map(TrainerRecord::from);
+    }
+
+    // DELETE a trainer (emit whether it existed)
+    @Transactional
+    public Mono<Boolean> deleteTrainerById(Integer id) {
+        return trainerRepository.existsById(id)
+                .flatMap(exists -> exists
+                        ? trainerRepository.deleteById(id).thenReturn(true)
+                        : Mono.just(false));
+    }
+
+    private static ResponseStatusException notFound(Integer id) {
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, "Trainer not found with ID: " + id);
+    }
+}
@@ -0,0 +1,80 @@
+package com.sparta.spartaglobalacademy.reactive;
+
+import com.sparta.spartaglobalacademy.reactive.records.CourseRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+
+class CourseApiTest extends AbstractReactiveApiTest {
+
+    private static CourseRecord course(String title, int trainerId) {
+        return new CourseRecord(null, title, "Reactive course", LocalDate.now().plusDays(30), trainerId);
+    }
+
+    @Test
+    @DisplayName("GET /courses returns every course as a JSON array")
+    void getAllCourses() {
+        webClient.get().uri("/courses").accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(5)
+                .jsonPath("$[0].trainerId").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET /courses streams one course per line as NDJSON and honours client demand")
+    void streamCourses() {
+        Flux<CourseRecord> stream = webClient.get().uri("/courses").accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(CourseRecord.class)
+                .getResponseBody();
+
+        StepVerifier.create(stream, 2)
+                .expectNextMatches(c -> c.id() == 1)
+                .expectNextMatches(c -> c.id() == 2)
+                .thenRequest(10)
+                .expectNextCount(3)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("GET /courses/{id} returns the course or 404")
+    void getCourseById() {
+        webClient.get().uri("/courses/2").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.title").isEqualTo("TECH 301");
+        webClient.get().uri("/courses/999").exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("POST, PUT and DELETE /courses follow the servlet API contract")
+    void writeCourse() {
+        webClient.post().uri("/courses").bodyValue(course("TECH 400", 2)).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.id").isEqualTo(6);
+        webClient.put().uri("/courses/6").bodyValue(course("TECH 400b", 4)).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.trainerId").isEqualTo(4);
+        webClient.delete().uri("/courses/6").exchange().expectStatus().isNoContent();
+        webClient.delete().uri("/courses/6").exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("Sad path: invalid or duplicate courses are rejected")
+    void rejectInvalidCourse() {
+        webClient.post().uri("/courses").bodyValue(course(" ", 1)).exchange().expectStatus().isBadRequest();
+        webClient.post().uri("/courses")
+                .bodyValue(new CourseRecord(null, "OLD", "Past", LocalDate.now().minusDays(1), 1))
+                .exchange().expectStatus().isBadRequest();
+        webClient.post().uri("/courses").bodyValue(course("tech 301", 1)).exchange()
+                .expectStatus().isEqualTo(409);
+        webClient.put().uri("/courses/999").bodyValue(course("TECH 999", 1)).exchange()
+                .expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,40 @@
+package com.sparta.spartaglobalacademy.reactive;
+
+import com.sparta.spartaglobalacademy.reactive.records.TrainerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TrainerApiTest extends AbstractReactiveApiTest {
+
+    @Test
+    @DisplayName("GET /trainers and /trainers/{id} return the seeded trainers")
+    void getTrainers() {
+        webClient.get().uri("/trainers").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.length()").isEqualTo(5);
+        webClient.get().uri("/trainers/3").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.fullName").isEqualTo("Nish Mandal");
+        webClient.get().uri("/trainers/99").exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    @DisplayName("POST returns 201, PUT updates and DELETE removes a trainer")
+    void writeTrainer() {
+        webClient.post().uri("/trainers").bodyValue(new TrainerRecord(null, "Ada Lovelace")).exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.id").isEqualTo(6);
+        webClient.put().uri("/trainers/6").bodyValue(new TrainerRecord(null, "Ada King")).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.fullName").isEqualTo("Ada King");
+        webClient.delete().uri("/trainers/6").exchange().expectStatus().isNoContent();
+    }
+
+    @Test
+    @DisplayName("Sad path: updating or deleting a missing trainer returns 404")
+    void missingTrainer() {
+        webClient.put().uri("/trainers/99").bodyValue(new TrainerRecord(null, "Nobody")).exchange()
+                .expectStatus().isNotFound();
+        webClient.delete().uri("/trainers/99").exchange().expectStatus().isNotFound();
+    }
+}
@@ -0,0 +1,16 @@
+INSERT INTO trainers (trainer_id, full_name) VALUES
+(1, 'Phil Windridge'),
+(2, 'Catherine French'),
+(3, 'Nish Mandal'),
+(4, 'Abdul Shahrukh Khan'),
+(5, 'Paula Savaglia');
+
+INSERT INTO courses (course_id, title, description, enroll_date, trainer_id) VALUES
+(1, 'TECH 300', 'C# Development Course', '2023-03-01', 1),
+(2, 'TECH 301', 'Java Development Course', '2023-04-01', 2),
+(3, 'TECH 302', 'C# Testing Course', '2023-05-01', 3),
+(4, 'TECH 303', 'DevOps Engineering Course', '2023-06-01', 4),
+(5, 'DATA 304', 'Data Science Course', '2023-07-01', 5);
+
+ALTER TABLE trainers ALTER COLUMN trainer_id RESTART WITH 6;
+ALTER TABLE courses ALTER COLUMN course_id RESTART WITH 6;
@@ -0,0 +1,21 @@
+-- Subset of src/main/resources/database_setup_fixed.sql that H2 understands
+DROP TABLE IF EXISTS courses;
+DROP TABLE IF EXISTS trainers;
+
+CREATE TABLE trainers (
+    trainer_id INT PRIMARY KEY AUTO_INCREMENT,
+    full_name VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE courses (
+    course_id INT PRIMARY KEY AUTO_INCREMENT,
+    title VARCHAR(50) NOT NULL,
+    description TEXT NOT NULL,
+    enroll_date DATE NOT NULL,
+    trainer_id INT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT fk_courses_trainer FOREIGN KEY (trainer_id) REFERENCES trainers(trainer_id)
+);
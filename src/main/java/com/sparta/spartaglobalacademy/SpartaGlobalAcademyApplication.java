@@ -6,13 +6,17 @@ import com.sparta.spartaglobalacademy.repositories.CourseRepository;
 import com.sparta.spartaglobalacademy.repositories.TrainerRepository;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.ApplicationContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.List;
 
 // accessible on http://localhost:8091/swagger-ui/index.html
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@EnableScheduling
 public class SpartaGlobalAcademyApplication {
     public static void main(String[] args) {
         SpringApplication.run(SpartaGlobalAcademyApplication.class, args);
@@ -0,0 +1,23 @@
+package com.sparta.spartaglobalacademy.analytics;
+
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import com.sparta.spartaglobalacademy.snapshot.CatalogueSnapshotStore;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class AnalyticsConfig {
+
+    @Bean
+    public CourseColumnStore courseColumnStore() {
+        return new CourseColumnStore();
+    }
+
+    @Bean
+    public CourseColumnLoader courseColumnLoader(CourseColumnStore store, DataSource dataSource,
+                                                 CatalogueSnapshotStore snapshots, ShardRouter shardRouter) {
+        return new CourseColumnLoader(store, dataSource, snapshots, shardRouter);
+    }
+}
@@ -0,0 +1,127 @@
+package com.sparta.spartaglobalacademy.analytics;
+
+import com.sparta.spartaglobalacademy.events.ChangeType;
+import com.sparta.spartaglobalacademy.events.CourseChangedEvent;
+import com.sparta.spartaglobalacademy.events.CoursesCreatedEvent;
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import com.sparta.spartaglobalacademy.snapshot.CatalogueSnapshot;
+import com.sparta.spartaglobalacademy.snapshot.CatalogueSnapshotStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * Fills the {@link CourseColumnStore} at startup (from the catalogue snapshot when there is one), applies committed course writes as
+ * they happen and rebuilds it periodically (picking up writes made by other nodes and compacting
+ * tombstones).
+ */
+public class CourseColumnLoader implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseColumnLoader.class);
+
+    static final String SELECT_COURSES = "SELECT course_id, trainer_id, enroll_date, title FROM courses";
+
+    private final CourseColumnStore store;
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogueSnapshotStore snapshots;
+    private final ShardRouter shards;
+    private boolean fetchSizeChosen;
+
+    public CourseColumnLoader(CourseColumnStore store, DataSource dataSource, CatalogueSnapshotStore snapshots,
+                              ShardRouter shards) {
+        this.store = store;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.snapshots = snapshots;
+        this.shards = shards;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Optional<CatalogueSnapshot> catalogue = snapshots.startupCatalogue();
+        if (catalogue.isPresent()) {
+            rebuildFrom(catalogue.get());
+        } else {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${academy.analytics.rebuild-interval:600000}",
+            initialDelayString = "${academy.analytics.rebuild-interval:600000}")
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        int expected = 0;
+        try {
+            for (Integer count : shards.scatter(shard -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM courses", Integer.class))) {
+                expected += count == null ? 0 : count;
+            }
+        } catch (DataAccessException e) {
+            log.warn("Course column snapshot not built, database unavailable: {}", e.getMessage());
+            return;
+        }
+
+        if (!fetchSizeChosen) {
+            jdbcTemplate.setFetchSize(streamingFetchSize());
+            fetchSizeChosen = true;
+        }
+
+        CourseColumnStore.Builder builder = store.beginRebuild(expected);
+        try {
+            // One shard at a time: the builder is not thread-safe and each scan streams its rows
+            shards.forEachShard(() -> jdbcTemplate.query(SELECT_COURSES, rs -> {
+                builder.add(rs.getInt(1), rs.getInt(2), (int) rs.getDate(3).toLocalDate().toEpochDay(), rs.getString(4));
+            }));
+        } catch (DataAccessException e) {
+            store.abortRebuild();
+            log.warn("Course column snapshot rebuild failed: {}", e.getMessage());
+            return;
+        }
+        store.completeRebuild(builder);
+        log.info("Course column snapshot rebuilt with {} rows in {} ms",
+                store.liveRows(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private synchronized void rebuildFrom(CatalogueSnapshot catalogue) {
+        CourseColumnStore.Builder builder = store.beginRebuild(catalogue.courses().size());
+        for (CourseRecord course : catalogue.courses()) {
+            builder.add(course.id(), course.trainerId(), (int) course.enrollDate().toEpochDay(), course.title());
+        }
+        store.completeRebuild(builder);
+        log.info("Course column snapshot built from the catalogue snapshot with {} rows", store.liveRows());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.type() == ChangeType.DELETED || event.course() == null) {
+            store.remove(event.courseId());
+        } else {
+            store.upsert(event.course());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCoursesCreated(CoursesCreatedEvent event) {
+        for (CourseRecord course : event.courses()) {
+            store.upsert(course);
+        }
+    }
+
+    // MySQL Connector/J only streams a result set row by row when the fetch size is Integer.MIN_VALUE
+    private int streamingFetchSize() {
+        try (Connection connection = jdbcTemplate.getDataSource().getConnection()) {
+            return "MySQL".equals(connection.getMetaData().getDatabaseProductName()) ? Integer.MIN_VALUE : 10_000;
+        } catch (SQLException e) {
+            return 10_000;
+        }
+    }
+}
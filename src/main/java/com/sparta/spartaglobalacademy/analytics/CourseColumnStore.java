@@ -0,0 +1,265 @@
+package com.sparta.spartaglobalacademy.analytics;
+
+import com.sparta.spartaglobalacademy.collections.IntIntHashMap;
+import com.sparta.spartaglobalacademy.collections.IntList;
+import com.sparta.spartaglobalacademy.collections.IntObjectHashMap;
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Column-oriented copy of the courses table for analytic scans.
+ * <p>
+ * Each course occupies one row index across parallel primitive arrays: trainer slot, enroll date as
+ * epoch day and a dictionary code for the title's topic (see {@link #topicOf(String)}). Trainer slots number the distinct trainers densely
+ * from 1, so per-trainer buckets are sized by how many trainers there are rather than by their ids
+ * (sharded ids start at each shard's id block). Deleted rows are tombstoned (slot 0) and dropped at
+ * the next full rebuild. Course id to row and trainer id to rows are kept in primitive
+ * int-keyed maps, so neither index boxes an id per entry. Scans run under a shared lock, writes under an exclusive one;
+ * writes are single-row and rare compared with scans.
+ */
+public class CourseColumnStore {
+
+    static final int TOMBSTONE = 0;
+    private static final int NO_ROW = -1;
+
+    /**
+     * Read-only view handed to scans. Only the first {@code rows} entries of each array are valid.
+     */
+    public record Columns(int rows, int[] trainerSlots, int[] enrollDays, int[] topicCodes,
+                          List<String> topicDictionary, IntObjectHashMap<IntList> rowsByTrainer,
+                          IntList trainerIdBySlot, int minDay, int maxDay) {
+
+        // Slots in use, including the tombstone slot 0
+        public int trainerSlotCount() {
+            return trainerIdBySlot.size();
+        }
+
+        public int trainerIdOfSlot(int slot) {
+            return trainerIdBySlot.get(slot);
+        }
+
+        /**
+         * Row indexes of the trainer's live courses, in no particular order.
+         */
+        public int[] rowsOfTrainer(int trainerId) {
+            IntList trainerRows = rowsByTrainer.get(trainerId);
+            return trainerRows == null ? new int[0] : trainerRows.toArray();
+        }
+    }
+
+    private final StampedLock lock = new StampedLock();
+    private State state = new State(16);
+
+    // Writes seen while a rebuild is loading, replayed onto the new state when it is swapped in
+    private List<Consumer<State>> pendingDuringRebuild;
+
+    public <T> T read(Function<Columns, T> scan) {
+        long stamp = lock.readLock();
+        try {
+            return scan.apply(state.view());
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void upsert(CourseRecord course) {
+        int enrollDay = (int) course.enrollDate().toEpochDay();
+        write(s -> s.upsert(course.id(), course.trainerId(), enrollDay, course.title()));
+    }
+
+    public void remove(int courseId) {
+        write(s -> s.remove(courseId));
+    }
+
+    /**
+     * Start a full rebuild; writes arriving before {@link #completeRebuild(Builder)} are replayed
+     * onto the new state so none are lost while the table is being read.
+     */
+    public Builder beginRebuild(int expectedRows) {
+        long stamp = lock.writeLock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return new Builder(expectedRows);
+    }
+
+    public void completeRebuild(Builder builder) {
+        long stamp = lock.writeLock();
+        try {
+            state = builder.state;
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.forEach(write -> write.accept(state));
+            }
+            pendingDuringRebuild = null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void abortRebuild() {
+        long stamp = lock.writeLock();
+        try {
+            pendingDuringRebuild = null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * The title without its trailing words that contain a digit, so "Java Basics #12", "TECH 300" and
+     * "Load 42 v2" group as "Java Basics", "TECH" and "Load". Titles are unique, so grouping by the
+     * whole title would count every course once; a title that is all numbers is its own topic.
+     */
+    public static String topicOf(String title) {
+        String[] words = title.trim().split("\\s+");
+        int end = words.length;
+        while (end > 0 && containsDigit(words[end - 1])) {
+            end--;
+        }
+        return end == 0 ? title.trim() : String.join(" ", Arrays.asList(words).subList(0, end));
+    }
+
+    private static boolean containsDigit(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.isDigit(word.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int liveRows() {
+        long stamp = lock.readLock();
+        try {
+            return state.live;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private void write(Consumer<State> change) {
+        long stamp = lock.writeLock();
+        try {
+            change.accept(state);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Accumulates rows for a rebuild without touching the live state.
+     */
+    public static final class Builder {
+
+        private final State state;
+
+        private Builder(int expectedRows) {
+            this.state = new State(Math.max(16, expectedRows));
+        }
+
+        public void add(int courseId, int trainerId, int enrollEpochDay, String title) {
+            state.upsert(courseId, trainerId, enrollEpochDay, title);
+        }
+    }
+
+    private static final class State {
+
+        private int[] ids;
+        private int[] trainerSlots;
+        private int[] enrollDays;
+        private int[] topicCodes;
+        private int rows;
+        private int live;
+        private int minDay = Integer.MAX_VALUE;
+        private int maxDay = Integer.MIN_VALUE;
+
+        private final IntIntHashMap rowById = new IntIntHashMap(16, NO_ROW);
+        private final IntIntHashMap slotByTrainer = new IntIntHashMap(16, TOMBSTONE);
+        private final IntList trainerIdBySlot = new IntList();
+        private final IntObjectHashMap<IntList> rowsByTrainer = new IntObjectHashMap<>();
+        // Keyed by lower-cased topic; the dictionary keeps the first spelling seen
+        private final Map<String, Integer> codeByTopic = new HashMap<>();
+        private final List<String> topicDictionary = new ArrayList<>();
+
+        State(int capacity) {
+            ids = new int[capacity];
+            trainerSlots = new int[capacity];
+            enrollDays = new int[capacity];
+            topicCodes = new int[capacity];
+            trainerIdBySlot.add(TOMBSTONE);
+        }
+
+        Columns view() {
+            return new Columns(rows, trainerSlots, enrollDays, topicCodes, topicDictionary, rowsByTrainer,
+                    trainerIdBySlot, minDay, maxDay);
+        }
+
+        void upsert(int courseId, int trainerId, int enrollDay, String title) {
+            int slot = slotOf(trainerId);
+            int row = rowById.get(courseId);
+            if (row == NO_ROW) {
+                if (rows == ids.length) {
+                    grow();
+                }
+                row = rows++;
+                rowById.put(courseId, row);
+                live++;
+                rowsByTrainer.computeIfAbsent(trainerId, t -> new IntList()).add(row);
+            } else if (trainerSlots[row] != slot) {
+                rowsByTrainer.get(trainerIdBySlot.get(trainerSlots[row])).removeValue(row);
+                rowsByTrainer.computeIfAbsent(trainerId, t -> new IntList()).add(row);
+            }
+            ids[row] = courseId;
+            trainerSlots[row] = slot;
+            enrollDays[row] = enrollDay;
+            String topic = topicOf(title);
+            topicCodes[row] = codeByTopic.computeIfAbsent(topic.toLowerCase(Locale.ROOT), t -> {
+                topicDictionary.add(topic);
+                return topicDictionary.size() - 1;
+            });
+            minDay = Math.min(minDay, enrollDay);
+            maxDay = Math.max(maxDay, enrollDay);
+        }
+
+        private int slotOf(int trainerId) {
+            int slot = slotByTrainer.get(trainerId);
+            if (slot == TOMBSTONE) {
+                slot = trainerIdBySlot.size();
+                trainerIdBySlot.add(trainerId);
+                slotByTrainer.put(trainerId, slot);
+            }
+            return slot;
+        }
+
+        void remove(int courseId) {
+            int row = rowById.remove(courseId);
+            if (row != NO_ROW) {
+                rowsByTrainer.get(trainerIdBySlot.get(trainerSlots[row])).removeValue(row);
+                trainerSlots[row] = TOMBSTONE;
+                live--;
+            }
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            trainerSlots = Arrays.copyOf(trainerSlots, capacity);
+            enrollDays = Arrays.copyOf(enrollDays, capacity);
+            topicCodes = Arrays.copyOf(topicCodes, capacity);
+        }
+    }
+}
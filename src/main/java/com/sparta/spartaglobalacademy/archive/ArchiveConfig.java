@@ -0,0 +1,30 @@
+package com.sparta.spartaglobalacademy.archive;
+
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+public class ArchiveConfig {
+
+    @Bean
+    public CourseArchiver courseArchiver(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                         ApplicationEventPublisher events, EntityManagerFactory entityManagerFactory,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${academy.archive.enabled:false}") boolean enabled,
+                                         @Value("${academy.archive.retain-years:2}") int retainYears,
+                                         @Value("${academy.archive.batch-size:500}") int batchSize,
+                                         ShardRouter shardRouter) {
+        return new CourseArchiver(jdbcTemplate, new TransactionTemplate(transactionManager), events,
+                entityManagerFactory.unwrap(SessionFactory.class).getCache(), meterRegistry,
+                enabled, retainYears, batchSize, shardRouter);
+    }
+}
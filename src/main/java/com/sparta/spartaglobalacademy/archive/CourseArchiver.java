@@ -0,0 +1,143 @@
+package com.sparta.spartaglobalacademy.archive;
+
+import com.sparta.spartaglobalacademy.entities.CacheRegions;
+import com.sparta.spartaglobalacademy.entities.CourseEntity;
+import com.sparta.spartaglobalacademy.events.ChangeType;
+import com.sparta.spartaglobalacademy.events.CourseChangedEvent;
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves past cohorts from courses to courses_archive in batches.
+ * <p>
+ * Courses enrolled before the first of January {@code retainYears} years ago are copied with their
+ * trainer's name and deleted in one transaction per batch. Every filter includes enroll_date, so
+ * on a partitioned table only the old partitions are read, and once a year has been archived its
+ * partition is empty and can be dropped. A {@link CourseChangedEvent} DELETED is published per
+ * course so the read model, outbox and in-memory views drop it like any other delete; the
+ * Hibernate second-level cache, which does not see JDBC writes, is evicted after each batch.
+ * When sharded, the scheduled run archives each shard in turn.
+ */
+public class CourseArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseArchiver.class);
+
+    // Served by idx_course_enroll_date, and pruned to the partitions before the cutoff
+    static final String SELECT_EXPIRED =
+            "SELECT course_id FROM courses WHERE enroll_date < ? ORDER BY enroll_date, course_id LIMIT ?";
+
+    static final String COPY_TO_ARCHIVE = """
+            INSERT INTO courses_archive (course_id, title, description, enroll_date, trainer_id, trainer_name)
+            SELECT c.course_id, c.title, c.description, c.enroll_date, c.trainer_id, COALESCE(t.full_name, '')
+            FROM courses c
+            LEFT JOIN trainers t ON t.trainer_id = c.trainer_id
+            WHERE c.course_id = ? AND c.enroll_date < ?""";
+
+    static final String DELETE_ARCHIVED = "DELETE FROM courses WHERE course_id = ? AND enroll_date < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher events;
+    private final Cache secondLevelCache;
+    private final boolean enabled;
+    private final int retainYears;
+    private final int batchSize;
+    private final Counter archived;
+    private final ShardRouter shards;
+
+    public CourseArchiver(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                          ApplicationEventPublisher events, Cache secondLevelCache, MeterRegistry meterRegistry,
+                          boolean enabled, int retainYears, int batchSize, ShardRouter shards) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shards = shards;
+        this.transactionTemplate = transactionTemplate;
+        this.events = events;
+        this.secondLevelCache = secondLevelCache;
+        this.enabled = enabled;
+        this.retainYears = retainYears;
+        this.batchSize = batchSize;
+        this.archived = Counter.builder("academy.archive.courses")
+                .description("Courses moved to courses_archive")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${academy.archive.cron:0 30 2 * * *}")
+    public void archiveExpired() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            LocalDate cutoff = cutoff(LocalDate.now());
+            shards.forEachShard(() -> archive(cutoff));
+        } catch (DataAccessException e) {
+            log.warn("Course archiving failed: {}", e.getMessage());
+        }
+    }
+
+    // First day of the oldest year still kept in courses
+    LocalDate cutoff(LocalDate today) {
+        return LocalDate.of(today.getYear() - retainYears, 1, 1);
+    }
+
+    /**
+     * Archive every course enrolled before the cutoff.
+     *
+     * @return number of courses archived
+     */
+    public int archive(LocalDate cutoff) {
+        int total = 0;
+        while (true) {
+            List<Integer> ids = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            evictSecondLevelCache(ids);
+            total += ids.size();
+        }
+        if (total > 0) {
+            log.info("Archived {} courses enrolled before {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private List<Integer> archiveBatch(LocalDate cutoff) {
+        Date before = Date.valueOf(cutoff);
+        List<Integer> ids = jdbcTemplate.queryForList(SELECT_EXPIRED, Integer.class, before, batchSize);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        List<Object[]> args = new ArrayList<>(ids.size());
+        for (Integer id : ids) {
+            args.add(new Object[]{id, before});
+        }
+        jdbcTemplate.batchUpdate(COPY_TO_ARCHIVE, args);
+        jdbcTemplate.batchUpdate(DELETE_ARCHIVED, args);
+        for (Integer id : ids) {
+            events.publishEvent(new CourseChangedEvent(ChangeType.DELETED, id, null));
+        }
+        archived.increment(ids.size());
+        return ids;
+    }
+
+    private void evictSecondLevelCache(List<Integer> ids) {
+        for (Integer id : ids) {
+            secondLevelCache.evictEntityData(CourseEntity.class, id);
+        }
+        secondLevelCache.evictCollectionData(CacheRegions.TRAINER_COURSES_ROLE);
+        secondLevelCache.evictQueryRegions();
+    }
+}
@@ -0,0 +1,11 @@
+package com.sparta.spartaglobalacademy.cache;
+
+/**
+ * Message broadcast between nodes when a cached entry must be dropped.
+ */
+public record CacheInvalidation(
+        String cache,
+        Integer key,
+        String originNode,
+        long sentAtEpochMillis
+) {}
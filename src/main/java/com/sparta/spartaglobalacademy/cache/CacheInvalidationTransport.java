@@ -0,0 +1,14 @@
+package com.sparta.spartaglobalacademy.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries {@link CacheInvalidation} messages between application instances.
+ * Delivery is best effort; near-cache entries also expire on a TTL as a safety net.
+ */
+public interface CacheInvalidationTransport {
+
+    void publish(CacheInvalidation message);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,194 @@
+package com.sparta.spartaglobalacademy.cache;
+
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Local read-through cache of {@link CourseRecord} by id.
+ * <p>
+ * Writes on any node broadcast a {@link CacheInvalidation} through the configured transport so
+ * the other nodes drop their copy. Entries also expire after a TTL in case a message is lost.
+ * A load that overlaps an invalidation is not stored, so a slow reader cannot resurrect stale data.
+ */
+public class CourseNearCache {
+
+    public static final String CACHE_NAME = "courses";
+
+    private record Entry(CourseRecord value, long loadedAtMillis) {}
+
+    private final ConcurrentHashMap<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final CacheInvalidationTransport transport;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Timer invalidationLatency;
+
+    public CourseNearCache(CacheInvalidationTransport transport, MeterRegistry meterRegistry,
+                           int maxEntries, Duration ttl) {
+        this(transport, meterRegistry, maxEntries, ttl, Clock.systemUTC());
+    }
+
+    CourseNearCache(CacheInvalidationTransport transport, MeterRegistry meterRegistry,
+                    int maxEntries, Duration ttl, Clock clock) {
+        this.transport = transport;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+                .register(meterRegistry);
+        this.invalidationLatency = Timer.builder("academy.cache.invalidation.latency")
+                .tag("cache", CACHE_NAME)
+                .description("Time from a write on the origin node to the invalidation being applied here")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("cache.size", entries, ConcurrentHashMap::size).tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+        Gauge.builder("academy.cache.hit.ratio", this, CourseNearCache::hitRatio).tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+
+        transport.subscribe(this::onRemoteInvalidation);
+    }
+
+    /**
+     * Return the cached record or load it; {@code null} results from the loader are not cached.
+     */
+    public CourseRecord get(Integer id, Function<Integer, CourseRecord> loader) {
+        long now = clock.millis();
+        Entry entry = entries.get(id);
+        if (entry != null && now - entry.loadedAtMillis() < ttlMillis) {
+            hits.increment();
+            return entry.value();
+        }
+        misses.increment();
+
+        long stamp = invalidations.get();
+        CourseRecord loaded = loader.apply(id);
+        if (loaded != null && invalidations.get() == stamp) {
+            put(id, loaded, now);
+        }
+        return loaded;
+    }
+
+    /**
+     * Return the cached records for the ids and load the rest with a single call to the loader.
+     * Ids the loader does not return are absent from the result and are not cached.
+     */
+    public Map<Integer, CourseRecord> getAll(Collection<Integer> ids,
+                                             Function<List<Integer>, Map<Integer, CourseRecord>> loader) {
+        long now = clock.millis();
+        Map<Integer, CourseRecord> result = new HashMap<>();
+        List<Integer> toLoad = new ArrayList<>();
+        for (Integer id : ids) {
+            Entry entry = entries.get(id);
+            if (entry != null && now - entry.loadedAtMillis() < ttlMillis) {
+                hits.increment();
+                result.put(id, entry.value());
+            } else {
+                misses.increment();
+                toLoad.add(id);
+            }
+        }
+        if (toLoad.isEmpty()) {
+            return result;
+        }
+
+        long stamp = invalidations.get();
+        Map<Integer, CourseRecord> loaded = loader.apply(toLoad);
+        boolean store = invalidations.get() == stamp;
+        for (Map.Entry<Integer, CourseRecord> e : loaded.entrySet()) {
+            result.put(e.getKey(), e.getValue());
+            if (store) {
+                put(e.getKey(), e.getValue(), now);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Cache a freshly written record locally and tell the other nodes to drop theirs.
+     */
+    public void refresh(Integer id, CourseRecord record) {
+        invalidations.incrementAndGet();
+        put(id, record, clock.millis());
+        broadcast(id);
+    }
+
+    /**
+     * Drop the record locally and on every other node.
+     */
+    public void invalidate(Integer id) {
+        evictLocal(id);
+        broadcast(id);
+    }
+
+    public double hitRatio() {
+        double total = hits.count() + misses.count();
+        return total == 0 ? 0.0 : hits.count() / total;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    private void put(Integer id, CourseRecord record, long now) {
+        if (entries.size() >= maxEntries && !entries.containsKey(id)) {
+            // Cheap bounded eviction: drop an arbitrary entry rather than tracking recency
+            Iterator<Integer> it = entries.keySet().iterator();
+            if (it.hasNext()) {
+                entries.remove(it.next());
+            }
+        }
+        entries.put(id, new Entry(record, now));
+    }
+
+    private void evictLocal(Integer id) {
+        invalidations.incrementAndGet();
+        if (id == null) {
+            entries.clear();
+        } else {
+            entries.remove(id);
+        }
+    }
+
+    private void broadcast(Integer id) {
+        transport.publish(new CacheInvalidation(CACHE_NAME, id, nodeId, clock.millis()));
+    }
+
+    private void onRemoteInvalidation(CacheInvalidation message) {
+        if (!CACHE_NAME.equals(message.cache()) || nodeId.equals(message.originNode())) {
+            return;
+        }
+        evictLocal(message.key());
+        long latency = Math.max(0, clock.millis() - message.sentAtEpochMillis());
+        invalidationLatency.record(latency, TimeUnit.MILLISECONDS);
+    }
+}
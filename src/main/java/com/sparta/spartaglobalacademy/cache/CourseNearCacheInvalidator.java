@@ -0,0 +1,37 @@
+package com.sparta.spartaglobalacademy.cache;
+
+import com.sparta.spartaglobalacademy.events.ChangeType;
+import com.sparta.spartaglobalacademy.events.CourseChangedEvent;
+import com.sparta.spartaglobalacademy.events.CoursesCreatedEvent;
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the near-cache in step with course writes once they are committed.
+ */
+@Component
+public class CourseNearCacheInvalidator {
+
+    private final CourseNearCache nearCache;
+
+    public CourseNearCacheInvalidator(CourseNearCache nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.type() == ChangeType.DELETED || event.course() == null) {
+            nearCache.invalidate(event.courseId());
+        } else {
+            nearCache.refresh(event.courseId(), event.course());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCoursesCreated(CoursesCreatedEvent event) {
+        for (CourseRecord course : event.courses()) {
+            nearCache.refresh(course.id(), course);
+        }
+    }
+}
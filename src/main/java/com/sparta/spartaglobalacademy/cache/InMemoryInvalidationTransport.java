@@ -0,0 +1,26 @@
+package com.sparta.spartaglobalacademy.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * In-JVM transport: every subscriber receives every message synchronously.
+ * Sharing one instance between several caches simulates several nodes in a single process.
+ */
+public class InMemoryInvalidationTransport implements CacheInvalidationTransport {
+
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidation message) {
+        for (Consumer<CacheInvalidation> listener : listeners) {
+            listener.accept(message);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,42 @@
+package com.sparta.spartaglobalacademy.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class NearCacheConfig {
+
+    @Bean
+    public CacheInvalidationTransport cacheInvalidationTransport(NearCacheProperties properties) throws SocketException {
+        if ("udp".equalsIgnoreCase(properties.transport())) {
+            List<InetSocketAddress> peers = new ArrayList<>();
+            for (String peer : properties.udpPeers()) {
+                String[] hostPort = peer.trim().split(":");
+                peers.add(new InetSocketAddress(hostPort[0], Integer.parseInt(hostPort[1])));
+            }
+            return new UdpInvalidationTransport(properties.udpPort(), peers);
+        }
+        return new InMemoryInvalidationTransport();
+    }
+
+    @Bean
+    public CourseNearCache courseNearCache(CacheInvalidationTransport transport,
+                                           MeterRegistry meterRegistry,
+                                           NearCacheProperties properties) {
+        return new CourseNearCache(transport, meterRegistry, properties.maxEntries(), properties.ttl());
+    }
+
+    @Bean
+    public SecondLevelCacheInvalidator secondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory,
+                                                                   CacheInvalidationTransport transport,
+                                                                   CourseNearCache courseNearCache) {
+        return new SecondLevelCacheInvalidator(entityManagerFactory, transport, courseNearCache.nodeId());
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.spartaglobalacademy.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings for the course near-cache, bound from {@code academy.cache.*}.
+ */
+@ConfigurationProperties(prefix = "academy.cache")
+public record NearCacheProperties(
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("10m") Duration ttl,
+
+        // in-memory (single node / tests) or udp (peers listed below)
+        @DefaultValue("in-memory") String transport,
+        @DefaultValue("7651") int udpPort,
+        @DefaultValue List<String> udpPeers
+) {
+}
@@ -0,0 +1,39 @@
+package com.sparta.spartaglobalacademy.cache;
+
+import com.sparta.spartaglobalacademy.entities.CacheRegions;
+import com.sparta.spartaglobalacademy.entities.CourseEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+
+/**
+ * Applies course invalidations from other nodes to the Hibernate second-level cache, which only
+ * sees writes made through this node's session factory. Trainer changes are not broadcast and
+ * age out through the region TTLs in {@code ehcache.xml}.
+ */
+public class SecondLevelCacheInvalidator {
+
+    private final Cache cache;
+    private final String localNodeId;
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory, CacheInvalidationTransport transport,
+                                       String localNodeId) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.localNodeId = localNodeId;
+        transport.subscribe(this::onInvalidation);
+    }
+
+    void onInvalidation(CacheInvalidation message) {
+        if (!CourseNearCache.CACHE_NAME.equals(message.cache()) || localNodeId.equals(message.originNode())) {
+            return;
+        }
+        if (message.key() == null) {
+            cache.evictEntityData(CourseEntity.class);
+        } else {
+            cache.evictEntityData(CourseEntity.class, message.key());
+        }
+        // The message does not say which trainer the course belonged to, so drop every cached collection
+        cache.evictCollectionData(CacheRegions.TRAINER_COURSES_ROLE);
+        cache.evictQueryRegions();
+    }
+}
@@ -0,0 +1,105 @@
+package com.sparta.spartaglobalacademy.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Sends invalidations as small UDP datagrams to a static list of peers and listens on a local port.
+ * Messages are a single line: {@code cache|key|originNode|sentAtEpochMillis}.
+ * Works over 127.0.0.1 for local multi-instance testing.
+ */
+public class UdpInvalidationTransport implements CacheInvalidationTransport, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(UdpInvalidationTransport.class);
+
+    private final DatagramSocket socket;
+    private final List<InetSocketAddress> peers;
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+    private final Thread receiver;
+
+    public UdpInvalidationTransport(int port, List<InetSocketAddress> peers) throws SocketException {
+        this.socket = new DatagramSocket(port);
+        this.peers = List.copyOf(peers);
+        this.receiver = new Thread(this::receiveLoop, "cache-invalidation-udp");
+        this.receiver.setDaemon(true);
+        this.receiver.start();
+    }
+
+    @Override
+    public void publish(CacheInvalidation message) {
+        byte[] payload = encode(message);
+        for (InetSocketAddress peer : peers) {
+            try {
+                socket.send(new DatagramPacket(payload, payload.length, peer));
+            } catch (IOException e) {
+                log.warn("Failed to send cache invalidation to {}: {}", peer, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    public int getLocalPort() {
+        return socket.getLocalPort();
+    }
+
+    @Override
+    public void close() {
+        socket.close();
+    }
+
+    private void receiveLoop() {
+        byte[] buffer = new byte[512];
+        while (!socket.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    log.warn("Cache invalidation receive failed: {}", e.getMessage());
+                }
+                continue;
+            }
+            CacheInvalidation message = decode(new String(packet.getData(), 0, packet.getLength(), StandardCharsets.UTF_8));
+            if (message == null) {
+                continue;
+            }
+            for (Consumer<CacheInvalidation> listener : listeners) {
+                listener.accept(message);
+            }
+        }
+    }
+
+    static byte[] encode(CacheInvalidation message) {
+        String line = message.cache() + "|" + message.key() + "|" + message.originNode() + "|" + message.sentAtEpochMillis();
+        return line.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static CacheInvalidation decode(String line) {
+        String[] parts = line.split("\\|");
+        if (parts.length != 4) {
+            log.warn("Ignoring malformed cache invalidation: {}", line);
+            return null;
+        }
+        try {
+            Integer key = "null".equals(parts[1]) ? null : Integer.valueOf(parts[1]);
+            return new CacheInvalidation(parts[0], key, parts[2], Long.parseLong(parts[3]));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed cache invalidation: {}", line);
+            return null;
+        }
+    }
+}
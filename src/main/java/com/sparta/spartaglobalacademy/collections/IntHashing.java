@@ -0,0 +1,31 @@
+package com.sparta.spartaglobalacademy.collections;
+
+/**
+ * Sizing and hashing shared by the open-addressing collections in this package.
+ */
+final class IntHashing {
+
+    static final float LOAD_FACTOR = 0.6f;
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private IntHashing() {
+    }
+
+    // Fibonacci hashing spreads sequential ids (the common case here) across the table
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static int capacityFor(int expectedSize) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 2) / (double) LOAD_FACTOR);
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Too many entries: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    static int resizeThreshold(int capacity) {
+        return (int) (capacity * LOAD_FACTOR);
+    }
+}
@@ -0,0 +1,74 @@
+package com.sparta.spartaglobalacademy.controllers;
+
+import com.sparta.spartaglobalacademy.records.MonthlyCourseCountRecord;
+import com.sparta.spartaglobalacademy.records.TopicCourseCountRecord;
+import com.sparta.spartaglobalacademy.records.UpcomingCoursesRecord;
+import com.sparta.spartaglobalacademy.services.CourseAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/analytics/courses")
+@Validated
+public class AnalyticsController {
+
+    private final CourseAnalyticsService analyticsService;
+
+    public AnalyticsController(CourseAnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    // READ: GET /analytics/courses/per-month[?trainerId=&from=&to=]
+    @Operation(summary = "Courses per trainer per month",
+            description = "Counts courses by trainer and enrollment month from the in-memory snapshot")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Non-zero counts ordered by trainer then month",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = MonthlyCourseCountRecord.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid or too wide range", content = @Content)
+    })
+    @GetMapping("/per-month")
+    public ResponseEntity<List<MonthlyCourseCountRecord>> getCoursesPerMonth(
+            @Min(1) @RequestParam(required = false) Integer trainerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(analyticsService.coursesPerMonth(trainerId, from, to));
+    }
+
+    // READ: GET /analytics/courses/upcoming[?days=30]
+    @Operation(summary = "Courses starting soon", description = "Number of courses starting in the next N days (including today)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Count for the window",
+                    content = @Content(schema = @Schema(implementation = UpcomingCoursesRecord.class)))
+    })
+    @GetMapping("/upcoming")
+    public ResponseEntity<UpcomingCoursesRecord> getUpcomingCourses(
+            @Min(1) @Max(3660) @RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(analyticsService.upcomingCourses(LocalDate.now(), days));
+    }
+
+    // READ: GET /analytics/courses/per-topic[?limit=20]
+    @Operation(summary = "Most common course topics",
+            description = "Courses grouped by title without its trailing cohort or version numbers, most frequent first")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Topic counts",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TopicCourseCountRecord.class))))
+    })
+    @GetMapping("/per-topic")
+    public ResponseEntity<List<TopicCourseCountRecord>> getCoursesPerTopic(
+            @Min(1) @Max(1000) @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(analyticsService.coursesPerTopic(limit));
+    }
+}
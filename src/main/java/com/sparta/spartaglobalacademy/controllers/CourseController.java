@@ -1,8 +1,10 @@
 package com.sparta.spartaglobalacademy.controllers;
 
 import com.sparta.spartaglobalacademy.entities.CourseEntity;
+import com.sparta.spartaglobalacademy.records.CourseLookupRecord;
 import com.sparta.spartaglobalacademy.records.CourseRecord;
 import com.sparta.spartaglobalacademy.records.CourseMapper;
+import com.sparta.spartaglobalacademy.records.CoursePageRecord;
 import com.sparta.spartaglobalacademy.services.CourseService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -12,6 +14,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -23,6 +27,9 @@ import java.util.List;
 @Validated
 public class CourseController {
 
+    // Largest POST /courses/batch; the whole batch is one transaction holding its trainers' row locks
+    static final int MAX_BATCH_SIZE = 1000;
+
     private final CourseService courseService;
     private final CourseMapper courseMapper;
 
@@ -36,7 +43,8 @@ public class CourseController {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Course created",
                     content = @Content(schema = @Schema(implementation = CourseRecord.class))),
-            @ApiResponse(responseCode = "400", description = "Invalid input", content = @Content)
+            @ApiResponse(responseCode = "400", description = "Invalid input", content = @Content),
+            @ApiResponse(responseCode = "409", description = "A course with this title already exists", content = @Content)
     })
     @PostMapping
     public ResponseEntity<CourseRecord> createCourse(@Valid @RequestBody CourseRecord courseRecord) {
@@ -45,28 +53,92 @@ public class CourseController {
         return ResponseEntity.ok(created);
     }
 
+    // CREATE: POST /courses/batch
+    @Operation(summary = "Create courses in bulk",
+            description = "Add up to " + MAX_BATCH_SIZE + " courses in one transaction; nothing is created if any title is already taken")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Courses created",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = CourseRecord.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid input or more than " + MAX_BATCH_SIZE + " courses",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "Duplicate titles in the batch or already stored", content = @Content)
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<List<CourseRecord>> createCourses(
+            @RequestBody @Size(max = MAX_BATCH_SIZE) List<@Valid CourseRecord> courseRecords) {
+        List<CourseEntity> toCreate = courseRecords.stream().map(courseMapper::toEntity).toList();
+        return ResponseEntity.ok(courseService.createCourses(toCreate));
+    }
+
     // READ: GET /courses
-    @Operation(summary = "Get all courses", description = "Retrieve a list of all courses")
+    @Operation(summary = "Get all courses",
+            description = "Retrieve a list of all courses; archived past courses are appended when includeArchived=true")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "List of courses",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = CourseRecord.class))))
     })
     @GetMapping
-    public ResponseEntity<List<CourseRecord>> getAllCourses() {
-        List<CourseRecord> records = courseService.getAllCourses();
+    public ResponseEntity<List<CourseRecord>> getAllCourses(
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        List<CourseRecord> records = courseService.getAllCourses(includeArchived);
         return ResponseEntity.ok(records);
     }
 
+    // READ: GET /courses/page?after=0&size=20
+    @Operation(summary = "Get a page of courses",
+            description = "Courses with IDs above 'after', lowest first; pass nextAfter back as 'after' for the next page. "
+                    + "When sharded, every shard is read in parallel and the pages merged")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of courses",
+                    content = @Content(schema = @Schema(implementation = CoursePageRecord.class))),
+            @ApiResponse(responseCode = "400", description = "Page size outside 1..100", content = @Content)
+    })
+    @GetMapping("/page")
+    public ResponseEntity<CoursePageRecord> getCoursePage(@RequestParam(defaultValue = "0") @Min(0) Integer after,
+                                                          @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(courseService.getCoursePage(after, size));
+    }
+
+    // READ: GET /courses/search?title=java&after=0&size=20
+    @Operation(summary = "Search courses by title",
+            description = "Courses whose title contains the text (case-insensitive), paged by ID like /courses/page")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of matching courses",
+                    content = @Content(schema = @Schema(implementation = CoursePageRecord.class))),
+            @ApiResponse(responseCode = "400", description = "Empty search text or page size outside 1..100", content = @Content)
+    })
+    @GetMapping("/search")
+    public ResponseEntity<CoursePageRecord> searchCourses(@RequestParam String title,
+                                                          @RequestParam(defaultValue = "0") @Min(0) Integer after,
+                                                          @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(courseService.searchCourses(title, after, size));
+    }
+
+    // READ: GET /courses?ids=1,2,3
+    @Operation(summary = "Get courses by IDs",
+            description = "Resolve many courses in one request; results follow the requested order and unknown IDs are listed separately")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Courses found and IDs missing",
+                    content = @Content(schema = @Schema(implementation = CourseLookupRecord.class))),
+            @ApiResponse(responseCode = "400", description = "No IDs, too many IDs or an invalid ID", content = @Content)
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<CourseLookupRecord> getCoursesByIds(@RequestParam List<@NotNull @Min(1) Integer> ids) {
+        return ResponseEntity.ok(courseService.getCoursesByIds(ids));
+    }
+
     // READ: GET /courses/{id}
-    @Operation(summary = "Get a course by ID", description = "Retrieve a single course by its ID")
+    @Operation(summary = "Get a course by ID",
+            description = "Retrieve a single course by its ID; archived courses are found only when includeArchived=true")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Course found",
                     content = @Content(schema = @Schema(implementation = CourseRecord.class))),
             @ApiResponse(responseCode = "404", description = "Course not found", content = @Content)
     })
     @GetMapping("/{id}")
-    public ResponseEntity<CourseRecord> getCourseById(@Min(1) @PathVariable Integer id) {
-        CourseRecord course = courseService.getCourseById(id);
+    public ResponseEntity<CourseRecord> getCourseById(@Min(1) @PathVariable Integer id,
+                                                      @RequestParam(defaultValue = "false") boolean includeArchived) {
+        CourseRecord course = courseService.getCourseById(id, includeArchived);
         return ResponseEntity.ok(course);
     }
 
@@ -76,7 +148,8 @@ public class CourseController {
             @ApiResponse(responseCode = "200", description = "Course updated",
                     content = @Content(schema = @Schema(implementation = CourseRecord.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input", content = @Content),
-            @ApiResponse(responseCode = "404", description = "Course not found", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Course not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Another course already has this title", content = @Content)
     })
     @PutMapping("/{id}")
     public ResponseEntity<CourseRecord> updateCourse(
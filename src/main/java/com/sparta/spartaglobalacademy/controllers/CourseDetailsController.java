@@ -0,0 +1,61 @@
+package com.sparta.spartaglobalacademy.controllers;
+
+import com.sparta.spartaglobalacademy.readmodel.CourseDetailsReadRepository;
+import com.sparta.spartaglobalacademy.records.CourseDetailsRecord;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/course-details")
+@Validated
+public class CourseDetailsController {
+
+    private final CourseDetailsReadRepository readRepository;
+
+    public CourseDetailsController(CourseDetailsReadRepository readRepository) {
+        this.readRepository = readRepository;
+    }
+
+    // READ: GET /course-details[?trainerId=]
+    @Operation(summary = "Get course details", description = "Courses with their trainer name, optionally for one trainer")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "List of course details",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = CourseDetailsRecord.class))))
+    })
+    @GetMapping
+    public ResponseEntity<List<CourseDetailsRecord>> getCourseDetails(
+            @Min(1) @RequestParam(required = false) Integer trainerId) {
+        List<CourseDetailsRecord> details = trainerId == null
+                ? readRepository.findAll()
+                : readRepository.findByTrainerId(trainerId);
+        return ResponseEntity.ok(details);
+    }
+
+    // READ: GET /course-details/{id}
+    @Operation(summary = "Get course details by course ID", description = "A single course with its trainer name")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Course details found",
+                    content = @Content(schema = @Schema(implementation = CourseDetailsRecord.class))),
+            @ApiResponse(responseCode = "404", description = "Course not found", content = @Content)
+    })
+    @GetMapping("/{id}")
+    public ResponseEntity<CourseDetailsRecord> getCourseDetailsById(@Min(1) @PathVariable Integer id) {
+        CourseDetailsRecord details = readRepository.findById(id);
+        if (details == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Course not found with ID: " + id);
+        }
+        return ResponseEntity.ok(details);
+    }
+}
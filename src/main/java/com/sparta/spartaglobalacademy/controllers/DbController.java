@@ -1,5 +1,15 @@
 package com.sparta.spartaglobalacademy.controllers;
 
+import com.sparta.spartaglobalacademy.records.IndexUsageRecord;
+import com.sparta.spartaglobalacademy.records.SlowStatementRecord;
+import com.sparta.spartaglobalacademy.records.TableStatsRecord;
+import com.sparta.spartaglobalacademy.services.DbDiagnosticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.http.ResponseEntity;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,9 +25,11 @@ import java.util.Map;
 public class DbController {
 
     private final JdbcTemplate jdbcTemplate;
+    private final DbDiagnosticsService diagnostics;
 
-    public DbController(JdbcTemplate jdbcTemplate) {
+    public DbController(JdbcTemplate jdbcTemplate, DbDiagnosticsService diagnostics) {
         this.jdbcTemplate = jdbcTemplate;
+        this.diagnostics = diagnostics;
     }
 
     @GetMapping("/ping")
@@ -46,9 +58,60 @@ public class DbController {
         switch (table) {
             case trainers -> sql = "SELECT trainer_id, full_name, created_at, updated_at FROM trainers LIMIT 10";
             case courses -> sql = "SELECT course_id, title, description, enroll_date, trainer_id, created_at, updated_at FROM courses LIMIT 10";
-            case course_details -> sql = "SELECT course_id, course_title, course_description, enroll_date, trainer_id, trainer_name, days_since_enrollment FROM course_details LIMIT 10";
+            // Served from the denormalised read table: no join, and DATEDIFF only on the sampled rows
+            case course_details -> sql = "SELECT course_id, course_title, course_description, enroll_date, trainer_id, trainer_name, DATEDIFF(CURDATE(), enroll_date) AS days_since_enrollment FROM course_details_read LIMIT 10";
             default -> throw new IllegalArgumentException("Unsupported table");
         }
         return jdbcTemplate.queryForList(sql);
     }
+
+    // Diagnostics below are cached for academy.db.diagnostics-ttl
+
+    @Operation(summary = "Table sizes", description = "Estimated rows and data/index bytes per table, largest first")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Table statistics",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TableStatsRecord.class)))),
+            @ApiResponse(responseCode = "503", description = "information_schema not readable", content = @Content)
+    })
+    @GetMapping("/stats/tables")
+    public ResponseEntity<List<TableStatsRecord>> tableStats() {
+        return ResponseEntity.ok(diagnostics.getTableStats());
+    }
+
+    @Operation(summary = "Index usage",
+            description = "Rows read and written through each index since the server started; a null index name counts rows read by full table scans")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Index usage, most time spent first",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = IndexUsageRecord.class)))),
+            @ApiResponse(responseCode = "503", description = "performance_schema disabled or not readable", content = @Content)
+    })
+    @GetMapping("/stats/indexes")
+    public ResponseEntity<List<IndexUsageRecord>> indexUsage() {
+        return ResponseEntity.ok(diagnostics.getIndexUsage());
+    }
+
+    @Operation(summary = "Unused indexes",
+            description = "Secondary indexes with no reads or writes since the server started; only meaningful after a representative workload")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Unused indexes",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = IndexUsageRecord.class)))),
+            @ApiResponse(responseCode = "503", description = "performance_schema disabled or not readable", content = @Content)
+    })
+    @GetMapping("/stats/unused-indexes")
+    public ResponseEntity<List<IndexUsageRecord>> unusedIndexes() {
+        return ResponseEntity.ok(diagnostics.getUnusedIndexes());
+    }
+
+    @Operation(summary = "Slowest statements",
+            description = "The statement digests with the most total execution time, with rows examined and full-scan counts")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Statement digests, most total time first",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = SlowStatementRecord.class)))),
+            @ApiResponse(responseCode = "400", description = "Limit out of range", content = @Content),
+            @ApiResponse(responseCode = "503", description = "performance_schema disabled or not readable", content = @Content)
+    })
+    @GetMapping("/stats/slow-queries")
+    public ResponseEntity<List<SlowStatementRecord>> slowQueries(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(diagnostics.getSlowStatements(limit));
+    }
 }
@@ -1,6 +1,7 @@
 package com.sparta.spartaglobalacademy.controllers;
 
 import com.sparta.spartaglobalacademy.entities.TrainerEntity;
+import com.sparta.spartaglobalacademy.records.TrainerLookupRecord;
 import com.sparta.spartaglobalacademy.records.TrainerRecord;
 import com.sparta.spartaglobalacademy.records.TrainerMapper;
 import com.sparta.spartaglobalacademy.services.TrainerService;
@@ -12,6 +13,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -44,6 +46,19 @@ public class TrainerController {
     }
 
 
+    // GET trainers by IDs
+    @Operation(summary = "Get trainers by IDs",
+            description = "Resolve many trainers in one request; results follow the requested order and unknown IDs are listed separately")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Trainers found and IDs missing",
+                    content = @Content(schema = @Schema(implementation = TrainerLookupRecord.class))),
+            @ApiResponse(responseCode = "400", description = "No IDs, too many IDs or an invalid ID", content = @Content)
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<TrainerLookupRecord> getTrainersByIds(@RequestParam List<@NotNull @Min(1) Integer> ids) {
+        return ResponseEntity.ok(service.getTrainersByIds(ids));
+    }
+
     // GET trainer by ID
     @Operation(summary = "Get trainer by ID", description = "Retrieve a single trainer by their ID")
     @ApiResponses({
@@ -93,7 +108,8 @@ public class TrainerController {
     @Operation(summary = "Delete a trainer", description = "Delete a trainer by ID")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "Trainer deleted", content = @Content),
-            @ApiResponse(responseCode = "404", description = "Trainer not found", content = @Content)
+            @ApiResponse(responseCode = "404", description = "Trainer not found", content = @Content),
+            @ApiResponse(responseCode = "409", description = "Trainer still has courses", content = @Content)
     })
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTrainer(@Min(1) @PathVariable Integer id) {
@@ -0,0 +1,82 @@
+package com.sparta.spartaglobalacademy.controllers;
+
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.upcoming.UpcomingCourseIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/courses/upcoming")
+@Validated
+public class UpcomingCoursesController {
+
+    private final UpcomingCourseIndex upcomingIndex;
+
+    public UpcomingCoursesController(UpcomingCourseIndex upcomingIndex) {
+        this.upcomingIndex = upcomingIndex;
+    }
+
+    // READ: GET /courses/upcoming[?from=&to=&trainerId=&limit=]
+    @Operation(summary = "Courses starting in a date range",
+            description = "Courses whose enroll date is between from and to (inclusive), earliest first. "
+                    + "Defaults to the next seven days")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Courses in the range",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = CourseRecord.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid range", content = @Content)
+    })
+    @GetMapping
+    public ResponseEntity<List<CourseRecord>> getCoursesBetween(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Min(1) @RequestParam(required = false) Integer trainerId,
+            @Min(1) @Max(10000) @RequestParam(defaultValue = "1000") int limit) {
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = to != null ? to : start.plusDays(6);
+        validateFrom(start);
+        if (end.isBefore(start)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'to' must not be before 'from'");
+        }
+        return ResponseEntity.ok(upcomingIndex.between(start, end, trainerId, limit));
+    }
+
+    // READ: GET /courses/upcoming/next[?n=&from=&trainerId=]
+    @Operation(summary = "Next courses to start", description = "The next n courses starting on or after from (default today)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Courses, earliest first",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = CourseRecord.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid request", content = @Content)
+    })
+    @GetMapping("/next")
+    public ResponseEntity<List<CourseRecord>> getNextCourses(
+            @Min(1) @Max(1000) @RequestParam(defaultValue = "10") int n,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Min(1) @RequestParam(required = false) Integer trainerId) {
+        LocalDate start = from != null ? from : LocalDate.now();
+        validateFrom(start);
+        return ResponseEntity.ok(upcomingIndex.next(start, trainerId, n));
+    }
+
+    // The index only holds courses from its horizon onwards
+    private void validateFrom(LocalDate from) {
+        if (from.isBefore(upcomingIndex.horizon())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "'from' must not be before " + upcomingIndex.horizon());
+        }
+    }
+}
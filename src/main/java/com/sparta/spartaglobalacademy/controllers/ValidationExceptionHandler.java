@@ -0,0 +1,22 @@
+package com.sparta.spartaglobalacademy.controllers;
+
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.io.IOException;
+
+/**
+ * Constraints on the parameters of {@code @Validated} controllers (e.g. {@code List<@NotNull @Min(1) Integer> ids})
+ * fail with {@link ConstraintViolationException}, which would otherwise surface as a 500.
+ */
+@RestControllerAdvice
+public class ValidationExceptionHandler {
+
+    @ExceptionHandler(ConstraintViolationException.class)
+    public void handleConstraintViolation(ConstraintViolationException e, HttpServletResponse response) throws IOException {
+        response.sendError(HttpStatus.BAD_REQUEST.value(), e.getMessage());
+    }
+}
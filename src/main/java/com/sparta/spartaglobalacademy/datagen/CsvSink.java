@@ -0,0 +1,98 @@
+package com.sparta.spartaglobalacademy.datagen;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+/**
+ * Writes {@code trainers.csv} and {@code courses.csv} in MySQL's default LOAD DATA format
+ * (comma separated, double-quoted, backslash escaped) plus a {@code load.sql} that imports them
+ * with {@code LOAD DATA LOCAL INFILE} and rebuilds {@code course_details_read}.
+ * Run it with {@code mysql --local-infile=1 sparta_academy < load.sql} from the output directory.
+ */
+public class CsvSink implements RowSink {
+
+    private final Writer trainers;
+    private final Writer courses;
+    private final Writer loadScript;
+
+    public CsvSink(Writer trainers, Writer courses, Writer loadScript) {
+        this.trainers = trainers;
+        this.courses = courses;
+        this.loadScript = loadScript;
+    }
+
+    public static CsvSink open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        return new CsvSink(
+                Files.newBufferedWriter(directory.resolve("trainers.csv"), StandardCharsets.UTF_8),
+                Files.newBufferedWriter(directory.resolve("courses.csv"), StandardCharsets.UTF_8),
+                new BufferedWriter(Files.newBufferedWriter(directory.resolve("load.sql"), StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public void trainer(int id, String fullName) throws IOException {
+        trainers.write(Integer.toString(id));
+        trainers.write(',');
+        writeField(trainers, fullName);
+        trainers.write('\n');
+    }
+
+    @Override
+    public void course(int id, String title, String description, LocalDate enrollDate, int trainerId) throws IOException {
+        courses.write(Integer.toString(id));
+        courses.write(',');
+        writeField(courses, title);
+        courses.write(',');
+        writeField(courses, description);
+        courses.write(',');
+        courses.write(enrollDate.toString());
+        courses.write(',');
+        courses.write(Integer.toString(trainerId));
+        courses.write('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        trainers.flush();
+        courses.flush();
+        loadScript.write("SET FOREIGN_KEY_CHECKS = 0;\nSET UNIQUE_CHECKS = 0;\n");
+        for (String statement : DataGenTables.CLEAR_STATEMENTS) {
+            loadScript.write(statement + ";\n");
+        }
+        loadScript.write("""
+                LOAD DATA LOCAL INFILE 'trainers.csv' INTO TABLE trainers
+                  FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '"' LINES TERMINATED BY '\\n'
+                  (trainer_id, full_name);
+                LOAD DATA LOCAL INFILE 'courses.csv' INTO TABLE courses
+                  FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '"' LINES TERMINATED BY '\\n'
+                  (course_id, title, description, enroll_date, trainer_id);
+                """);
+        loadScript.write(DataGenTables.REBUILD_READ_MODEL);
+        loadScript.write(";\nSET UNIQUE_CHECKS = 1;\nSET FOREIGN_KEY_CHECKS = 1;\n");
+        loadScript.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        trainers.close();
+        courses.close();
+        loadScript.close();
+    }
+
+    private static void writeField(Writer out, String value) throws IOException {
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+}
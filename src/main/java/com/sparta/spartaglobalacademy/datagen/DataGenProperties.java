@@ -0,0 +1,33 @@
+package com.sparta.spartaglobalacademy.datagen;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.LocalDate;
+
+/**
+ * Settings for the synthetic data generator, bound from {@code academy.datagen.*}.
+ * Only used when the {@code datagen} profile is active.
+ */
+@ConfigurationProperties(prefix = "academy.datagen")
+public record DataGenProperties(
+        @DefaultValue("1000") int trainers,
+        @DefaultValue("100000") int courses,
+
+        // jdbc (load straight into the configured DataSource), sql or csv
+        @DefaultValue("jdbc") String output,
+        @DefaultValue("datagen") String outputDir,
+        @DefaultValue("1000") int rowsPerInsert,
+
+        // Same seed, same data
+        @DefaultValue("42") long seed,
+        // Zipf exponent for courses per trainer; 0 = uniform, ~1 = a few trainers own most courses
+        @DefaultValue("1.0") double trainerSkew,
+        @DefaultValue("2020-01-01") LocalDate enrollFrom,
+        @DefaultValue("2026-12-31") LocalDate enrollTo,
+
+        // jdbc output only: empty the tables first
+        @DefaultValue("true") boolean truncate,
+        @DefaultValue("true") boolean exitWhenDone
+) {
+}
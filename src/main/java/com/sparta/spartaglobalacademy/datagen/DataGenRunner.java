@@ -0,0 +1,75 @@
+package com.sparta.spartaglobalacademy.datagen;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Entry point for the {@code datagen} profile: generates the configured data set, writes it to
+ * the chosen output and (by default) shuts the application down.
+ * <pre>
+ * ./mvnw spring-boot:run -Dspring-boot.run.profiles=datagen \
+ *     -Dspring-boot.run.arguments="--academy.datagen.courses=10000000 --academy.datagen.output=jdbc"
+ * </pre>
+ */
+@Component
+@Profile("datagen")
+public class DataGenRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DataGenRunner.class);
+
+    private final DataGenProperties properties;
+    private final DataSource dataSource;
+    private final ApplicationContext context;
+
+    public DataGenRunner(DataGenProperties properties, DataSource dataSource, ApplicationContext context) {
+        this.properties = properties;
+        this.dataSource = dataSource;
+        this.context = context;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        log.info("Generating {} trainers and {} courses to {}", properties.trainers(), properties.courses(), properties.output());
+        long start = System.nanoTime();
+
+        try (RowSink sink = openSink()) {
+            new SyntheticDataGenerator(properties).generate(sink);
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        log.info("Generated {} rows in {} s ({} rows/s)", properties.trainers() + (long) properties.courses(),
+                String.format("%.1f", seconds),
+                String.format("%.0f", (properties.trainers() + (double) properties.courses()) / Math.max(seconds, 0.001)));
+
+        if (properties.exitWhenDone()) {
+            System.exit(SpringApplication.exit(context, () -> 0));
+        }
+    }
+
+    private RowSink openSink() throws IOException {
+        Path directory = Path.of(properties.outputDir());
+        return switch (properties.output().toLowerCase()) {
+            case "jdbc" -> new JdbcBatchSink(dataSource, properties.rowsPerInsert(), properties.truncate());
+            case "sql" -> {
+                Files.createDirectories(directory);
+                BufferedWriter writer = Files.newBufferedWriter(directory.resolve("data.sql"), StandardCharsets.UTF_8);
+                yield new SqlScriptSink(writer, properties.rowsPerInsert(), properties.truncate());
+            }
+            case "csv" -> CsvSink.open(directory);
+            default -> throw new IllegalArgumentException("Unknown academy.datagen.output: " + properties.output());
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.sparta.spartaglobalacademy.datagen;
+
+import java.util.List;
+
+/**
+ * SQL shared by the sinks.
+ */
+final class DataGenTables {
+
+    // Children first, although every sink also disables foreign key checks while loading. Like
+    // database_reseed_quick.sql, courses is emptied with DELETE rather than TRUNCATE so the title-key
+    // triggers of a partitioned courses table (database_partition_courses.sql) fire and clear course_title_keys
+    static final List<String> CLEAR_STATEMENTS = List.of(
+            "TRUNCATE TABLE course_details_read",
+            "TRUNCATE TABLE outbox_events",
+            "TRUNCATE TABLE courses_archive",
+            "DELETE FROM courses",
+            "TRUNCATE TABLE trainers");
+
+    // Same statement database_setup_fixed.sql uses to populate the read model
+    static final String REBUILD_READ_MODEL = """
+            INSERT INTO course_details_read (course_id, course_title, course_description, enroll_date, trainer_id, trainer_name)
+            SELECT c.course_id, c.title, c.description, c.enroll_date, t.trainer_id, t.full_name
+            FROM courses c
+            INNER JOIN trainers t ON c.trainer_id = t.trainer_id""";
+
+    private DataGenTables() {
+    }
+}
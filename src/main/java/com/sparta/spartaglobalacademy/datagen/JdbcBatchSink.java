@@ -0,0 +1,168 @@
+package com.sparta.spartaglobalacademy.datagen;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads rows straight into MySQL on one connection using multi-row INSERT statements of
+ * {@code rowsPerInsert} rows, so it does not rely on the driver's {@code rewriteBatchedStatements}.
+ * Key checks are disabled for the session and the transaction is committed every
+ * {@link #COMMIT_EVERY_ROWS} rows to keep the undo log small.
+ */
+public class JdbcBatchSink implements RowSink {
+
+    static final int COMMIT_EVERY_ROWS = 50_000;
+
+    private static final String TRAINER_COLUMNS = "INSERT INTO trainers (trainer_id, full_name) VALUES ";
+    private static final String COURSE_COLUMNS =
+            "INSERT INTO courses (course_id, title, description, enroll_date, trainer_id) VALUES ";
+
+    private final Connection connection;
+    private final int rowsPerInsert;
+    private final List<Object[]> trainerRows = new ArrayList<>();
+    private final List<Object[]> courseRows = new ArrayList<>();
+    private PreparedStatement fullTrainerInsert;
+    private PreparedStatement fullCourseInsert;
+    private long uncommitted;
+
+    public JdbcBatchSink(DataSource dataSource, int rowsPerInsert, boolean truncate) throws IOException {
+        if (rowsPerInsert < 1) {
+            throw new IllegalArgumentException("rowsPerInsert must be >= 1");
+        }
+        this.rowsPerInsert = rowsPerInsert;
+        try {
+            this.connection = dataSource.getConnection();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET FOREIGN_KEY_CHECKS = 0");
+                statement.execute("SET UNIQUE_CHECKS = 0");
+                if (truncate) {
+                    for (String clear : DataGenTables.CLEAR_STATEMENTS) {
+                        statement.execute(clear);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not prepare the database for loading", e);
+        }
+    }
+
+    @Override
+    public void trainer(int id, String fullName) throws IOException {
+        trainerRows.add(new Object[]{id, fullName});
+        if (trainerRows.size() == rowsPerInsert) {
+            flushTrainers();
+        }
+    }
+
+    @Override
+    public void course(int id, String title, String description, LocalDate enrollDate, int trainerId) throws IOException {
+        if (!trainerRows.isEmpty()) {
+            flushTrainers();
+        }
+        courseRows.add(new Object[]{id, title, description, Date.valueOf(enrollDate), trainerId});
+        if (courseRows.size() == rowsPerInsert) {
+            flushCourses();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        flushTrainers();
+        flushCourses();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(DataGenTables.REBUILD_READ_MODEL);
+            connection.commit();
+            statement.execute("SET UNIQUE_CHECKS = 1");
+            statement.execute("SET FOREIGN_KEY_CHECKS = 1");
+        } catch (SQLException e) {
+            throw new IOException("Could not rebuild course_details_read", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (fullTrainerInsert != null) {
+                fullTrainerInsert.close();
+            }
+            if (fullCourseInsert != null) {
+                fullCourseInsert.close();
+            }
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private void flushTrainers() throws IOException {
+        try {
+            if (trainerRows.size() == rowsPerInsert) {
+                if (fullTrainerInsert == null) {
+                    fullTrainerInsert = connection.prepareStatement(insertSql(TRAINER_COLUMNS, 2, rowsPerInsert));
+                }
+                execute(fullTrainerInsert, trainerRows);
+            } else if (!trainerRows.isEmpty()) {
+                try (PreparedStatement tail = connection.prepareStatement(insertSql(TRAINER_COLUMNS, 2, trainerRows.size()))) {
+                    execute(tail, trainerRows);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException("Trainer insert failed", e);
+        }
+    }
+
+    private void flushCourses() throws IOException {
+        try {
+            if (courseRows.size() == rowsPerInsert) {
+                if (fullCourseInsert == null) {
+                    fullCourseInsert = connection.prepareStatement(insertSql(COURSE_COLUMNS, 5, rowsPerInsert));
+                }
+                execute(fullCourseInsert, courseRows);
+            } else if (!courseRows.isEmpty()) {
+                try (PreparedStatement tail = connection.prepareStatement(insertSql(COURSE_COLUMNS, 5, courseRows.size()))) {
+                    execute(tail, courseRows);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IOException("Course insert failed", e);
+        }
+    }
+
+    private void execute(PreparedStatement insert, List<Object[]> rows) throws SQLException {
+        int index = 1;
+        for (Object[] row : rows) {
+            for (Object value : row) {
+                insert.setObject(index++, value);
+            }
+        }
+        insert.executeUpdate();
+        uncommitted += rows.size();
+        rows.clear();
+        if (uncommitted >= COMMIT_EVERY_ROWS) {
+            connection.commit();
+            uncommitted = 0;
+        }
+    }
+
+    static String insertSql(String prefix, int columns, int rows) {
+        String tuple = "(" + "?,".repeat(columns - 1) + "?)";
+        StringBuilder sql = new StringBuilder(prefix.length() + rows * (tuple.length() + 1));
+        sql.append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(',');
+            }
+            sql.append(tuple);
+        }
+        return sql.toString();
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.spartaglobalacademy.datagen;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * Destination for generated rows. Trainers are always written before any course.
+ */
+public interface RowSink extends AutoCloseable {
+
+    void trainer(int id, String fullName) throws IOException;
+
+    void course(int id, String title, String description, LocalDate enrollDate, int trainerId) throws IOException;
+
+    /**
+     * Called once after the last row, before {@link #close()}.
+     */
+    void finish() throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
@@ -0,0 +1,105 @@
+package com.sparta.spartaglobalacademy.datagen;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+
+/**
+ * Writes a MySQL script of multi-row INSERTs ({@code rowsPerInsert} rows per statement) with
+ * key checks disabled and a single commit, then rebuilds {@code course_details_read}.
+ * Load with {@code mysql sparta_academy < courses.sql}.
+ */
+public class SqlScriptSink implements RowSink {
+
+    private final Writer out;
+    private final int rowsPerInsert;
+    private String openTable;
+    private int rowsInStatement;
+
+    public SqlScriptSink(Writer out, int rowsPerInsert, boolean truncate) throws IOException {
+        if (rowsPerInsert < 1) {
+            throw new IllegalArgumentException("rowsPerInsert must be >= 1");
+        }
+        this.out = out;
+        this.rowsPerInsert = rowsPerInsert;
+        out.write("SET FOREIGN_KEY_CHECKS = 0;\nSET UNIQUE_CHECKS = 0;\nSET autocommit = 0;\n");
+        if (truncate) {
+            for (String statement : DataGenTables.CLEAR_STATEMENTS) {
+                out.write(statement + ";\n");
+            }
+        }
+    }
+
+    @Override
+    public void trainer(int id, String fullName) throws IOException {
+        startRow("trainers", "(trainer_id, full_name)");
+        out.write('(');
+        out.write(Integer.toString(id));
+        out.write(',');
+        writeString(fullName);
+        out.write(')');
+    }
+
+    @Override
+    public void course(int id, String title, String description, LocalDate enrollDate, int trainerId) throws IOException {
+        startRow("courses", "(course_id, title, description, enroll_date, trainer_id)");
+        out.write('(');
+        out.write(Integer.toString(id));
+        out.write(',');
+        writeString(title);
+        out.write(',');
+        writeString(description);
+        out.write(",'");
+        out.write(enrollDate.toString());
+        out.write("',");
+        out.write(Integer.toString(trainerId));
+        out.write(')');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        endStatement();
+        out.write(DataGenTables.REBUILD_READ_MODEL);
+        out.write(";\nCOMMIT;\nSET UNIQUE_CHECKS = 1;\nSET FOREIGN_KEY_CHECKS = 1;\n");
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void startRow(String table, String columns) throws IOException {
+        if (!table.equals(openTable) || rowsInStatement == rowsPerInsert) {
+            endStatement();
+            out.write("INSERT INTO " + table + " " + columns + " VALUES\n");
+            openTable = table;
+        } else {
+            out.write(",\n");
+        }
+        rowsInStatement++;
+    }
+
+    private void endStatement() throws IOException {
+        if (rowsInStatement > 0) {
+            out.write(";\n");
+        }
+        rowsInStatement = 0;
+        openTable = null;
+    }
+
+    private void writeString(String value) throws IOException {
+        out.write('\'');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\'') {
+                out.write("''");
+            } else if (c == '\\') {
+                out.write("\\\\");
+            } else {
+                out.write(c);
+            }
+        }
+        out.write('\'');
+    }
+}
@@ -0,0 +1,137 @@
+package com.sparta.spartaglobalacademy.datagen;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Produces trainers and courses that look like real data at any scale.
+ * <ul>
+ *     <li>Trainer names are drawn from first/last name lists.</li>
+ *     <li>Courses per trainer follow a Zipf distribution over a shuffled trainer ranking, so a few
+ *     trainers own many courses and most own a handful.</li>
+ *     <li>Enroll dates lean towards the end of the range (more recent courses).</li>
+ *     <li>Titles are topic + level + cohort number, so they are distinct like the API requires and
+ *     at most 41 characters for any int id (the column is 50); descriptions vary in length.</li>
+ * </ul>
+ * Output is fully determined by the seed.
+ */
+public class SyntheticDataGenerator {
+
+    private static final String[] FIRST_NAMES = {
+            "Alice", "Ben", "Chloe", "Daniel", "Emma", "Farah", "George", "Hannah", "Imran", "Jess",
+            "Kofi", "Laura", "Mohammed", "Nina", "Oliver", "Priya", "Quentin", "Rosa", "Sam", "Tariq",
+            "Uma", "Victor", "Wendy", "Xavier", "Yasmin", "Zoe"};
+    private static final String[] LAST_NAMES = {
+            "Smith", "Jones", "Patel", "Khan", "Williams", "Brown", "Taylor", "Davies", "Evans", "Wilson",
+            "Thomas", "Roberts", "Ahmed", "Walker", "Wright", "Robinson", "Thompson", "White", "Hughes", "Green"};
+    private static final String[] TOPICS = {
+            "Java", "Spring Boot", "Python", "SQL", "Data Engineering", "DevOps", "Docker", "Kubernetes",
+            "AWS", "Azure", "Testing", "Agile", "React", "TypeScript", "Cyber Security", "Networking",
+            "Linux", "Machine Learning", "Business Analysis", "Microservices"};
+    private static final String[] LEVELS = {
+            "Basics", "Fundamentals", "Intermediate", "Advanced", "Bootcamp", "Masterclass", "in Practice"};
+    private static final String[] SENTENCES = {
+            "Hands-on labs every day.",
+            "Covers core concepts and common pitfalls.",
+            "Includes a capstone project reviewed by a trainer.",
+            "Suitable for graduates with no prior experience.",
+            "Builds on the fundamentals course.",
+            "Pairs theory with real client scenarios.",
+            "Assessed by a final technical interview.",
+            "Delivered remotely with weekly check-ins.",
+            "Focuses on production-ready practices.",
+            "Prepares trainees for certification."};
+
+    private final DataGenProperties properties;
+
+    public SyntheticDataGenerator(DataGenProperties properties) {
+        if (properties.trainers() < 1 || properties.courses() < 0) {
+            throw new IllegalArgumentException("trainers must be >= 1 and courses >= 0");
+        }
+        if (properties.enrollTo().isBefore(properties.enrollFrom())) {
+            throw new IllegalArgumentException("enrollTo must not be before enrollFrom");
+        }
+        this.properties = properties;
+    }
+
+    public void generate(RowSink sink) throws IOException {
+        SplittableRandom random = new SplittableRandom(properties.seed());
+
+        for (int id = 1; id <= properties.trainers(); id++) {
+            sink.trainer(id, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+        }
+
+        ZipfSampler trainerSampler = new ZipfSampler(properties.trainers(), properties.trainerSkew(), random);
+        long days = ChronoUnit.DAYS.between(properties.enrollFrom(), properties.enrollTo()) + 1;
+        StringBuilder description = new StringBuilder(256);
+        for (int id = 1; id <= properties.courses(); id++) {
+            String title = TOPICS[random.nextInt(TOPICS.length)] + " " + LEVELS[random.nextInt(LEVELS.length)]
+                    + " #" + id;
+
+            // One to six sentences, weighted towards two or three
+            description.setLength(0);
+            int sentences = 1 + (random.nextInt(3) + random.nextInt(4));
+            for (int s = 0; s < sentences; s++) {
+                if (s > 0) {
+                    description.append(' ');
+                }
+                description.append(SENTENCES[random.nextInt(SENTENCES.length)]);
+            }
+
+            // max of two uniforms skews linearly towards the end of the range
+            long offset = Math.max(random.nextLong(days), random.nextLong(days));
+            LocalDate enrollDate = properties.enrollFrom().plusDays(offset);
+
+            sink.course(id, title, description.toString(), enrollDate, trainerSampler.next());
+        }
+        sink.finish();
+    }
+
+    /**
+     * Samples trainer ids 1..n with probability proportional to 1/rank^s, where ranks are a seeded
+     * shuffle of the ids so the busiest trainer is not always id 1. Uses a precomputed CDF and
+     * binary search, so each draw is O(log n).
+     */
+    static final class ZipfSampler {
+
+        private final double[] cdf;
+        private final int[] idByRank;
+        private final SplittableRandom random;
+
+        ZipfSampler(int n, double exponent, SplittableRandom random) {
+            this.random = random;
+            this.cdf = new double[n];
+            double total = 0;
+            for (int rank = 0; rank < n; rank++) {
+                total += 1.0 / Math.pow(rank + 1, exponent);
+                cdf[rank] = total;
+            }
+            for (int rank = 0; rank < n; rank++) {
+                cdf[rank] /= total;
+            }
+
+            idByRank = new int[n];
+            for (int i = 0; i < n; i++) {
+                idByRank[i] = i + 1;
+            }
+            for (int i = n - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = idByRank[i];
+                idByRank[i] = idByRank[j];
+                idByRank[j] = tmp;
+            }
+        }
+
+        int next() {
+            int rank = Arrays.binarySearch(cdf, random.nextDouble());
+            if (rank < 0) {
+                rank = -rank - 1;
+            }
+            return idByRank[Math.min(rank, idByRank.length - 1)];
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.sparta.spartaglobalacademy.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes pool saturation next to Hikari's own {@code hikaricp.connections.*} meters, and at
+ * startup checks the pool settings against the limits the MySQL server actually reports.
+ * <p>
+ * The pool is sized too large when every instance at full size would exceed
+ * {@code max_connections}. It is also misconfigured when connections outlive {@code wait_timeout},
+ * because the server then closes them under the pool and the next borrower gets a dead connection.
+ */
+public class ConnectionPoolCheck implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolCheck.class);
+
+    // Connections kept free for admin sessions, replication and migrations
+    static final int RESERVED_CONNECTIONS = 10;
+
+    private final HikariDataSource pool;
+    private final JdbcTemplate jdbcTemplate;
+    private final int instances;
+
+    public ConnectionPoolCheck(HikariDataSource pool, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, int instances) {
+        this.pool = pool;
+        this.jdbcTemplate = jdbcTemplate;
+        this.instances = instances;
+        if (pool != null) {
+            Gauge.builder("academy.db.pool.saturation", this, ConnectionPoolCheck::saturation)
+                    .tag("pool", String.valueOf(pool.getPoolName()))
+                    .description("Active connections as a fraction of the maximum pool size")
+                    .register(meterRegistry);
+        }
+    }
+
+    double saturation() {
+        HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+        if (bean == null || pool.getMaximumPoolSize() <= 0) {
+            return 0.0;
+        }
+        return (double) bean.getActiveConnections() / pool.getMaximumPoolSize();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (pool == null) {
+            return;
+        }
+        long maxConnections;
+        long waitTimeoutSeconds;
+        try {
+            maxConnections = query("SELECT @@GLOBAL.max_connections");
+            waitTimeoutSeconds = query("SELECT @@GLOBAL.wait_timeout");
+        } catch (DataAccessException e) {
+            log.debug("Connection pool limits not checked, server does not report them: {}", e.getMessage());
+            return;
+        }
+        for (String problem : problems(pool.getMaximumPoolSize(), pool.getMaxLifetime(), instances,
+                maxConnections, waitTimeoutSeconds)) {
+            log.warn("Connection pool '{}': {}", pool.getPoolName(), problem);
+        }
+        log.info("Connection pool '{}': max {} connections x {} instance(s), server max_connections={}, wait_timeout={}s",
+                pool.getPoolName(), pool.getMaximumPoolSize(), instances, maxConnections, waitTimeoutSeconds);
+    }
+
+    static List<String> problems(int maxPoolSize, long maxLifetimeMillis, int instances,
+                                 long maxConnections, long waitTimeoutSeconds) {
+        List<String> problems = new ArrayList<>();
+        long budget = maxConnections - RESERVED_CONNECTIONS;
+        if ((long) maxPoolSize * instances > budget) {
+            problems.add("%d instance(s) x %d connections exceeds max_connections (%d) less %d reserved; lower the pool size to %d"
+                    .formatted(instances, maxPoolSize, maxConnections, RESERVED_CONNECTIONS, Math.max(1, budget / instances)));
+        }
+        long waitTimeoutMillis = TimeUnit.SECONDS.toMillis(waitTimeoutSeconds);
+        if (maxLifetimeMillis == 0 || maxLifetimeMillis >= waitTimeoutMillis) {
+            problems.add("max-lifetime (%d ms) should be a little shorter than wait_timeout (%d s)"
+                    .formatted(maxLifetimeMillis, waitTimeoutSeconds));
+        }
+        return problems;
+    }
+
+    private long query(String sql) {
+        Long value = jdbcTemplate.queryForObject(sql, Long.class);
+        return value == null ? 0 : value;
+    }
+}
@@ -0,0 +1,30 @@
+package com.sparta.spartaglobalacademy.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Configuration
+public class ConnectionPoolConfig {
+
+    @Bean
+    public ConnectionPoolCheck connectionPoolCheck(DataSource dataSource, JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+                                                   @Value("${academy.db.instances:1}") int instances) {
+        return new ConnectionPoolCheck(hikari(dataSource), jdbcTemplate, meterRegistry, instances);
+    }
+
+    // The data source may be wrapped (e.g. by a JDBC proxy in tests); reach the pool behind it if there is one
+    private static HikariDataSource hikari(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.sparta.spartaglobalacademy.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Routes JDBC through a proxy that hands every statement's timing to {@link SlowQueryLogger}.
+ * Replaces spring.jpa.show-sql, which printed every statement synchronously on the request thread.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "academy.sql.slow-query", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryLogConfig {
+
+    // Static and lazily resolved so the data source is not created before post-processors are registered
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourceProxy(Environment environment,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                Duration threshold = environment.getProperty("academy.sql.slow-query.threshold",
+                        Duration.class, Duration.ofMillis(200));
+                SlowQueryLogger listener = new SlowQueryLogger(threshold.toMillis(), meterRegistry.getObject());
+                // Another proxy (e.g. the integration tests' statement recorder) may already be in place
+                if (dataSource instanceof ProxyDataSource proxy) {
+                    proxy.getProxyConfig().getQueryListener().addListener(listener);
+                    return proxy;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener)
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,101 @@
+package com.sparta.spartaglobalacademy.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Logs JDBC statements that took at least the threshold, with their bind parameters and timing,
+ * as structured key/value pairs on the {@code academy.sql.slow} logger.
+ * <p>
+ * Fast statements cost one comparison; nothing is formatted or logged for them. The log call itself
+ * only enqueues the event, the console is written by the async appender (see logback-spring.xml).
+ */
+public class SlowQueryLogger implements QueryExecutionListener {
+
+    static final String LOGGER_NAME = "academy.sql.slow";
+
+    // Long text values (descriptions) are cut so one slow batch cannot flood the log
+    static final int MAX_VALUE_LENGTH = 100;
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final long thresholdMillis;
+    private final Counter slowQueries;
+
+    public SlowQueryLogger(long thresholdMillis, MeterRegistry meterRegistry) {
+        this.thresholdMillis = thresholdMillis;
+        this.slowQueries = Counter.builder("academy.sql.slow")
+                .description("JDBC statements slower than the slow-query threshold")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (execInfo.getElapsedTime() < thresholdMillis) {
+            return;
+        }
+        slowQueries.increment();
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        List<String> sql = new ArrayList<>(queryInfoList.size());
+        List<String> params = new ArrayList<>();
+        for (QueryInfo query : queryInfoList) {
+            sql.add(query.getQuery());
+            for (List<ParameterSetOperation> parameters : query.getParametersList()) {
+                params.add(formatParameters(parameters));
+            }
+        }
+        log.atWarn()
+                .addKeyValue("elapsedMs", execInfo.getElapsedTime())
+                .addKeyValue("thresholdMs", thresholdMillis)
+                .addKeyValue("sql", String.join("; ", sql))
+                .addKeyValue("params", params)
+                .addKeyValue("batch", execInfo.isBatch())
+                .addKeyValue("batchSize", execInfo.getBatchSize())
+                .addKeyValue("success", execInfo.isSuccess())
+                .addKeyValue("connectionId", execInfo.getConnectionId())
+                .log("Slow query took {} ms", execInfo.getElapsedTime());
+    }
+
+    // Utility: "(v1,v2,...)" for one execution, in parameter order
+    static String formatParameters(List<ParameterSetOperation> parameters) {
+        List<ParameterSetOperation> ordered = new ArrayList<>(parameters);
+        ordered.sort((a, b) -> compareIndex(a.getArgs()[0], b.getArgs()[0]));
+        StringJoiner values = new StringJoiner(",", "(", ")");
+        for (ParameterSetOperation parameter : ordered) {
+            if (ParameterSetOperation.isSetNullParameterOperation(parameter)) {
+                values.add("NULL");
+                continue;
+            }
+            Object[] args = parameter.getArgs();
+            values.add(args.length > 1 ? truncate(String.valueOf(args[1])) : "");
+        }
+        return values.toString();
+    }
+
+    private static int compareIndex(Object a, Object b) {
+        if (a instanceof Integer x && b instanceof Integer y) {
+            return Integer.compare(x, y);
+        }
+        return String.valueOf(a).compareTo(String.valueOf(b));
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= MAX_VALUE_LENGTH ? value : value.substring(0, MAX_VALUE_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,99 @@
+package com.sparta.spartaglobalacademy.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * A past course moved out of {@code courses} by the archiver. Rows are written only by the
+ * archiver's SQL and never change afterwards, so the entity is read-only and keeps the trainer as
+ * a plain id plus name rather than an association.
+ */
+@Entity
+@Immutable
+@Table(name = "courses_archive", schema = "sparta_academy", indexes = {
+        @Index(name = "idx_archive_enroll_date", columnList = "enroll_date"),
+        @Index(name = "idx_archive_trainer", columnList = "trainer_id")
+})
+public class ArchivedCourseEntity {
+    @Id
+    @Column(name = "course_id", nullable = false)
+    private Integer id;
+
+    @Column(name = "title", nullable = false, length = 50)
+    private String title;
+
+    @Lob
+    @Column(name = "description", nullable = false)
+    private String description;
+
+    @Column(name = "enroll_date", nullable = false)
+    private LocalDate enrollDate;
+
+    @Column(name = "trainer_id", nullable = false)
+    private Integer trainerId;
+
+    @Column(name = "trainer_name", nullable = false, length = 100)
+    private String trainerName;
+
+    @Column(name = "archived_at")
+    private Instant archivedAt;
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDate getEnrollDate() {
+        return enrollDate;
+    }
+
+    public void setEnrollDate(LocalDate enrollDate) {
+        this.enrollDate = enrollDate;
+    }
+
+    public Integer getTrainerId() {
+        return trainerId;
+    }
+
+    public void setTrainerId(Integer trainerId) {
+        this.trainerId = trainerId;
+    }
+
+    public String getTrainerName() {
+        return trainerName;
+    }
+
+    public void setTrainerName(String trainerName) {
+        this.trainerName = trainerName;
+    }
+
+    public Instant getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(Instant archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+}
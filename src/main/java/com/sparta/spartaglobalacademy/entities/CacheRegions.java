@@ -0,0 +1,17 @@
+package com.sparta.spartaglobalacademy.entities;
+
+/**
+ * Hibernate second-level cache region names; each one is configured in {@code ehcache.xml}.
+ */
+public final class CacheRegions {
+
+    public static final String COURSE = "academy.course";
+    public static final String TRAINER = "academy.trainer";
+    public static final String TRAINER_COURSES = "academy.trainer.courses";
+
+    // Collection role cached in TRAINER_COURSES, used to evict it
+    public static final String TRAINER_COURSES_ROLE = TrainerEntity.class.getName() + ".courses";
+
+    private CacheRegions() {
+    }
+}
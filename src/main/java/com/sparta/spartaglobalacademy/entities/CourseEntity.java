@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
 
 import java.time.Instant;
@@ -14,10 +16,14 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.JsonBackReference;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COURSE)
 @Table(name = "courses", schema = "sparta_academy", indexes = {
+        @Index(name = "uq_course_title_key", columnList = "title_key", unique = true),
         @Index(name = "idx_course_title", columnList = "title"),
         @Index(name = "idx_course_enroll_date", columnList = "enroll_date"),
-        @Index(name = "idx_course_trainer", columnList = "trainer_id")
+        @Index(name = "idx_course_trainer", columnList = "trainer_id"),
+        @Index(name = "idx_course_updated_at", columnList = "updated_at")
 })
 public class CourseEntity {
     @Id
@@ -30,6 +36,10 @@ public class CourseEntity {
     @Column(name = "title", nullable = false, length = 50)
     private String title;
 
+    // Generated by the database from the title; only ever queried, so the loaded value may be stale
+    @Column(name = "title_key", insertable = false, updatable = false)
+    private String titleKey;
+
     @NotNull
     @Lob
     @Column(name = "description", nullable = false)
@@ -44,12 +54,13 @@ public class CourseEntity {
     @JsonBackReference  // prevents infinite recursion
     private TrainerEntity trainer;
 
+    // Set by the database (DEFAULT / ON UPDATE CURRENT_TIMESTAMP); the catalogue snapshot catches up on updated_at
     @ColumnDefault("CURRENT_TIMESTAMP")
-    @Column(name = "created_at")
+    @Column(name = "created_at", insertable = false, updatable = false)
     private Instant createdAt;
 
     @ColumnDefault("CURRENT_TIMESTAMP")
-    @Column(name = "updated_at")
+    @Column(name = "updated_at", insertable = false, updatable = false)
     private Instant updatedAt;
 
     public Integer getId() {
@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
 
 import java.util.List;
@@ -14,8 +16,11 @@ import java.time.Instant;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TRAINER)
 @Table(name = "trainers", schema = "sparta_academy", indexes = {
-        @Index(name = "idx_trainer_name", columnList = "full_name")
+        @Index(name = "idx_trainer_name", columnList = "full_name"),
+        @Index(name = "idx_trainer_updated_at", columnList = "updated_at")
 })
 public class TrainerEntity {
     @Id
@@ -28,15 +33,17 @@ public class TrainerEntity {
     @Column(name = "full_name", nullable = false, length = 100)
     private String fullName;
 
+    // Maintained by the database, as for courses
     @ColumnDefault("CURRENT_TIMESTAMP")
-    @Column(name = "created_at")
+    @Column(name = "created_at", insertable = false, updatable = false)
     private Instant createdAt;
 
     @ColumnDefault("CURRENT_TIMESTAMP")
-    @Column(name = "updated_at")
+    @Column(name = "updated_at", insertable = false, updatable = false)
     private Instant updatedAt;
 
     @OneToMany(mappedBy = "trainer")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TRAINER_COURSES)
     @JsonManagedReference
     private List<CourseEntity> courses;
 
@@ -0,0 +1,7 @@
+package com.sparta.spartaglobalacademy.events;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,13 @@
+package com.sparta.spartaglobalacademy.events;
+
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+
+/**
+ * Published by CourseService after a course write.
+ * {@code course} is the saved state, or null for {@link ChangeType#DELETED}.
+ */
+public record CourseChangedEvent(
+        ChangeType type,
+        Integer courseId,
+        CourseRecord course
+) {}
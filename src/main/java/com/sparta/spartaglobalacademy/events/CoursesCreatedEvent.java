@@ -0,0 +1,14 @@
+package com.sparta.spartaglobalacademy.events;
+
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+
+import java.util.List;
+
+/**
+ * Published once by CourseService after a batch create, in place of one {@link CourseChangedEvent}
+ * per course, so in-transaction listeners can write all rows with one batched statement.
+ * {@code courses} is the saved state of every course, in batch order.
+ */
+public record CoursesCreatedEvent(
+        List<CourseRecord> courses
+) {}
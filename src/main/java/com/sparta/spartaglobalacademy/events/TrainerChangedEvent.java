@@ -0,0 +1,13 @@
+package com.sparta.spartaglobalacademy.events;
+
+import com.sparta.spartaglobalacademy.records.TrainerRecord;
+
+/**
+ * Published by TrainerService after a trainer write.
+ * {@code trainer} is the saved state, or null for {@link ChangeType#DELETED}.
+ */
+public record TrainerChangedEvent(
+        ChangeType type,
+        Integer trainerId,
+        TrainerRecord trainer
+) {}
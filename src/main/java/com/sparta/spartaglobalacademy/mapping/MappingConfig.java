@@ -0,0 +1,17 @@
+package com.sparta.spartaglobalacademy.mapping;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MappingConfig {
+
+    // Parallelism 0 means one worker per available processor
+    @Bean
+    public ParallelMapper parallelMapper(@Value("${academy.mapping.parallelism:0}") int parallelism,
+                                         @Value("${academy.mapping.parallel-threshold:20000}") int threshold) {
+        int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ParallelMapper(workers, threshold);
+    }
+}
@@ -0,0 +1,98 @@
+package com.sparta.spartaglobalacademy.mapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Converts large lists (entities to records) on a fork/join pool, in chunks written straight into
+ * their slots of the result; lists below the threshold, or with a single worker, stay on the caller.
+ * <p>
+ * The mapping function runs on pool threads, so it must only read state the caller already
+ * loaded (no lazy associations); the MapStruct mappers read plain fields and proxy ids.
+ * See {@code ParallelMappingBenchmark} for choosing the threshold.
+ */
+public class ParallelMapper implements AutoCloseable {
+
+    // Smallest chunk worth a task of its own
+    static final int MIN_CHUNK = 1024;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public ParallelMapper(int parallelism, int threshold) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+        this.pool = parallelism == 1 ? null : new ForkJoinPool(parallelism);
+        this.threshold = threshold;
+    }
+
+    /**
+     * Map every element in order into a new mutable list.
+     */
+    public <S, T> List<T> map(List<S> source, Function<? super S, ? extends T> mapper) {
+        int size = source.size();
+        if (pool == null || size < threshold) {
+            List<T> results = new ArrayList<>(size);
+            for (S element : source) {
+                results.add(mapper.apply(element));
+            }
+            return results;
+        }
+        List<S> indexed = source instanceof RandomAccess ? source : new ArrayList<>(source);
+        Object[] results = new Object[size];
+        int chunk = Math.max(MIN_CHUNK, size / (pool.getParallelism() * 4));
+        pool.invoke(new MapChunk<>(indexed, results, mapper, 0, size, chunk));
+        @SuppressWarnings("unchecked")
+        List<T> mapped = (List<T>) new ArrayList<>(Arrays.asList(results));
+        return mapped;
+    }
+
+    public int threshold() {
+        return threshold;
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdownNow();
+        }
+    }
+
+    private static final class MapChunk<S, T> extends RecursiveAction {
+        private final List<S> source;
+        private final Object[] results;
+        private final Function<? super S, ? extends T> mapper;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        MapChunk(List<S> source, Object[] results, Function<? super S, ? extends T> mapper,
+                 int from, int to, int chunk) {
+            this.source = source;
+            this.results = results;
+            this.mapper = mapper;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunk) {
+                for (int i = from; i < to; i++) {
+                    results[i] = mapper.apply(source.get(i));
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MapChunk<>(source, results, mapper, from, mid, chunk),
+                    new MapChunk<>(source, results, mapper, mid, to, chunk));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.spartaglobalacademy.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Stand-in sink that writes each message to the application log.
+ */
+public class LoggingOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingOutboxSink.class);
+
+    @Override
+    public void deliver(List<OutboxMessage> batch) {
+        for (OutboxMessage message : batch) {
+            log.info("outbox {} {} {} #{}", message.aggregateType(), message.aggregateId(),
+                    message.eventType(), message.eventId());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.sparta.spartaglobalacademy.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+
+@Configuration
+@ConditionalOnProperty(prefix = "academy.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxConfig {
+
+    @Bean
+    public OutboxSink outboxSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        if ("file".equalsIgnoreCase(properties.sink())) {
+            return new FileOutboxSink(Path.of(properties.sinkFile()), objectMapper);
+        }
+        return new LoggingOutboxSink();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "academy.outbox", name = "relay-enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxRelay outboxRelay(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   OutboxSink outboxSink, OutboxProperties properties, MeterRegistry meterRegistry,
+                                   ShardRouter shardRouter) {
+        return new OutboxRelay(jdbcTemplate, new TransactionTemplate(transactionManager), outboxSink,
+                properties.batchSize(), properties.maxBatchesPerRun(), meterRegistry, shardRouter);
+    }
+}
@@ -0,0 +1,13 @@
+package com.sparta.spartaglobalacademy.outbox;
+
+import org.springframework.dao.TransientDataAccessException;
+
+/**
+ * Raised when the sink fails; rolls the claimed batch back so it is retried.
+ */
+public class OutboxDeliveryException extends TransientDataAccessException {
+
+    public OutboxDeliveryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
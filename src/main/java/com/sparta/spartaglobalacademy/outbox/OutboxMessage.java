@@ -0,0 +1,17 @@
+package com.sparta.spartaglobalacademy.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.Instant;
+
+/**
+ * One row of the outbox_events table as handed to an {@link OutboxSink}.
+ */
+public record OutboxMessage(
+        long eventId,
+        String aggregateType,
+        int aggregateId,
+        String eventType,
+        @JsonRawValue String payload,
+        Instant createdAt
+) {}
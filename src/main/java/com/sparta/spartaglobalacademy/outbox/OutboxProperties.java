@@ -0,0 +1,20 @@
+package com.sparta.spartaglobalacademy.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the transactional outbox, bound from {@code academy.outbox.*}.
+ */
+@ConfigurationProperties(prefix = "academy.outbox")
+public record OutboxProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("true") boolean relayEnabled,
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("50") int maxBatchesPerRun,
+
+        // log (default) or file
+        @DefaultValue("log") String sink,
+        @DefaultValue("outbox-events.jsonl") String sinkFile
+) {
+}
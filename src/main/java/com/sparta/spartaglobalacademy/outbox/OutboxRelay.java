@@ -0,0 +1,121 @@
+package com.sparta.spartaglobalacademy.outbox;
+
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drains outbox_events to an {@link OutboxSink} in batches.
+ * <p>
+ * Each batch is claimed with {@code FOR UPDATE SKIP LOCKED}, so several instances can relay in
+ * parallel without blocking each other. Only the oldest pending event of each aggregate is
+ * eligible (the NOT EXISTS guard), which keeps delivery ordered per aggregate even when another
+ * relay holds an earlier event. Rows are deleted in the same transaction after the sink accepts
+ * the batch; a sink failure rolls back and the batch is retried. When sharded, each shard's outbox
+ * holds the events of its own writes and every poll drains them all in turn.
+ */
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    static final String CLAIM_SQL = """
+            SELECT o.event_id, o.aggregate_type, o.aggregate_id, o.event_type, o.payload, o.created_at
+            FROM outbox_events o
+            WHERE NOT EXISTS (
+                SELECT 1 FROM outbox_events p
+                WHERE p.aggregate_type = o.aggregate_type
+                  AND p.aggregate_id = o.aggregate_id
+                  AND p.event_id < o.event_id)
+            ORDER BY o.event_id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED""";
+
+    private static final RowMapper<OutboxMessage> ROW_MAPPER = (rs, rowNum) -> {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return new OutboxMessage(
+                rs.getLong("event_id"),
+                rs.getString("aggregate_type"),
+                rs.getInt("aggregate_id"),
+                rs.getString("event_type"),
+                rs.getString("payload"),
+                createdAt == null ? null : createdAt.toInstant());
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxSink sink;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Counter delivered;
+    private final ShardRouter shards;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, OutboxSink sink,
+                       int batchSize, int maxBatchesPerRun, MeterRegistry meterRegistry, ShardRouter shards) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shards = shards;
+        this.transactionTemplate = transactionTemplate;
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.delivered = Counter.builder("academy.outbox.delivered")
+                .description("Outbox events handed to the sink")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${academy.outbox.poll-interval:1000}", initialDelayString = "${academy.outbox.initial-delay:5000}")
+    public void poll() {
+        try {
+            shards.forEachShard(() -> drain());
+        } catch (DataAccessException e) {
+            log.warn("Outbox relay poll failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Relay batches until the outbox is empty or the per-run cap is reached.
+     *
+     * @return number of events delivered
+     */
+    public int drain() {
+        int total = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer count = transactionTemplate.execute(status -> relayBatch());
+            if (count == null || count == 0) {
+                break;
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    private int relayBatch() {
+        List<OutboxMessage> batch = jdbcTemplate.query(CLAIM_SQL, ROW_MAPPER, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        try {
+            sink.deliver(batch);
+        } catch (Exception e) {
+            throw new OutboxDeliveryException("Outbox sink rejected batch starting at event " + batch.get(0).eventId(), e);
+        }
+
+        List<Object[]> ids = new ArrayList<>(batch.size());
+        for (OutboxMessage message : batch) {
+            ids.add(new Object[]{message.eventId()});
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM outbox_events WHERE event_id = ?", ids);
+        delivered.increment(batch.size());
+        return batch.size();
+    }
+}
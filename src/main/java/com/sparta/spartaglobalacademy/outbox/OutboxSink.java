@@ -0,0 +1,15 @@
+package com.sparta.spartaglobalacademy.outbox;
+
+import java.util.List;
+
+/**
+ * Destination for relayed outbox messages.
+ * <p>
+ * Messages arrive in event id order, at most one per aggregate per batch. Throwing rolls the
+ * batch back so it is retried on the next poll, which makes delivery at-least-once; sinks
+ * should therefore be idempotent on {@link OutboxMessage#eventId()}.
+ */
+public interface OutboxSink {
+
+    void deliver(List<OutboxMessage> batch) throws Exception;
+}
@@ -0,0 +1,85 @@
+package com.sparta.spartaglobalacademy.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.spartaglobalacademy.events.ChangeType;
+import com.sparta.spartaglobalacademy.events.CourseChangedEvent;
+import com.sparta.spartaglobalacademy.events.CoursesCreatedEvent;
+import com.sparta.spartaglobalacademy.events.TrainerChangedEvent;
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records every course and trainer change in outbox_events inside the writing transaction,
+ * so the change and its event commit or roll back together. Costs one INSERT per write, or one
+ * batched INSERT for a batch create.
+ */
+@Component
+@ConditionalOnProperty(prefix = "academy.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxWriter {
+
+    static final String INSERT_SQL =
+            "INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public OutboxWriter(JdbcTemplate jdbcTemplate, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    public void onCourseChanged(CourseChangedEvent event) {
+        append("COURSE", event.courseId(), event.type(), event.course());
+    }
+
+    @EventListener
+    public void onCoursesCreated(CoursesCreatedEvent event) {
+        flushIfInTransaction();
+        List<Object[]> rows = new ArrayList<>(event.courses().size());
+        for (CourseRecord course : event.courses()) {
+            rows.add(new Object[]{"COURSE", course.id(), ChangeType.CREATED.name(), toJson(course)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    @EventListener
+    public void onTrainerChanged(TrainerChangedEvent event) {
+        append("TRAINER", event.trainerId(), event.type(), event.trainer());
+    }
+
+    private void append(String aggregateType, Integer aggregateId, ChangeType type, Object state) {
+        flushIfInTransaction();
+        jdbcTemplate.update(INSERT_SQL, aggregateType, aggregateId, type.name(), toJson(state));
+    }
+
+    private void flushIfInTransaction() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // Flush the entity write first so its row lock is held before the outbox id is
+            // assigned; concurrent writers to the same aggregate then get ids in commit order.
+            entityManager.flush();
+        }
+    }
+
+    private String toJson(Object state) {
+        if (state == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(state);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise outbox payload", e);
+        }
+    }
+}
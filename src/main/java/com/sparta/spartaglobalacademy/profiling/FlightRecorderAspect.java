@@ -0,0 +1,164 @@
+package com.sparta.spartaglobalacademy.profiling;
+
+import com.sparta.spartaglobalacademy.entities.CourseEntity;
+import com.sparta.spartaglobalacademy.entities.TrainerEntity;
+import com.sparta.spartaglobalacademy.records.CourseLookupRecord;
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.records.TrainerLookupRecord;
+import com.sparta.spartaglobalacademy.records.TrainerRecord;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Wraps service, mapper and repository calls in custom JFR events so an on-demand recording
+ * (see {@link FlightRecorderEndpoint}) shows which call, and which query under it, took the time.
+ * <p>
+ * When no recording has the events enabled the advice only pays for an {@code isEnabled()} check.
+ */
+@Aspect
+public class FlightRecorderAspect {
+
+    private static final String REPOSITORY_PACKAGE = "com.sparta.spartaglobalacademy.repositories";
+
+    // Spring Data proxies implement the repository interface; inherited methods declare CrudRepository etc.
+    private static final ClassValue<String> REPOSITORY_NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> proxyClass) {
+            for (Class<?> type : proxyClass.getInterfaces()) {
+                if (type.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                    return type.getSimpleName();
+                }
+            }
+            return proxyClass.getSimpleName();
+        }
+    };
+
+    @Around("execution(public * com.sparta.spartaglobalacademy.services.CourseService.*(..))"
+            + " || execution(public * com.sparta.spartaglobalacademy.services.TrainerService.*(..))")
+    public Object recordServiceCall(ProceedingJoinPoint call) throws Throwable {
+        ServiceCallEvent event = new ServiceCallEvent();
+        if (!event.isEnabled()) {
+            return call.proceed();
+        }
+        event.begin();
+        Object result = null;
+        try {
+            result = call.proceed();
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = call.getSignature().getDeclaringType().getSimpleName();
+                event.method = call.getSignature().getName();
+                event.entityId = entityId(call.getArgs(), result);
+                event.rows = rows(result);
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(* com.sparta.spartaglobalacademy.records.CourseMapper+.*(..))"
+            + " || execution(* com.sparta.spartaglobalacademy.records.TrainerMapper+.*(..))")
+    public Object recordMapperCall(ProceedingJoinPoint call) throws Throwable {
+        MapperCallEvent event = new MapperCallEvent();
+        if (!event.isEnabled()) {
+            return call.proceed();
+        }
+        event.begin();
+        Object result = null;
+        try {
+            result = call.proceed();
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.mapper = call.getSignature().getDeclaringType().getSimpleName();
+                event.method = call.getSignature().getName();
+                event.entityId = entityId(call.getArgs(), result);
+                event.rows = rows(result);
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(* com.sparta.spartaglobalacademy.repositories.*+.*(..))")
+    public Object recordRepositoryCall(ProceedingJoinPoint call) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return call.proceed();
+        }
+        event.begin();
+        Object result = null;
+        try {
+            result = call.proceed();
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = REPOSITORY_NAMES.get(call.getThis().getClass());
+                event.method = call.getSignature().getName();
+                event.entityId = entityId(call.getArgs(), result);
+                event.rows = rows(result);
+                event.commit();
+            }
+        }
+    }
+
+    // Utility: the course/trainer a call was about: an ID argument, else the entity or record passed or returned
+    static int entityId(Object[] args, Object result) {
+        for (Object arg : args) {
+            if (arg instanceof Integer id) {
+                return id;
+            }
+        }
+        int id = args.length > 0 ? idOf(args[0]) : 0;
+        return id != 0 ? id : idOf(result);
+    }
+
+    // Utility: records returned; counts and flags report 0
+    static int rows(Object result) {
+        if (result == null || result instanceof Boolean || result instanceof Number) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Iterable<?> iterable) {
+            int count = 0;
+            for (Object ignored : iterable) {
+                count++;
+            }
+            return count;
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof CourseLookupRecord lookup) {
+            return lookup.found().size();
+        }
+        if (result instanceof TrainerLookupRecord lookup) {
+            return lookup.found().size();
+        }
+        return 1;
+    }
+
+    private static int idOf(Object value) {
+        Integer id = null;
+        if (value instanceof CourseEntity course) {
+            id = course.getId();
+        } else if (value instanceof TrainerEntity trainer) {
+            id = trainer.getId();
+        } else if (value instanceof CourseRecord course) {
+            id = course.id();
+        } else if (value instanceof TrainerRecord trainer) {
+            id = trainer.id();
+        } else if (value instanceof Optional<?> optional && optional.isPresent()) {
+            return idOf(optional.get());
+        }
+        return id == null ? 0 : id;
+    }
+}
@@ -0,0 +1,168 @@
+package com.sparta.spartaglobalacademy.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code /actuator/jfr}: one on-demand Java Flight Recorder recording at a time.
+ * <ul>
+ *   <li>{@code POST} with an optional {@code profile} ({@code default} or {@code profile}) starts it</li>
+ *   <li>{@code GET} reports whether one is running</li>
+ *   <li>{@code DELETE} stops it and returns the {@code .jfr} file</li>
+ * </ul>
+ * Recordings stop on their own after the configured maximum duration and are bounded in size,
+ * so a forgotten one cannot fill the disk. The profile's settings are used with the events that
+ * capture environment variables and system properties turned off, as those often hold credentials
+ * and the recording leaves the process over HTTP.
+ */
+@Endpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderEndpoint.class);
+    private static final String RECORDING_NAME = "academy-on-demand";
+    private static final String DEFAULT_PROFILE = "profile";
+    private static final String[] DISABLED_EVENTS = {"jdk.InitialEnvironmentVariable", "jdk.InitialSystemProperty"};
+
+    public record RecordingStatus(String name, String profile, String state, Instant startedAt,
+                                  Duration maxDuration, long maxSizeBytes) {}
+
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+
+    // Guarded by this
+    private Recording recording;
+    private String recordingProfile;
+
+    public FlightRecorderEndpoint(Duration maxDuration, long maxSizeBytes) {
+        this.maxDuration = maxDuration;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    @ReadOperation
+    public synchronized WebEndpointResponse<RecordingStatus> status() {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        return new WebEndpointResponse<>(statusOf(recording));
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<RecordingStatus> start(@Nullable String profile) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return new WebEndpointResponse<>(statusOf(recording), 409);
+        }
+        String name = (profile == null || profile.isBlank()) ? DEFAULT_PROFILE : profile;
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(name);
+        } catch (IOException | ParseException e) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        closeRecording();
+        Recording started = new Recording(settings(configuration));
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setDuration(maxDuration);
+        started.setMaxSize(maxSizeBytes);
+        started.start();
+        recording = started;
+        recordingProfile = name;
+        log.info("Started JFR recording with profile '{}' (stops by itself after {})", name, maxDuration);
+        return new WebEndpointResponse<>(statusOf(started));
+    }
+
+    @DeleteOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> stop() {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            Path file = Files.createTempFile("academy-", ".jfr");
+            recording.dump(file);
+            log.info("Stopped JFR recording, {} bytes", Files.size(file));
+            return new WebEndpointResponse<>(new TemporaryFileResource(file.toFile()));
+        } catch (IOException e) {
+            log.warn("Failed to dump JFR recording: {}", e.getMessage());
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        } finally {
+            closeRecording();
+        }
+    }
+
+    // The profile's settings minus the events that would copy secrets into the recording
+    static Map<String, String> settings(Configuration configuration) {
+        Map<String, String> settings = new HashMap<>(configuration.getSettings());
+        for (String event : DISABLED_EVENTS) {
+            settings.put(event + "#enabled", "false");
+        }
+        return settings;
+    }
+
+    private RecordingStatus statusOf(Recording r) {
+        return new RecordingStatus(r.getName(), recordingProfile, r.getState().name(), r.getStartTime(),
+                r.getDuration(), r.getMaxSize());
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+            recordingProfile = null;
+        }
+    }
+
+    // Deletes the dump once the response body has been streamed
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(File file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+
+        @Override
+        public boolean isFile() {
+            // Forces the body through getInputStream() rather than a zero-copy file transfer
+            return false;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.sparta.spartaglobalacademy.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("academy.MapperCall")
+@Label("Mapper Call")
+@Category({"Sparta Academy", "Mapping"})
+@Description("An entity/record conversion through CourseMapper or TrainerMapper")
+@StackTrace(false)
+class MapperCallEvent extends Event {
+
+    @Label("Mapper")
+    String mapper;
+
+    @Label("Method")
+    String method;
+
+    @Label("Entity ID")
+    @Description("ID of the mapped course or trainer, 0 when it has none yet")
+    int entityId;
+
+    @Label("Rows")
+    @Description("Objects produced by the mapping")
+    int rows;
+}
@@ -0,0 +1,33 @@
+package com.sparta.spartaglobalacademy.profiling;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Configuration
+public class ProfilingConfig {
+
+    @Bean
+    public FlightRecorderAspect flightRecorderAspect() {
+        return new FlightRecorderAspect();
+    }
+
+    // Off unless asked for, and then only on the separate management port (see application-profiling.properties)
+    @Bean
+    @ConditionalOnProperty(prefix = "academy.jfr", name = "enabled", havingValue = "true")
+    public FlightRecorderEndpoint flightRecorderEndpoint(
+            @Value("${academy.jfr.max-duration:10m}") Duration maxDuration,
+            @Value("${academy.jfr.max-size:250MB}") DataSize maxSize,
+            @Value("${server.port:8080}") int serverPort,
+            @Value("${management.server.port:#{null}}") Integer managementPort) {
+        if (managementPort == null || managementPort == serverPort) {
+            throw new IllegalStateException(
+                    "academy.jfr.enabled needs management.server.port set to a port other than server.port");
+        }
+        return new FlightRecorderEndpoint(maxDuration, maxSize.toBytes());
+    }
+}
@@ -0,0 +1,30 @@
+package com.sparta.spartaglobalacademy.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("academy.RepositoryCall")
+@Label("Repository Call")
+@Category({"Sparta Academy", "Database"})
+@Description("A Spring Data repository method, i.e. the query or write issued for it")
+@StackTrace(false)
+class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Entity ID")
+    @Description("ID argument of the call, 0 when there was none")
+    int entityId;
+
+    @Label("Rows")
+    @Description("Rows returned")
+    int rows;
+}
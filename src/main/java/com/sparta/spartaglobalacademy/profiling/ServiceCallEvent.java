@@ -0,0 +1,30 @@
+package com.sparta.spartaglobalacademy.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("academy.ServiceCall")
+@Label("Service Call")
+@Category({"Sparta Academy", "Service"})
+@Description("A public CourseService or TrainerService method")
+@StackTrace(false)
+class ServiceCallEvent extends Event {
+
+    @Label("Service")
+    String service;
+
+    @Label("Method")
+    String method;
+
+    @Label("Entity ID")
+    @Description("Course or trainer the call was about, 0 when it was not about a single one")
+    int entityId;
+
+    @Label("Rows")
+    @Description("Records returned")
+    int rows;
+}
@@ -0,0 +1,103 @@
+package com.sparta.spartaglobalacademy.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * AIMD concurrency limit for write requests.
+ * <p>
+ * The limit grows by one after a full "window" of fast completions and is cut by 10% when a
+ * request takes longer than the latency threshold (at most once per cooldown, so one slow burst
+ * does not collapse it to the minimum). Write latency is dominated by the database, so a rising
+ * limit tracks what MySQL can absorb and a falling one sheds load before the Hikari pool drains.
+ * All state is held in atomics.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final long decreaseCooldownNanos;
+    private final LongSupplier clock;
+
+    private final AtomicInteger limit;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger fastSinceIncrease = new AtomicInteger();
+    private final AtomicLong lastDecrease;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      long latencyThresholdNanos, long decreaseCooldownNanos) {
+        this(initialLimit, minLimit, maxLimit, latencyThresholdNanos, decreaseCooldownNanos, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                               long latencyThresholdNanos, long decreaseCooldownNanos, LongSupplier clock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.decreaseCooldownNanos = decreaseCooldownNanos;
+        this.clock = clock;
+        this.limit = new AtomicInteger(Math.max(minLimit, Math.min(maxLimit, initialLimit)));
+        this.lastDecrease = new AtomicLong(clock.getAsLong() - decreaseCooldownNanos);
+    }
+
+    /**
+     * @return true if the caller may proceed; it must then call {@link #release(long)}
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release a permit and feed the observed latency back into the limit.
+     */
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        if (latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else {
+            increase();
+        }
+    }
+
+    private void decrease() {
+        long now = clock.getAsLong();
+        long last = lastDecrease.get();
+        if (now - last < decreaseCooldownNanos || !lastDecrease.compareAndSet(last, now)) {
+            return;
+        }
+        limit.updateAndGet(l -> Math.max(minLimit, (int) (l * 0.9)));
+        fastSinceIncrease.set(0);
+    }
+
+    private void increase() {
+        int current = limit.get();
+        if (current >= maxLimit) {
+            return;
+        }
+        if (fastSinceIncrease.incrementAndGet() >= current) {
+            fastSinceIncrease.set(0);
+            limit.compareAndSet(current, current + 1);
+        }
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,50 @@
+package com.sparta.spartaglobalacademy.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "academy.ratelimit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitConfig(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public TokenBucketRateLimiter writeRateLimiter() {
+        return new TokenBucketRateLimiter(properties.capacity(), properties.refillPerSecond(), properties.maxClients());
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter writeConcurrencyLimiter() {
+        return new AdaptiveConcurrencyLimiter(
+                properties.initialConcurrency(),
+                properties.minConcurrency(),
+                properties.maxConcurrency(),
+                properties.latencyThreshold().toNanos(),
+                properties.decreaseCooldown().toNanos());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new WriteRateLimitInterceptor(
+                        writeRateLimiter(), writeConcurrencyLimiter(), meterRegistry))
+                .addPathPatterns("/courses", "/courses/**", "/trainers", "/trainers/**");
+    }
+
+    // Fully refilled buckets carry no state, so drop them to keep the map bounded by active clients
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleBuckets() {
+        writeRateLimiter().evictIdle();
+    }
+}
@@ -0,0 +1,30 @@
+package com.sparta.spartaglobalacademy.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the write-endpoint rate limiter and the adaptive concurrency limiter.
+ * Bound from {@code academy.ratelimit.*}.
+ */
+@ConfigurationProperties(prefix = "academy.ratelimit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+
+        // Token bucket: burst size and sustained rate per client
+        @DefaultValue("20") int capacity,
+        @DefaultValue("10") double refillPerSecond,
+
+        // Most buckets tracked at once; clients beyond it share one bucket until idle ones are evicted
+        @DefaultValue("100000") int maxClients,
+
+        // Adaptive concurrency limit for in-flight writes
+        @DefaultValue("10") int initialConcurrency,
+        @DefaultValue("1") int minConcurrency,
+        @DefaultValue("40") int maxConcurrency,
+        @DefaultValue("250ms") Duration latencyThreshold,
+        @DefaultValue("1s") Duration decreaseCooldown
+) {
+}
@@ -0,0 +1,89 @@
+package com.sparta.spartaglobalacademy.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-client token bucket implemented as a generic cell rate algorithm (GCRA).
+ * <p>
+ * Each client keeps a single "theoretical arrival time" in an {@link AtomicLong}, so a permit
+ * costs one CAS and no locks. The map itself is a {@link ConcurrentHashMap}, whose bins are
+ * striped internally, so unrelated clients never contend with each other. It holds at most
+ * {@code maxClients} buckets: once full, clients without a bucket share one overflow bucket until
+ * {@link #evictIdle()} frees room, so a flood of new client keys cannot grow it without bound or
+ * earn each of them a fresh burst.
+ */
+public class TokenBucketRateLimiter {
+
+    static final String OVERFLOW_KEY = "overflow";
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxClients;
+    private final LongSupplier clock;
+
+    public TokenBucketRateLimiter(int capacity, double refillPerSecond, int maxClients) {
+        this(capacity, refillPerSecond, maxClients, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(int capacity, double refillPerSecond, int maxClients, LongSupplier clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be at least 1");
+        }
+        if (maxClients < 1) {
+            throw new IllegalArgumentException("maxClients must be at least 1");
+        }
+        if (refillPerSecond <= 0) {
+            throw new IllegalArgumentException("refillPerSecond must be positive");
+        }
+        this.emissionIntervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1L);
+        this.maxClients = maxClients;
+        this.clock = clock;
+    }
+
+    /**
+     * Try to take one token for the given client.
+     *
+     * @return 0 when the request is allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String clientKey) {
+        long now = clock.getAsLong();
+        AtomicLong tat = buckets.get(clientKey);
+        if (tat == null) {
+            // The size check races with other new clients, so the map can overshoot by a few entries
+            String key = buckets.size() < maxClients ? clientKey : OVERFLOW_KEY;
+            tat = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+        while (true) {
+            long current = tat.get();
+            long start = current - now > 0 ? current : now;
+            long wait = start - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drop buckets that have fully refilled; they behave exactly like a new bucket.
+     *
+     * @return number of buckets removed
+     */
+    public int evictIdle() {
+        long now = clock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+        return before - buckets.size();
+    }
+
+    public int trackedClients() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,98 @@
+package com.sparta.spartaglobalacademy.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.security.Principal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guards the write methods of the course and trainer endpoints.
+ * <p>
+ * Requests are first checked against the caller's token bucket (429 when empty) and then
+ * against the adaptive concurrency limit (503 when the database is already saturated).
+ * Reads pass straight through.
+ * <p>
+ * The caller is the authenticated user when there is one, otherwise the client IP. Nothing the
+ * client sends unverified picks the bucket: behind a proxy the IP comes from X-Forwarded-For only
+ * because {@code server.forward-headers-strategy=native} makes Tomcat apply it to the remote
+ * address, and only for requests arriving from {@code server.tomcat.remoteip.internal-proxies}.
+ */
+public class WriteRateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = WriteRateLimitInterceptor.class.getName() + ".start";
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final Counter rateLimited;
+    private final Counter shed;
+
+    public WriteRateLimitInterceptor(TokenBucketRateLimiter rateLimiter,
+                                     AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                     MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.rateLimited = Counter.builder("academy.ratelimit.rejected")
+                .tag("reason", "rate")
+                .description("Write requests rejected by the per-client token bucket")
+                .register(meterRegistry);
+        this.shed = Counter.builder("academy.ratelimit.rejected")
+                .tag("reason", "concurrency")
+                .description("Write requests shed by the adaptive concurrency limit")
+                .register(meterRegistry);
+        Gauge.builder("academy.ratelimit.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("academy.ratelimit.concurrency.inflight", concurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!isWrite(request.getMethod())) {
+            return true;
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(clientKey(request));
+        if (waitNanos > 0) {
+            rateLimited.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1)));
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Rate limit exceeded");
+        }
+
+        if (!concurrencyLimiter.tryAcquire()) {
+            shed.increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Server is busy, please retry");
+        }
+
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start instanceof Long startNanos) {
+            concurrencyLimiter.release(System.nanoTime() - startNanos);
+        }
+    }
+
+    static String clientKey(HttpServletRequest request) {
+        Principal user = request.getUserPrincipal();
+        if (user != null) {
+            return "user:" + user.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static boolean isWrite(String method) {
+        return "POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method) || "DELETE".equals(method);
+    }
+}
@@ -0,0 +1,46 @@
+package com.sparta.spartaglobalacademy.readmodel;
+
+import com.sparta.spartaglobalacademy.events.CourseChangedEvent;
+import com.sparta.spartaglobalacademy.events.CoursesCreatedEvent;
+import com.sparta.spartaglobalacademy.events.TrainerChangedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applies course and trainer writes to course_details_read inside the writing transaction,
+ * so the read model never lags or diverges from the base tables.
+ */
+@Component
+public class CourseDetailsProjector {
+
+    private final CourseDetailsReadRepository readRepository;
+
+    public CourseDetailsProjector(CourseDetailsReadRepository readRepository) {
+        this.readRepository = readRepository;
+    }
+
+    @EventListener
+    public void onCourseChanged(CourseChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> readRepository.insert(event.courseId(), event.course());
+            case UPDATED -> readRepository.update(event.courseId(), event.course());
+            case DELETED -> readRepository.delete(event.courseId());
+        }
+    }
+
+    @EventListener
+    public void onCoursesCreated(CoursesCreatedEvent event) {
+        readRepository.insertAll(event.courses());
+    }
+
+    @EventListener
+    public void onTrainerChanged(TrainerChangedEvent event) {
+        switch (event.type()) {
+            case UPDATED -> readRepository.renameTrainer(event.trainerId(), event.trainer().fullName());
+            case DELETED -> readRepository.deleteByTrainerId(event.trainerId());
+            case CREATED -> {
+                // A new trainer has no courses yet
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.sparta.spartaglobalacademy.readmodel;
+
+import com.sparta.spartaglobalacademy.records.CourseDetailsRecord;
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.sharding.KeysetMerge;
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Access to course_details_read, the denormalised copy of the course_details view.
+ * <p>
+ * Rows carry the trainer name so reads need no join; days_since_enrollment depends on today's
+ * date, so it is computed here on read instead of being stored. When sharded, each shard holds
+ * the rows of its own courses (written in the course's transaction), so reads go to the owning
+ * shard or gather from all of them.
+ */
+@Repository
+public class CourseDetailsReadRepository {
+
+    private static final String COLUMNS =
+            "course_id, course_title, course_description, enroll_date, trainer_id, trainer_name";
+    // Picks up the trainer name by primary key
+    private static final String INSERT_SQL = "INSERT INTO course_details_read (" + COLUMNS + ") "
+            + "SELECT ?, ?, ?, ?, t.trainer_id, t.full_name FROM trainers t WHERE t.trainer_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shards;
+
+    public CourseDetailsReadRepository(JdbcTemplate jdbcTemplate, ShardRouter shards) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shards = shards;
+    }
+
+    public List<CourseDetailsRecord> findAll() {
+        List<List<CourseDetailsRecord>> perShard = shards.scatter(shard ->
+                jdbcTemplate.query("SELECT " + COLUMNS + " FROM course_details_read ORDER BY course_id", rowMapper()));
+        return KeysetMerge.merge(perShard, CourseDetailsRecord::courseId, Integer.MAX_VALUE);
+    }
+
+    public List<CourseDetailsRecord> findByTrainerId(Integer trainerId) {
+        return shards.on(shards.shardOfId(trainerId), () -> jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM course_details_read WHERE trainer_id = ? ORDER BY course_id",
+                rowMapper(), trainerId));
+    }
+
+    public CourseDetailsRecord findById(Integer courseId) {
+        List<CourseDetailsRecord> rows = shards.on(shards.shardOfId(courseId), () -> jdbcTemplate.query(
+                "SELECT " + COLUMNS + " FROM course_details_read WHERE course_id = ?", rowMapper(), courseId));
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    // Insert a new course row
+    public void insert(Integer courseId, CourseRecord course) {
+        jdbcTemplate.update(INSERT_SQL, courseId, course.title(), course.description(), course.enrollDate(), course.trainerId());
+    }
+
+    // Insert the rows of a batch create in one batched statement
+    public void insertAll(List<CourseRecord> courses) {
+        List<Object[]> rows = new ArrayList<>(courses.size());
+        for (CourseRecord course : courses) {
+            rows.add(new Object[]{course.id(), course.title(), course.description(), course.enrollDate(), course.trainerId()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    public void update(Integer courseId, CourseRecord course) {
+        jdbcTemplate.update("UPDATE course_details_read SET course_title = ?, course_description = ?, enroll_date = ?, "
+                        + "trainer_id = ?, trainer_name = (SELECT t.full_name FROM trainers t WHERE t.trainer_id = ?) "
+                        + "WHERE course_id = ?",
+                course.title(), course.description(), course.enrollDate(), course.trainerId(), course.trainerId(), courseId);
+    }
+
+    public void delete(Integer courseId) {
+        jdbcTemplate.update("DELETE FROM course_details_read WHERE course_id = ?", courseId);
+    }
+
+    // Fan a trainer rename out to all of their courses in one statement
+    public int renameTrainer(Integer trainerId, String fullName) {
+        return jdbcTemplate.update("UPDATE course_details_read SET trainer_name = ? WHERE trainer_id = ?", fullName, trainerId);
+    }
+
+    public int deleteByTrainerId(Integer trainerId) {
+        return jdbcTemplate.update("DELETE FROM course_details_read WHERE trainer_id = ?", trainerId);
+    }
+
+    private RowMapper<CourseDetailsRecord> rowMapper() {
+        LocalDate today = LocalDate.now();
+        return (rs, rowNum) -> {
+            LocalDate enrollDate = rs.getObject("enroll_date", LocalDate.class);
+            return new CourseDetailsRecord(
+                    rs.getInt("course_id"),
+                    rs.getString("course_title"),
+                    rs.getString("course_description"),
+                    enrollDate,
+                    rs.getInt("trainer_id"),
+                    rs.getString("trainer_name"),
+                    ChronoUnit.DAYS.between(enrollDate, today));
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.sparta.spartaglobalacademy.records;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+
+@Schema(name = "CourseDetails", description = "Course joined with its trainer")
+public record CourseDetailsRecord(
+        @Schema(description = "Course ID", example = "1")
+        Integer courseId,
+
+        @Schema(description = "Title of the course", example = "Java Basics")
+        String courseTitle,
+
+        @Schema(description = "Short description of the course", example = "Intro to Java")
+        String courseDescription,
+
+        @Schema(description = "Enrollment date", example = "2025-01-15")
+        LocalDate enrollDate,
+
+        @Schema(description = "Trainer ID for this course", example = "2")
+        Integer trainerId,
+
+        @Schema(description = "Full name of the trainer", example = "John Doe")
+        String trainerName,
+
+        @Schema(description = "Days since enrollment opened (negative for future courses)", example = "30")
+        long daysSinceEnrollment
+) {}
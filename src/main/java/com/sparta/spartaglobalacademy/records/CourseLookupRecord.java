@@ -0,0 +1,13 @@
+package com.sparta.spartaglobalacademy.records;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(name = "CourseLookup", description = "Courses resolved from a list of IDs")
+public record CourseLookupRecord(
+        @Schema(description = "Courses that exist, in the order their IDs were requested")
+        List<CourseRecord> found,
+
+        @Schema(description = "Requested IDs with no matching course", example = "[999]")
+        List<Integer> missingIds
+) {}
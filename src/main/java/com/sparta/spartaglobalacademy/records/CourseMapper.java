@@ -1,5 +1,6 @@
 package com.sparta.spartaglobalacademy.records;
 
+import com.sparta.spartaglobalacademy.entities.ArchivedCourseEntity;
 import com.sparta.spartaglobalacademy.entities.CourseEntity;
 import com.sparta.spartaglobalacademy.entities.TrainerEntity;
 import org.mapstruct.Mapper;
@@ -15,6 +16,9 @@ public interface CourseMapper {
     @Mapping(target = "trainerId", source = "trainer.id")
     CourseRecord toRecord(CourseEntity course);
 
+    // Archived entity -> Record (trainerId is a plain column there)
+    CourseRecord toRecord(ArchivedCourseEntity course);
+
     // Record -> Entity
     @Mapping(target = "trainer", expression = "java(fromTrainerId(courseRecord.trainerId()))")
     @Mapping(target = "createdAt", ignore = true)
@@ -0,0 +1,13 @@
+package com.sparta.spartaglobalacademy.records;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(name = "CoursePage", description = "One page of courses in ID order")
+public record CoursePageRecord(
+        @Schema(description = "Courses with IDs above the requested cursor, lowest first")
+        List<CourseRecord> courses,
+
+        @Schema(description = "Pass as 'after' to get the next page; null when this is the last page", example = "20")
+        Integer nextAfter
+) {}
@@ -0,0 +1,27 @@
+package com.sparta.spartaglobalacademy.records;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "IndexUsage", description = "Row operations per index since the server started, from performance_schema")
+public record IndexUsageRecord(
+        @Schema(description = "Table name", example = "courses")
+        String tableName,
+
+        @Schema(description = "Index name; null for rows read without any index (full scans)", example = "idx_course_trainer")
+        String indexName,
+
+        @Schema(description = "Rows fetched through the index", example = "52031")
+        long rowsFetched,
+
+        @Schema(description = "Rows inserted", example = "0")
+        long rowsInserted,
+
+        @Schema(description = "Rows updated", example = "120")
+        long rowsUpdated,
+
+        @Schema(description = "Rows deleted", example = "3")
+        long rowsDeleted,
+
+        @Schema(description = "Total wait time in milliseconds", example = "84.2")
+        double totalMillis
+) {}
@@ -0,0 +1,15 @@
+package com.sparta.spartaglobalacademy.records;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "MonthlyCourseCount", description = "Number of courses a trainer has starting in a month")
+public record MonthlyCourseCountRecord(
+        @Schema(description = "Trainer ID", example = "2")
+        Integer trainerId,
+
+        @Schema(description = "Month of the enrollment date", example = "2025-01")
+        String month,
+
+        @Schema(description = "Number of courses", example = "4")
+        int courses
+) {}
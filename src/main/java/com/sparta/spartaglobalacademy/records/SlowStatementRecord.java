@@ -0,0 +1,33 @@
+package com.sparta.spartaglobalacademy.records;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "SlowStatement", description = "A normalised statement (digest) and its totals since the server started")
+public record SlowStatementRecord(
+        @Schema(description = "Statement digest", example = "3a8c1f0e...")
+        String digest,
+
+        @Schema(description = "Normalised statement text", example = "SELECT ... FROM `courses` WHERE `trainer_id` = ?")
+        String digestText,
+
+        @Schema(description = "Number of executions", example = "1520")
+        long executions,
+
+        @Schema(description = "Total execution time in milliseconds", example = "3120.5")
+        double totalMillis,
+
+        @Schema(description = "Mean execution time in milliseconds", example = "2.05")
+        double avgMillis,
+
+        @Schema(description = "Slowest execution in milliseconds", example = "48.7")
+        double maxMillis,
+
+        @Schema(description = "Rows examined over all executions", example = "1520000")
+        long rowsExamined,
+
+        @Schema(description = "Rows returned over all executions", example = "15200")
+        long rowsSent,
+
+        @Schema(description = "Executions that used no index (full table scans)", example = "0")
+        long noIndexUsed
+) {}
@@ -0,0 +1,21 @@
+package com.sparta.spartaglobalacademy.records;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "TableStats", description = "Size of a table as reported by information_schema")
+public record TableStatsRecord(
+        @Schema(description = "Table name", example = "courses")
+        String tableName,
+
+        @Schema(description = "Estimated row count (InnoDB statistics, not an exact COUNT)", example = "100000")
+        long estimatedRows,
+
+        @Schema(description = "Bytes used by the clustered index (row data)", example = "16269312")
+        long dataBytes,
+
+        @Schema(description = "Bytes used by secondary indexes", example = "9469952")
+        long indexBytes,
+
+        @Schema(description = "Allocated but unused bytes", example = "4194304")
+        long freeBytes
+) {}
@@ -0,0 +1,12 @@
+package com.sparta.spartaglobalacademy.records;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "TopicCourseCount", description = "Number of courses sharing a topic")
+public record TopicCourseCountRecord(
+        @Schema(description = "Course title without its trailing cohort or version numbers", example = "Java Basics")
+        String topic,
+
+        @Schema(description = "Number of courses", example = "12")
+        int courses
+) {}
@@ -0,0 +1,13 @@
+package com.sparta.spartaglobalacademy.records;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(name = "TrainerLookup", description = "Trainers resolved from a list of IDs")
+public record TrainerLookupRecord(
+        @Schema(description = "Trainers that exist, in the order their IDs were requested")
+        List<TrainerRecord> found,
+
+        @Schema(description = "Requested IDs with no matching trainer", example = "[999]")
+        List<Integer> missingIds
+) {}
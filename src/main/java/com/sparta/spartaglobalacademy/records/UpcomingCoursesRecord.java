@@ -0,0 +1,16 @@
+package com.sparta.spartaglobalacademy.records;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+
+@Schema(name = "UpcomingCourses", description = "Number of courses starting in a date window")
+public record UpcomingCoursesRecord(
+        @Schema(description = "First day of the window (inclusive)", example = "2025-01-15")
+        LocalDate from,
+
+        @Schema(description = "Last day of the window (inclusive)", example = "2025-02-13")
+        LocalDate to,
+
+        @Schema(description = "Number of courses starting in the window", example = "7")
+        int courses
+) {}
@@ -0,0 +1,10 @@
+package com.sparta.spartaglobalacademy.repositories;
+
+import com.sparta.spartaglobalacademy.entities.ArchivedCourseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+// Read side of courses_archive; rows are inserted by CourseArchiver, not through JPA
+@Repository
+public interface ArchivedCourseRepository extends JpaRepository<ArchivedCourseEntity, Integer> {
+}
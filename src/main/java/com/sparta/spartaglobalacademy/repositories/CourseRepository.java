@@ -1,18 +1,36 @@
 package com.sparta.spartaglobalacademy.repositories;
 
 import com.sparta.spartaglobalacademy.entities.CourseEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface CourseRepository extends JpaRepository<CourseEntity, Integer> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<CourseEntity> findByTrainerId(Integer trainerId);
     List<CourseEntity> findByTitleContaining(String title);
     List<CourseEntity> findByDescriptionContaining(String description);
     List<CourseEntity> findByTrainerIdAndEnrollDateAfter(Integer trainerId, LocalDate enrollDate);
     long countByTrainerId(Integer trainerId);
-    boolean existsByTitleIgnoreCase(String title);
+    // Title checks compare the normalised title_key (CourseTitleFilter.normalize) so they use its unique index
+    boolean existsByTitleKey(String titleKey);
+    boolean existsByTitleKeyAndIdNot(String titleKey, Integer id);
+
+    // Keyset pages in id order (primary key range scans); shards are merged on the same key
+    List<CourseEntity> findByIdGreaterThanOrderByIdAsc(Integer afterId, Limit limit);
+    List<CourseEntity> findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(String title, Integer afterId, Limit limit);
+
+    // Which of these normalised titles are already taken (one round trip for a whole chunk)
+    @Query("select c.titleKey from CourseEntity c where c.titleKey in :titleKeys")
+    List<String> findExistingTitleKeys(@Param("titleKeys") Collection<String> titleKeys);
 }
@@ -1,10 +1,43 @@
 package com.sparta.spartaglobalacademy.repositories;
 
 import com.sparta.spartaglobalacademy.entities.TrainerEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface TrainerRepository extends JpaRepository<TrainerEntity, Integer> {
 
+    // Small, read-mostly table: ids come from the query cache and rows from the entity cache
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<TrainerEntity> findAll();
+
+    // findAll without the query cache, for sharded reads: cached results are keyed by SQL and
+    // parameters, not by shard, so every shard would be answered with the first shard's ids
+    @Query("select t from TrainerEntity t")
+    List<TrainerEntity> findAllOnShard();
+
+    // Stands in for the foreign key, which partitioned courses tables cannot have
+    @Query("select count(c) > 0 from CourseEntity c where c.trainer.id = :trainerId")
+    boolean hasCourses(@Param("trainerId") Integer trainerId);
+
+    // SELECT ... FOR SHARE: the trainer exists and cannot be deleted until the calling transaction ends
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select t.id from TrainerEntity t where t.id = :trainerId")
+    Optional<Integer> lockForShare(@Param("trainerId") Integer trainerId);
+
+    // SELECT ... FOR UPDATE: waits for course writes holding the share lock, so hasCourses sees them
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id from TrainerEntity t where t.id = :trainerId")
+    Optional<Integer> lockForUpdate(@Param("trainerId") Integer trainerId);
 }
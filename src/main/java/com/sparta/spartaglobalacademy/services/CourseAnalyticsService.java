@@ -0,0 +1,243 @@
+package com.sparta.spartaglobalacademy.services;
+
+import com.sparta.spartaglobalacademy.analytics.CourseColumnStore;
+import com.sparta.spartaglobalacademy.analytics.CourseColumnStore.Columns;
+import com.sparta.spartaglobalacademy.records.MonthlyCourseCountRecord;
+import com.sparta.spartaglobalacademy.records.TopicCourseCountRecord;
+import com.sparta.spartaglobalacademy.records.UpcomingCoursesRecord;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Analytic queries over the in-memory {@link CourseColumnStore}; none of them touch MySQL.
+ * <p>
+ * Every query is a count into dense int buckets: the rows are split into ranges, each range is
+ * scanned with a tight loop over the primitive columns on the fork/join pool, and the partial
+ * bucket arrays are summed.
+ */
+@Service
+public class CourseAnalyticsService {
+
+    // Upper bound on buckets per query (4 MB per partial count array)
+    static final int MAX_BUCKETS = 1 << 20;
+    // Upper bound on buckets across all partial arrays of one query (16 MB): wide queries get fewer tasks
+    static final int MAX_TOTAL_BUCKETS = 1 << 22;
+    static final int MAX_MONTHS = 1200;
+    private static final int MIN_ROWS_PER_TASK = 1 << 15;
+
+    private final CourseColumnStore store;
+    private final ForkJoinPool pool;
+    private final MeterRegistry meterRegistry;
+
+    public CourseAnalyticsService(CourseColumnStore store, MeterRegistry meterRegistry) {
+        if (store == null) {
+            throw new IllegalArgumentException("CourseColumnStore cannot be null");
+        }
+        this.store = store;
+        this.pool = ForkJoinPool.commonPool();
+        this.meterRegistry = meterRegistry;
+    }
+
+    // READ: courses per trainer per month, optionally for one trainer and/or a date range
+    public List<MonthlyCourseCountRecord> coursesPerMonth(Integer trainerId, LocalDate from, LocalDate to) {
+        return timed("courses-per-month", () -> store.read(columns -> {
+            if (columns.rows() == 0) {
+                return List.of();
+            }
+            int fromDay = from != null ? (int) from.toEpochDay() : columns.minDay();
+            int toDay = to != null ? (int) to.toEpochDay() : columns.maxDay();
+            if (toDay < fromDay) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "'from' must not be after 'to'");
+            }
+
+            YearMonth firstMonth = YearMonth.from(LocalDate.ofEpochDay(fromDay));
+            int months = (int) firstMonth.until(YearMonth.from(LocalDate.ofEpochDay(toDay)), ChronoUnit.MONTHS) + 1;
+            if (months > MAX_MONTHS) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Range must not exceed " + MAX_MONTHS + " months");
+            }
+            int trainers = trainerId != null ? 1 : columns.trainerSlotCount();
+            if ((long) trainers * months > MAX_BUCKETS) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Range too wide for all trainers; narrow from/to or filter by trainerId");
+            }
+
+            // Month bucket for every day in range, so the scan does no date arithmetic
+            int[] monthOfDay = new int[toDay - fromDay + 1];
+            for (int day = fromDay; day <= toDay; day++) {
+                monthOfDay[day - fromDay] = (int) firstMonth.until(YearMonth.from(LocalDate.ofEpochDay(day)),
+                        ChronoUnit.MONTHS);
+            }
+
+            int[] trainerSlots = columns.trainerSlots();
+            int[] enrollDays = columns.enrollDays();
+            int only = trainerId != null ? trainerId : -1;
+            int[] counts;
+            if (only < 0) {
+                counts = count(columns.rows(), trainers * months, (start, end, buckets) -> {
+                    for (int row = start; row < end; row++) {
+                        int slot = trainerSlots[row];
+                        int day = enrollDays[row] - fromDay;
+                        if (slot != 0 && day >= 0 && day < monthOfDay.length) {
+                            buckets[slot * months + monthOfDay[day]]++;
+                        }
+                    }
+                });
+            } else {
+                // One trainer: visit only their rows via the per-trainer index
+                int[] rows = columns.rowsOfTrainer(only);
+                counts = count(rows.length, months, (start, end, buckets) -> {
+                    for (int i = start; i < end; i++) {
+                        int day = enrollDays[rows[i]] - fromDay;
+                        if (day >= 0 && day < monthOfDay.length) {
+                            buckets[monthOfDay[day]]++;
+                        }
+                    }
+                });
+            }
+
+            List<MonthlyCourseCountRecord> results = new ArrayList<>();
+            for (int bucket = 0; bucket < counts.length; bucket++) {
+                if (counts[bucket] > 0) {
+                    int trainer = only < 0 ? columns.trainerIdOfSlot(bucket / months) : only;
+                    results.add(new MonthlyCourseCountRecord(trainer,
+                            firstMonth.plusMonths(bucket % months).toString(), counts[bucket]));
+                }
+            }
+            return results;
+        }));
+    }
+
+    // READ: number of courses whose enroll date falls in [from, from + days)
+    public UpcomingCoursesRecord upcomingCourses(LocalDate from, int days) {
+        if (days < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "days must be at least 1");
+        }
+        LocalDate to = from.plusDays(days - 1L);
+        int fromDay = (int) from.toEpochDay();
+        int toDay = (int) to.toEpochDay();
+        int[] counts = timed("upcoming", () -> store.read(columns -> {
+            int[] trainerSlots = columns.trainerSlots();
+            int[] enrollDays = columns.enrollDays();
+            return count(columns.rows(), 1, (start, end, buckets) -> {
+                int n = 0;
+                for (int row = start; row < end; row++) {
+                    int day = enrollDays[row];
+                    if (day >= fromDay && day <= toDay && trainerSlots[row] != 0) {
+                        n++;
+                    }
+                }
+                buckets[0] += n;
+            });
+        }));
+        return new UpcomingCoursesRecord(from, to, counts[0]);
+    }
+
+    // READ: most common course topics (titles without their cohort numbers)
+    public List<TopicCourseCountRecord> coursesPerTopic(int limit) {
+        return timed("courses-per-topic", () -> store.read(columns -> {
+            int[] trainerSlots = columns.trainerSlots();
+            int[] topicCodes = columns.topicCodes();
+            List<String> dictionary = columns.topicDictionary();
+            if (dictionary.size() > MAX_BUCKETS) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Too many distinct topics to group");
+            }
+            int[] counts = count(columns.rows(), dictionary.size(), (start, end, buckets) -> {
+                for (int row = start; row < end; row++) {
+                    if (trainerSlots[row] != 0) {
+                        buckets[topicCodes[row]]++;
+                    }
+                }
+            });
+
+            List<TopicCourseCountRecord> results = new ArrayList<>();
+            for (int code = 0; code < counts.length; code++) {
+                if (counts[code] > 0) {
+                    results.add(new TopicCourseCountRecord(dictionary.get(code), counts[code]));
+                }
+            }
+            results.sort(Comparator.comparingInt(TopicCourseCountRecord::courses).reversed()
+                    .thenComparing(TopicCourseCountRecord::topic));
+            return results.size() > limit ? List.copyOf(results.subList(0, limit)) : results;
+        }));
+    }
+
+    private int[] count(int rows, int buckets, RangeScan scan) {
+        int tasks = tasks(rows, buckets, pool.getParallelism());
+        if (tasks == 1) {
+            int[] counts = new int[buckets];
+            scan.scan(0, rows, counts);
+            return counts;
+        }
+        return pool.invoke(new CountTask(scan, 0, rows, buckets, tasks));
+    }
+
+    // Leaf tasks for a scan: enough to use the pool, but never so many that their partial arrays
+    // together exceed MAX_TOTAL_BUCKETS; 1 means count sequentially on the caller
+    static int tasks(int rows, int buckets, int parallelism) {
+        int byRows = (int) Math.min(parallelism * 4L, (rows + (long) MIN_ROWS_PER_TASK - 1) / MIN_ROWS_PER_TASK);
+        int byMemory = MAX_TOTAL_BUCKETS / Math.max(1, buckets);
+        return Math.max(1, Math.min(byRows, byMemory));
+    }
+
+    private <T> T timed(String query, Supplier<T> body) {
+        return Timer.builder("academy.analytics.query")
+                .tag("query", query)
+                .register(meterRegistry)
+                .record(body);
+    }
+
+    @FunctionalInterface
+    interface RangeScan {
+        void scan(int startRow, int endRow, int[] buckets);
+    }
+
+    private static final class CountTask extends RecursiveTask<int[]> {
+
+        private final RangeScan scan;
+        private final int start;
+        private final int end;
+        private final int buckets;
+        private final int tasks;
+
+        // Splits [start, end) into exactly tasks leaves, each with its own count array
+        CountTask(RangeScan scan, int start, int end, int buckets, int tasks) {
+            this.scan = scan;
+            this.start = start;
+            this.end = end;
+            this.buckets = buckets;
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (tasks <= 1) {
+                int[] counts = new int[buckets];
+                scan.scan(start, end, counts);
+                return counts;
+            }
+            int leftTasks = tasks / 2;
+            int mid = (int) (start + (long) (end - start) * leftTasks / tasks);
+            CountTask left = new CountTask(scan, start, mid, buckets, leftTasks);
+            left.fork();
+            int[] right = new CountTask(scan, mid, end, buckets, tasks - leftTasks).compute();
+            int[] merged = left.join();
+            for (int i = 0; i < buckets; i++) {
+                merged[i] += right[i];
+            }
+            return merged;
+        }
+    }
+}
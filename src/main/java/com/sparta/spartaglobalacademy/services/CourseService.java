@@ -1,62 +1,303 @@
 package com.sparta.spartaglobalacademy.services;
 
+import com.sparta.spartaglobalacademy.cache.CourseNearCache;
+import com.sparta.spartaglobalacademy.entities.ArchivedCourseEntity;
 import com.sparta.spartaglobalacademy.entities.CourseEntity;
+import com.sparta.spartaglobalacademy.events.ChangeType;
+import com.sparta.spartaglobalacademy.events.CourseChangedEvent;
+import com.sparta.spartaglobalacademy.events.CoursesCreatedEvent;
+import com.sparta.spartaglobalacademy.mapping.ParallelMapper;
+import com.sparta.spartaglobalacademy.records.CourseLookupRecord;
 import com.sparta.spartaglobalacademy.records.CourseMapper;
+import com.sparta.spartaglobalacademy.records.CoursePageRecord;
 import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.repositories.ArchivedCourseRepository;
 import com.sparta.spartaglobalacademy.repositories.CourseRepository;
+import com.sparta.spartaglobalacademy.repositories.TrainerRepository;
+import com.sparta.spartaglobalacademy.sharding.KeysetMerge;
+import com.sparta.spartaglobalacademy.sharding.ShardKey;
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import com.sparta.spartaglobalacademy.titles.CourseTitleFilter;
+import com.sparta.spartaglobalacademy.trainers.TrainerIdSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class CourseService {
 
+    // Bounded IN-list size for the duplicate-title lookup during bulk creation
+    static final int TITLE_LOOKUP_CHUNK = 1000;
+
+    // Bounded IN-list size for multi-get by id; larger lookups are split into several queries
+    static final int ID_LOOKUP_CHUNK = 500;
+
+    // Most IDs accepted by one multi-get request
+    public static final int MAX_LOOKUP_IDS = 1000;
+
+    // Largest page of the keyset list and search endpoints
+    static final int MAX_PAGE_SIZE = 100;
+
     private final CourseRepository courseRepository;
     private final CourseMapper courseMapper;
+    private final CourseNearCache nearCache;
+    private final ApplicationEventPublisher events;
+    private final CourseTitleFilter titleFilter;
+    private final TrainerIdSet trainerIds;
+    private final TrainerRepository trainerRepository;
+    private final ArchivedCourseRepository archivedCourseRepository;
+    private final ShardRouter shards;
+    private final ParallelMapper parallelMapper;
+    // courses partitioned by database_partition_courses.sql, and so without fk_courses_trainer
+    private final boolean partitioned;
 
-    public CourseService(CourseRepository courseRepository, CourseMapper courseMapper) {
+    public CourseService(CourseRepository courseRepository, CourseMapper courseMapper,
+                         CourseNearCache nearCache, ApplicationEventPublisher events,
+                         CourseTitleFilter titleFilter, TrainerIdSet trainerIds, TrainerRepository trainerRepository,
+                         ArchivedCourseRepository archivedCourseRepository, ShardRouter shards,
+                         ParallelMapper parallelMapper,
+                         @Value("${academy.courses.partitioned:false}") boolean partitioned) {
         if (courseRepository == null) {
             throw new IllegalArgumentException("CourseRepository cannot be null");
         }
         if (courseMapper == null) {
             throw new IllegalArgumentException("CourseMapper cannot be null");
         }
+        if (nearCache == null) {
+            throw new IllegalArgumentException("CourseNearCache cannot be null");
+        }
+        if (events == null) {
+            throw new IllegalArgumentException("ApplicationEventPublisher cannot be null");
+        }
+        if (titleFilter == null) {
+            throw new IllegalArgumentException("CourseTitleFilter cannot be null");
+        }
+        if (trainerIds == null) {
+            throw new IllegalArgumentException("TrainerIdSet cannot be null");
+        }
+        if (trainerRepository == null) {
+            throw new IllegalArgumentException("TrainerRepository cannot be null");
+        }
+        if (archivedCourseRepository == null) {
+            throw new IllegalArgumentException("ArchivedCourseRepository cannot be null");
+        }
+        if (shards == null) {
+            throw new IllegalArgumentException("ShardRouter cannot be null");
+        }
+        if (parallelMapper == null) {
+            throw new IllegalArgumentException("ParallelMapper cannot be null");
+        }
         this.courseRepository = courseRepository;
         this.courseMapper = courseMapper;
+        this.nearCache = nearCache;
+        this.events = events;
+        this.titleFilter = titleFilter;
+        this.trainerIds = trainerIds;
+        this.trainerRepository = trainerRepository;
+        this.archivedCourseRepository = archivedCourseRepository;
+        this.shards = shards;
+        this.parallelMapper = parallelMapper;
+        this.partitioned = partitioned;
     }
 
     // CREATE a new course with validation
-    public CourseRecord createCourse(CourseEntity course) {
+    @Transactional
+    public CourseRecord createCourse(@ShardKey CourseEntity course) {
         validateCourse(course);
-        CourseEntity saved = courseRepository.save(course);
-        return courseMapper.toRecord(saved);
+        lockTrainers(Set.of(course.getTrainer().getId()));
+        ensureTitleAvailable(course.getTitle(), null);
+        CourseEntity saved;
+        try {
+            saved = courseRepository.save(course);
+        } catch (DataIntegrityViolationException e) {
+            throw titleConflict(e, course.getTitle());
+        }
+        CourseRecord record = courseMapper.toRecord(saved);
+        events.publishEvent(new CourseChangedEvent(ChangeType.CREATED, saved.getId(), record));
+        return record;
+    }
+
+    // CREATE many courses at once; all or nothing, rejected with 409 if any title is taken
+    // (when sharded, all their trainers must be on one shard)
+    @Transactional
+    public List<CourseRecord> createCourses(@ShardKey List<CourseEntity> courses) {
+        if (courses == null || courses.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Courses cannot be empty");
+        }
+        Set<String> titles = new HashSet<>();
+        Set<String> duplicates = new LinkedHashSet<>();
+        Set<Integer> trainers = new LinkedHashSet<>();
+        for (CourseEntity course : courses) {
+            validateCourse(course);
+            trainers.add(course.getTrainer().getId());
+            String title = CourseTitleFilter.normalize(course.getTitle());
+            if (!titles.add(title)) {
+                duplicates.add(title);
+            }
+        }
+        lockTrainers(trainers);
+        duplicates.addAll(findTakenTitles(titles));
+        if (!duplicates.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Course titles already exist: " + duplicates);
+        }
+
+        List<CourseEntity> saved;
+        try {
+            saved = courseRepository.saveAll(courses);
+            // Flush once here so the listeners' writes do not each flush a growing persistence context
+            courseRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw titleConflict(e, titles.toString());
+        }
+        List<CourseRecord> records = new ArrayList<>(saved.size());
+        for (CourseEntity entity : saved) {
+            records.add(courseMapper.toRecord(entity));
+        }
+        events.publishEvent(new CoursesCreatedEvent(records));
+        return records;
     }
 
     // READ: get all courses
     public List<CourseRecord> getAllCourses() {
-        List<CourseEntity> entities = courseRepository.findAll();
+        return getAllCourses(false);
+    }
+
+    // READ: get all courses, followed by archived ones only when asked for (every shard, in shard order);
+    // large result sets are mapped in parallel
+    public List<CourseRecord> getAllCourses(boolean includeArchived) {
         ArrayList<CourseRecord> results = new ArrayList<>();
-        for (CourseEntity e : entities) {
-            results.add(courseMapper.toRecord(e));
+        for (List<CourseEntity> entities : shards.scatter(shard -> courseRepository.findAll())) {
+            results.addAll(parallelMapper.map(entities, courseMapper::toRecord));
+        }
+        if (includeArchived) {
+            for (List<ArchivedCourseEntity> archived : shards.scatter(shard -> archivedCourseRepository.findAll())) {
+                results.addAll(parallelMapper.map(archived, courseMapper::toRecord));
+            }
         }
         return results;
     }
 
-    // READ: get course by ID
-    public CourseRecord getCourseById(Integer id) {
-        CourseEntity entity = courseRepository.findById(id).orElse(null);
-        if (entity == null) {
+    // READ: one keyset page of courses with IDs above afterId, merged across shards in ID order
+    public CoursePageRecord getCoursePage(Integer afterId, int size) {
+        validatePageSize(size);
+        int after = afterId == null ? 0 : afterId;
+        return mergePages(shards.scatter(shard -> courseRepository.findByIdGreaterThanOrderByIdAsc(after, Limit.of(size))), size);
+    }
+
+    // READ: keyset page of courses whose title contains the text (case-insensitive), merged across shards
+    public CoursePageRecord searchCourses(String title, Integer afterId, int size) {
+        if (title == null || title.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search title cannot be empty");
+        }
+        validatePageSize(size);
+        int after = afterId == null ? 0 : afterId;
+        String text = title.trim();
+        return mergePages(shards.scatter(shard ->
+                courseRepository.findByTitleContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(text, after, Limit.of(size))), size);
+    }
+
+    // Each shard returned its first `size` rows past the cursor, so the first `size` of the merge are the page
+    private CoursePageRecord mergePages(List<List<CourseEntity>> perShard, int size) {
+        List<CourseEntity> page = KeysetMerge.merge(perShard, CourseEntity::getId, size);
+        List<CourseRecord> records = new ArrayList<>(page.size());
+        for (CourseEntity entity : page) {
+            records.add(courseMapper.toRecord(entity));
+        }
+        Integer nextAfter = records.size() == size ? records.get(records.size() - 1).id() : null;
+        return new CoursePageRecord(records, nextAfter);
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    // READ: get course by ID (served from the near-cache when possible)
+    public CourseRecord getCourseById(@ShardKey Integer id) {
+        return getCourseById(id, false);
+    }
+
+    // READ: get course by ID, falling back to the archive only when asked for
+    public CourseRecord getCourseById(@ShardKey Integer id, boolean includeArchived) {
+        CourseRecord record = nearCache.get(id, this::loadCourse);
+        if (record == null && includeArchived) {
+            record = archivedCourseRepository.findById(id).map(courseMapper::toRecord).orElse(null);
+        }
+        if (record == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Course not found with ID: " + id);
         }
-        return courseMapper.toRecord(entity);
+        return record;
+    }
+
+    // READ: get many courses by ID in request order; near-cache misses are loaded with one IN query per chunk
+    public CourseLookupRecord getCoursesByIds(List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Course IDs cannot be empty");
+        }
+        if (ids.size() > MAX_LOOKUP_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_LOOKUP_IDS + " IDs per request");
+        }
+        Set<Integer> distinct = new LinkedHashSet<>(ids);
+        Map<Integer, CourseRecord> byId = nearCache.getAll(distinct, this::loadCourses);
+
+        List<CourseRecord> found = new ArrayList<>(byId.size());
+        List<Integer> missing = new ArrayList<>();
+        for (Integer id : distinct) {
+            CourseRecord record = byId.get(id);
+            if (record != null) {
+                found.add(record);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new CourseLookupRecord(found, missing);
+    }
+
+    // Ids are grouped by the shard that owns them and the shards queried in parallel
+    private Map<Integer, CourseRecord> loadCourses(List<Integer> ids) {
+        Map<Integer, List<Integer>> byShard = shards.groupByShard(ids);
+        Map<Integer, CourseRecord> loaded = new HashMap<>();
+        for (List<CourseEntity> entities : shards.scatter(byShard.keySet(), shard -> findAllById(byShard.get(shard)))) {
+            for (CourseEntity entity : entities) {
+                loaded.put(entity.getId(), courseMapper.toRecord(entity));
+            }
+        }
+        return loaded;
+    }
+
+    private List<CourseEntity> findAllById(List<Integer> ids) {
+        List<CourseEntity> found = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_LOOKUP_CHUNK) {
+            List<Integer> chunk = ids.subList(from, Math.min(ids.size(), from + ID_LOOKUP_CHUNK));
+            found.addAll(courseRepository.findAllById(chunk));
+        }
+        return found;
+    }
+
+    private CourseRecord loadCourse(Integer id) {
+        CourseEntity entity = courseRepository.findById(id).orElse(null);
+        return entity == null ? null : courseMapper.toRecord(entity);
     }
 
     // UPDATE: update existing course with validation
-    public CourseRecord updateCourse(Integer id, CourseEntity updatedCourse) {
+    @Transactional
+    public CourseRecord updateCourse(@ShardKey Integer id, @ShardKey CourseEntity updatedCourse) {
         if (id == null || updatedCourse == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Course ID and entity cannot be null");
         }
@@ -67,6 +308,10 @@ public class CourseService {
         }
 
         validateCourse(updatedCourse);
+        lockTrainers(Set.of(updatedCourse.getTrainer().getId()));
+        if (!CourseTitleFilter.normalize(existing.getTitle()).equals(CourseTitleFilter.normalize(updatedCourse.getTitle()))) {
+            ensureTitleAvailable(updatedCourse.getTitle(), id);
+        }
 
         // Update fields
         existing.setTitle(updatedCourse.getTitle());
@@ -74,20 +319,94 @@ public class CourseService {
         existing.setEnrollDate(updatedCourse.getEnrollDate());
         existing.setTrainer(updatedCourse.getTrainer());
 
-        CourseEntity saved = courseRepository.save(existing);
-        return courseMapper.toRecord(saved);
+        CourseEntity saved;
+        try {
+            saved = courseRepository.save(existing);
+            // Flush here so a title clash surfaces as 409 rather than at commit
+            courseRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw titleConflict(e, existing.getTitle());
+        }
+        CourseRecord record = courseMapper.toRecord(saved);
+        events.publishEvent(new CourseChangedEvent(ChangeType.UPDATED, id, record));
+        return record;
     }
 
     // DELETE: delete a course (return boolean)
-    public boolean deleteCourse(Integer id) {
+    @Transactional
+    public boolean deleteCourse(@ShardKey Integer id) {
         if (courseRepository.existsById(id)) {
             courseRepository.deleteById(id);
+            events.publishEvent(new CourseChangedEvent(ChangeType.DELETED, id, null));
             return true;
         }
         return false;
     }
 
-    // Utility: validate course fields
+    // Utility: reject a title another course already has, on any shard; the filter rules out most new titles
+    // without a query. Both are only a fast path: the unique index on title_key is what guarantees it under
+    // concurrent writes, and when sharded that index covers one shard, so two shards racing for a title can still both win
+    private void ensureTitleAvailable(String title, Integer excludingId) {
+        String titleKey = CourseTitleFilter.normalize(title);
+        if (!titleFilter.mightExist(titleKey)) {
+            return;
+        }
+        List<Boolean> taken = shards.scatterFromTransaction(shard -> excludingId == null
+                ? courseRepository.existsByTitleKey(titleKey)
+                : courseRepository.existsByTitleKeyAndIdNot(titleKey, excludingId));
+        if (taken.contains(Boolean.TRUE)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Course title already exists: " + title);
+        }
+        titleFilter.recordFalsePositive();
+    }
+
+    // Utility: normalised titles from the set that are already taken on any shard, checking only filter positives
+    private Set<String> findTakenTitles(Set<String> titles) {
+        List<String> candidates = new ArrayList<>();
+        for (String title : titles) {
+            if (titleFilter.mightExist(title)) {
+                candidates.add(title);
+            }
+        }
+        Set<String> taken = new LinkedHashSet<>();
+        for (int from = 0; from < candidates.size(); from += TITLE_LOOKUP_CHUNK) {
+            List<String> chunk = candidates.subList(from, Math.min(candidates.size(), from + TITLE_LOOKUP_CHUNK));
+            for (List<String> existing : shards.scatterFromTransaction(shard -> courseRepository.findExistingTitleKeys(chunk))) {
+                for (String titleKey : existing) {
+                    taken.add(CourseTitleFilter.normalize(titleKey));
+                }
+            }
+        }
+        for (int i = taken.size(); i < candidates.size(); i++) {
+            titleFilter.recordFalsePositive();
+        }
+        return taken;
+    }
+
+    // Utility: 409 when a write hit the unique title_key index, i.e. another write took the title
+    // after our check; any other integrity violation is rethrown as is
+    private static RuntimeException titleConflict(DataIntegrityViolationException e, String titles) {
+        String message = e.getMostSpecificCause().getMessage();
+        if (message != null && message.toLowerCase(Locale.ROOT).contains("title_key")) {
+            return new ResponseStatusException(HttpStatus.CONFLICT, "Course title already exists: " + titles);
+        }
+        return e;
+    }
+
+    // Utility: on a partitioned courses table (no fk_courses_trainer) read each trainer the write names
+    // with a shared lock: it must exist, and a concurrent delete waits until this transaction ends
+    private void lockTrainers(Set<Integer> trainers) {
+        if (!partitioned) {
+            return;
+        }
+        for (Integer trainerId : trainers) {
+            if (trainerRepository.lockForShare(trainerId).isEmpty()) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Trainer not found with ID: " + trainerId);
+            }
+        }
+    }
+
+    // Utility: validate course fields; the title is stripped so it is stored as it is compared
     private void validateCourse(CourseEntity course) {
         if (course == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Course cannot be null");
@@ -95,6 +414,7 @@ public class CourseService {
         if (course.getTitle() == null || course.getTitle().isBlank()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Course title cannot be empty");
         }
+        course.setTitle(course.getTitle().strip());
         if (course.getDescription() == null || course.getDescription().isBlank()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Course description cannot be empty");
         }
@@ -104,8 +424,18 @@ public class CourseService {
         if (course.getEnrollDate().isBefore(LocalDate.now())) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Enroll date cannot be in the past");
         }
-        if (course.getTrainer() == null) {
+        if (course.getTrainer() == null || course.getTrainer().getId() == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Course must have a trainer assigned");
         }
+        // Checked in memory first; the set is local to this node and may not have seen a trainer created
+        // on another one yet, so a miss is confirmed with the database before the write is rejected.
+        // A partitioned table has no foreign key to back this up, so there lockTrainers decides instead
+        Integer trainerId = course.getTrainer().getId();
+        if (!partitioned && !trainerIds.mightExist(trainerId)) {
+            if (!trainerRepository.existsById(trainerId)) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Trainer not found with ID: " + trainerId);
+            }
+            trainerIds.add(trainerId);
+        }
     }
 }
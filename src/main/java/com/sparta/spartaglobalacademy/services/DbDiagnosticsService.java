@@ -0,0 +1,150 @@
+package com.sparta.spartaglobalacademy.services;
+
+import com.sparta.spartaglobalacademy.records.IndexUsageRecord;
+import com.sparta.spartaglobalacademy.records.SlowStatementRecord;
+import com.sparta.spartaglobalacademy.records.TableStatsRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Table sizes, index usage and the slowest statement digests of the current schema, read from
+ * information_schema and performance_schema.
+ * <p>
+ * Each source is queried at most once per TTL however often the endpoints are called (concurrent
+ * callers wait for the one query in flight), so the diagnostics add no noticeable load. The
+ * performance_schema figures are totals since the server started or the tables were truncated.
+ */
+@Service
+public class DbDiagnosticsService {
+
+    // Most slow statements returned; every limit is served from the same cached top list
+    static final int MAX_SLOW_STATEMENTS = 100;
+
+    private static final double PICOS_PER_MILLI = 1_000_000_000.0;
+
+    static final String TABLE_STATS_SQL = """
+            SELECT table_name, table_rows, data_length, index_length, data_free
+            FROM information_schema.tables
+            WHERE table_schema = DATABASE() AND table_type = 'BASE TABLE'
+            ORDER BY data_length + index_length DESC""";
+
+    static final String INDEX_USAGE_SQL = """
+            SELECT object_name, index_name, count_fetch, count_insert, count_update, count_delete, sum_timer_wait
+            FROM performance_schema.table_io_waits_summary_by_index_usage
+            WHERE object_schema = DATABASE()
+            ORDER BY sum_timer_wait DESC""";
+
+    static final String SLOW_STATEMENTS_SQL = """
+            SELECT digest, digest_text, count_star, sum_timer_wait, avg_timer_wait, max_timer_wait,
+                   sum_rows_examined, sum_rows_sent, sum_no_index_used
+            FROM performance_schema.events_statements_summary_by_digest
+            WHERE schema_name = DATABASE()
+            ORDER BY sum_timer_wait DESC
+            LIMIT ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Cached<List<TableStatsRecord>> tableStats;
+    private final Cached<List<IndexUsageRecord>> indexUsage;
+    private final Cached<List<SlowStatementRecord>> slowStatements;
+
+    public DbDiagnosticsService(JdbcTemplate jdbcTemplate,
+                                @Value("${academy.db.diagnostics-ttl:30s}") Duration ttl) {
+        if (jdbcTemplate == null) {
+            throw new IllegalArgumentException("JdbcTemplate cannot be null");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.tableStats = new Cached<>(ttl, this::loadTableStats);
+        this.indexUsage = new Cached<>(ttl, this::loadIndexUsage);
+        this.slowStatements = new Cached<>(ttl, this::loadSlowStatements);
+    }
+
+    // READ: row estimates and data/index sizes of every table, largest first
+    public List<TableStatsRecord> getTableStats() {
+        return tableStats.get("information_schema");
+    }
+
+    // READ: row operations per index (null index = full scans), most time spent first
+    public List<IndexUsageRecord> getIndexUsage() {
+        return indexUsage.get("performance_schema");
+    }
+
+    // READ: secondary indexes with no reads or writes since the server started
+    public List<IndexUsageRecord> getUnusedIndexes() {
+        List<IndexUsageRecord> unused = new ArrayList<>();
+        for (IndexUsageRecord usage : getIndexUsage()) {
+            if (usage.indexName() != null && !"PRIMARY".equals(usage.indexName())
+                    && usage.rowsFetched() == 0 && usage.rowsInserted() == 0
+                    && usage.rowsUpdated() == 0 && usage.rowsDeleted() == 0) {
+                unused.add(usage);
+            }
+        }
+        return unused;
+    }
+
+    // READ: the limit statement digests with the most total execution time
+    public List<SlowStatementRecord> getSlowStatements(int limit) {
+        if (limit < 1 || limit > MAX_SLOW_STATEMENTS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Limit must be between 1 and " + MAX_SLOW_STATEMENTS);
+        }
+        List<SlowStatementRecord> top = slowStatements.get("performance_schema");
+        return top.subList(0, Math.min(limit, top.size()));
+    }
+
+    private List<TableStatsRecord> loadTableStats() {
+        return jdbcTemplate.query(TABLE_STATS_SQL, (rs, rowNum) -> new TableStatsRecord(
+                rs.getString(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)));
+    }
+
+    private List<IndexUsageRecord> loadIndexUsage() {
+        return jdbcTemplate.query(INDEX_USAGE_SQL, (rs, rowNum) -> new IndexUsageRecord(
+                rs.getString(1), rs.getString(2), rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6),
+                rs.getLong(7) / PICOS_PER_MILLI));
+    }
+
+    private List<SlowStatementRecord> loadSlowStatements() {
+        return jdbcTemplate.query(SLOW_STATEMENTS_SQL, (rs, rowNum) -> new SlowStatementRecord(
+                rs.getString(1), rs.getString(2), rs.getLong(3),
+                rs.getLong(4) / PICOS_PER_MILLI, rs.getLong(5) / PICOS_PER_MILLI, rs.getLong(6) / PICOS_PER_MILLI,
+                rs.getLong(7), rs.getLong(8), rs.getLong(9)), MAX_SLOW_STATEMENTS);
+    }
+
+    /**
+     * A value reloaded at most once per TTL; a failed load is not cached.
+     */
+    private static final class Cached<T> {
+
+        private final long ttlNanos;
+        private final Supplier<T> loader;
+        private T value;
+        private long loadedAtNanos;
+
+        Cached(Duration ttl, Supplier<T> loader) {
+            this.ttlNanos = ttl.toNanos();
+            this.loader = loader;
+        }
+
+        synchronized T get(String source) {
+            long now = System.nanoTime();
+            if (value == null || now - loadedAtNanos >= ttlNanos) {
+                try {
+                    value = loader.get();
+                } catch (DataAccessException e) {
+                    throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                            source + " is not available: " + e.getMostSpecificCause().getMessage());
+                }
+                loadedAtNanos = now;
+            }
+            return value;
+        }
+    }
+}
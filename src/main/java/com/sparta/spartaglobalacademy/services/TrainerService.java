@@ -1,45 +1,78 @@
 package com.sparta.spartaglobalacademy.services;
 
 import com.sparta.spartaglobalacademy.entities.TrainerEntity;
+import com.sparta.spartaglobalacademy.events.ChangeType;
+import com.sparta.spartaglobalacademy.events.TrainerChangedEvent;
+import com.sparta.spartaglobalacademy.mapping.ParallelMapper;
+import com.sparta.spartaglobalacademy.records.TrainerLookupRecord;
 import com.sparta.spartaglobalacademy.records.TrainerRecord;
 import com.sparta.spartaglobalacademy.records.TrainerMapper;
 import com.sparta.spartaglobalacademy.repositories.TrainerRepository;
+import com.sparta.spartaglobalacademy.sharding.ShardKey;
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class TrainerService {
 
+    // Bounded IN-list size for multi-get by id; larger lookups are split into several queries
+    static final int ID_LOOKUP_CHUNK = 500;
+
+    // Most IDs accepted by one multi-get request
+    static final int MAX_LOOKUP_IDS = 1000;
+
     private final TrainerRepository trainerRepository;
     private final TrainerMapper trainerMapper;
+    private final ApplicationEventPublisher events;
+    private final ShardRouter shards;
+    private final ParallelMapper parallelMapper;
 
-    public TrainerService(TrainerRepository trainerRepository, TrainerMapper trainerMapper) {
+    public TrainerService(TrainerRepository trainerRepository, TrainerMapper trainerMapper,
+                          ApplicationEventPublisher events, ShardRouter shards, ParallelMapper parallelMapper) {
         if (trainerRepository == null) {
             throw new IllegalArgumentException("trainerRepository cannot be null");
         }
         if (trainerMapper == null) {
             throw new IllegalArgumentException("trainerMapper cannot be null");
         }
+        if (events == null) {
+            throw new IllegalArgumentException("events cannot be null");
+        }
+        if (shards == null) {
+            throw new IllegalArgumentException("shards cannot be null");
+        }
+        if (parallelMapper == null) {
+            throw new IllegalArgumentException("parallelMapper cannot be null");
+        }
         this.trainerRepository = trainerRepository;
         this.trainerMapper = trainerMapper;
+        this.events = events;
+        this.shards = shards;
+        this.parallelMapper = parallelMapper;
     }
 
-    // GET all trainers (no streams)
+    // GET all trainers (no streams), from every shard in shard order; large result sets are mapped in parallel
     public List<TrainerRecord> getAllTrainers() {
-        List<TrainerEntity> entities = trainerRepository.findAll();
         ArrayList<TrainerRecord> results = new ArrayList<>();
-        for (TrainerEntity e : entities) {
-            results.add(trainerMapper.toRecord(e));
+        for (List<TrainerEntity> entities : shards.scatter(shard -> shards.isSharded()
+                ? trainerRepository.findAllOnShard() : trainerRepository.findAll())) {
+            results.addAll(parallelMapper.map(entities, trainerMapper::toRecord));
         }
         return results;
     }
 
     // GET trainer by ID
-    public TrainerRecord getTrainerById(Integer id) {
+    public TrainerRecord getTrainerById(@ShardKey Integer id) {
         TrainerEntity entity = trainerRepository.findById(id).orElse(null);
         if (entity == null) {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Trainer not found with ID: " + id);
@@ -47,17 +80,60 @@ public class TrainerService {
         return trainerMapper.toRecord(entity);
     }
 
-    // CREATE a new trainer
-    public TrainerRecord createTrainer(TrainerEntity trainerEntity) {
+    // GET many trainers by ID in request order, reporting the IDs that do not exist
+    public TrainerLookupRecord getTrainersByIds(List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Trainer IDs cannot be empty");
+        }
+        if (ids.size() > MAX_LOOKUP_IDS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "At most " + MAX_LOOKUP_IDS + " IDs per request");
+        }
+        List<Integer> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Integer, List<Integer>> byShard = shards.groupByShard(distinct);
+        Map<Integer, TrainerRecord> byId = new HashMap<>();
+        for (List<TrainerEntity> entities : shards.scatter(byShard.keySet(), shard -> findAllById(byShard.get(shard)))) {
+            for (TrainerEntity entity : entities) {
+                byId.put(entity.getId(), trainerMapper.toRecord(entity));
+            }
+        }
+
+        List<TrainerRecord> found = new ArrayList<>(byId.size());
+        List<Integer> missing = new ArrayList<>();
+        for (Integer id : distinct) {
+            TrainerRecord record = byId.get(id);
+            if (record != null) {
+                found.add(record);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new TrainerLookupRecord(found, missing);
+    }
+
+    private List<TrainerEntity> findAllById(List<Integer> ids) {
+        List<TrainerEntity> found = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += ID_LOOKUP_CHUNK) {
+            List<Integer> chunk = ids.subList(from, Math.min(ids.size(), from + ID_LOOKUP_CHUNK));
+            found.addAll(trainerRepository.findAllById(chunk));
+        }
+        return found;
+    }
+
+    // CREATE a new trainer (when sharded, on the shard its name hashes to)
+    @Transactional
+    public TrainerRecord createTrainer(@ShardKey TrainerEntity trainerEntity) {
         if (trainerEntity == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Trainer entity cannot be null");
         }
         TrainerEntity savedTrainer = trainerRepository.save(trainerEntity);
-        return trainerMapper.toRecord(savedTrainer);
+        TrainerRecord record = trainerMapper.toRecord(savedTrainer);
+        events.publishEvent(new TrainerChangedEvent(ChangeType.CREATED, savedTrainer.getId(), record));
+        return record;
     }
 
     // UPDATE an existing trainer
-    public TrainerRecord updateTrainer(Integer id, TrainerEntity updatedTrainer) {
+    @Transactional
+    public TrainerRecord updateTrainer(@ShardKey Integer id, TrainerEntity updatedTrainer) {
         if (id == null || updatedTrainer == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Trainer ID and entity cannot be null");
         }
@@ -68,13 +144,21 @@ public class TrainerService {
 
         updatedTrainer.setId(id);
         TrainerEntity saved = trainerRepository.save(updatedTrainer);
-        return trainerMapper.toRecord(saved);
+        TrainerRecord record = trainerMapper.toRecord(saved);
+        events.publishEvent(new TrainerChangedEvent(ChangeType.UPDATED, id, record));
+        return record;
     }
 
-    // DELETE a trainer (return boolean)
-    public boolean deleteTrainerById(Integer id) {
-        if (trainerRepository.existsById(id)) {
+    // DELETE a trainer (return boolean); refused while live courses still reference the trainer
+    @Transactional
+    public boolean deleteTrainerById(@ShardKey Integer id) {
+        // Locked first so a course write for this trainer either commits before the check or finds it gone
+        if (trainerRepository.lockForUpdate(id).isPresent()) {
+            if (trainerRepository.hasCourses(id)) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "Trainer still has courses: " + id);
+            }
             trainerRepository.deleteById(id);
+            events.publishEvent(new TrainerChangedEvent(ChangeType.DELETED, id, null));
             return true;
         }
         return false;
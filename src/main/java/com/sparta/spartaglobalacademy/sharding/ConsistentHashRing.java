@@ -0,0 +1,81 @@
+package com.sparta.spartaglobalacademy.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Weighted consistent-hash ring over shard names.
+ * <p>
+ * Each shard owns {@code weight * virtualNodes} points placed by hashing its name, so a key's shard
+ * depends only on the names and weights configured, not their order, and adding a shard takes keys
+ * only from the ring segments its new points land in.
+ */
+public final class ConsistentHashRing {
+
+    private final long[] points;
+    private final int[] owners;
+
+    public ConsistentHashRing(List<String> names, List<Integer> weights, int virtualNodes) {
+        if (names.isEmpty() || names.size() != weights.size()) {
+            throw new IllegalArgumentException("Every shard needs a name and a weight");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("virtualNodes must be positive: " + virtualNodes);
+        }
+        int total = 0;
+        for (int weight : weights) {
+            if (weight < 1) {
+                throw new IllegalArgumentException("Shard weight must be positive: " + weight);
+            }
+            total += weight * virtualNodes;
+        }
+
+        long[] hashes = new long[total];
+        int[] shards = new int[total];
+        int n = 0;
+        for (int shard = 0; shard < names.size(); shard++) {
+            for (int v = 0; v < weights.get(shard) * virtualNodes; v++) {
+                hashes[n] = hash(names.get(shard) + "#" + v);
+                shards[n] = shard;
+                n++;
+            }
+        }
+
+        // Sort points by hash, carrying the owner along
+        Integer[] order = new Integer[total];
+        for (int i = 0; i < total; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(hashes[a], hashes[b]));
+        this.points = new long[total];
+        this.owners = new int[total];
+        for (int i = 0; i < total; i++) {
+            points[i] = hashes[order[i]];
+            owners[i] = shards[order[i]];
+        }
+    }
+
+    /**
+     * Index of the shard owning the first point at or after the key's hash, wrapping at the end.
+     */
+    public int shardFor(String key) {
+        int i = Arrays.binarySearch(points, hash(key));
+        if (i < 0) {
+            i = -i - 1;
+        }
+        return owners[i == points.length ? 0 : i];
+    }
+
+    // FNV-1a over the UTF-8 bytes, finished with the SplitMix64 mixer so close strings spread out
+    static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+}
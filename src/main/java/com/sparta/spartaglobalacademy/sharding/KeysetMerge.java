@@ -0,0 +1,39 @@
+package com.sparta.spartaglobalacademy.sharding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToIntFunction;
+
+/**
+ * Merges per-shard result lists, each already sorted by a unique int key, into one sorted list.
+ */
+public final class KeysetMerge {
+
+    private KeysetMerge() {
+    }
+
+    /**
+     * Take the first {@code limit} rows across all runs in key order, reading each run only as far as needed.
+     */
+    public static <T> List<T> merge(List<List<T>> sortedRuns, ToIntFunction<T> key, int limit) {
+        // Heap of {run, position} cursors ordered by the key at the cursor
+        PriorityQueue<int[]> heads = new PriorityQueue<>((a, b) -> Integer.compare(
+                key.applyAsInt(sortedRuns.get(a[0]).get(a[1])), key.applyAsInt(sortedRuns.get(b[0]).get(b[1]))));
+        for (int run = 0; run < sortedRuns.size(); run++) {
+            if (!sortedRuns.get(run).isEmpty()) {
+                heads.add(new int[]{run, 0});
+            }
+        }
+        List<T> merged = new ArrayList<>(Math.min(limit, 1024));
+        while (merged.size() < limit && !heads.isEmpty()) {
+            int[] head = heads.poll();
+            List<T> run = sortedRuns.get(head[0]);
+            merged.add(run.get(head[1]));
+            if (++head[1] < run.size()) {
+                heads.add(head);
+            }
+        }
+        return merged;
+    }
+}
@@ -0,0 +1,32 @@
+package com.sparta.spartaglobalacademy.sharding;
+
+/**
+ * The shard the current thread's next connection is taken from; unset means the default shard.
+ * Must be set before a transaction starts, as the connection is bound for the rest of it.
+ */
+final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    static Integer current() {
+        return CURRENT.get();
+    }
+
+    // Returns the previous shard for restore(), so routed calls can nest
+    static Integer enter(int shard) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        return previous;
+    }
+
+    static void restore(Integer previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
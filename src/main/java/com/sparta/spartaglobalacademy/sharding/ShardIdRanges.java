@@ -0,0 +1,71 @@
+package com.sparta.spartaglobalacademy.sharding;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Moves each shard's trainer and course AUTO_INCREMENT counters into the shard's id block, so ids are
+ * unique across shards and {@link ShardRouter#shardOfId} can find a row's shard from its id.
+ * <p>
+ * Runs at startup, before any request can insert; a counter already inside its block is left alone.
+ * Fails startup if a shard cannot be reached, as inserts there would get ids of another shard.
+ */
+public class ShardIdRanges implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardIdRanges.class);
+
+    // Tables with AUTO_INCREMENT ids that routing relies on, and their id columns
+    private static final String[][] TABLES = {{"trainers", "trainer_id"}, {"courses", "course_id"}};
+
+    private final ShardRoutingDataSource dataSource;
+    private final ShardRouter shards;
+
+    public ShardIdRanges(ShardRoutingDataSource dataSource, ShardRouter shards) {
+        this.dataSource = dataSource;
+        this.shards = shards;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        apply();
+    }
+
+    public void apply() {
+        for (int shard = 0; shard < dataSource.shardCount(); shard++) {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource.shard(shard));
+            boolean mysql = isMySql(jdbcTemplate);
+            long floor = shards.idFloor(shard);
+            long ceiling = floor + shards.idRange();
+            for (String[] table : TABLES) {
+                Long max = jdbcTemplate.queryForObject(
+                        "SELECT COALESCE(MAX(" + table[1] + "), 0) FROM " + table[0], Long.class);
+                long highest = max == null ? 0 : max;
+                if (highest >= ceiling) {
+                    log.warn("Shard {} has {} ids beyond its block ({} >= {}); they will be routed to the wrong shard",
+                            shards.shardName(shard), table[0], highest, ceiling);
+                } else if (highest < floor) {
+                    long next = floor + 1;
+                    jdbcTemplate.execute(mysql
+                            ? "ALTER TABLE " + table[0] + " AUTO_INCREMENT = " + next
+                            : "ALTER TABLE " + table[0] + " ALTER COLUMN " + table[1] + " RESTART WITH " + next);
+                    log.info("Shard {} {} ids now start at {}", shards.shardName(shard), table[0], next);
+                }
+            }
+        }
+    }
+
+    private static boolean isMySql(JdbcTemplate jdbcTemplate) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((Connection connection) -> {
+            try {
+                return "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+            } catch (SQLException e) {
+                return false;
+            }
+        }));
+    }
+}
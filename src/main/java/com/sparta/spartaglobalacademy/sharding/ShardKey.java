@@ -0,0 +1,16 @@
+package com.sparta.spartaglobalacademy.sharding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the service method parameter that decides which shard the call runs on: a trainer or
+ * course id, a course (its trainer's shard), a trainer (its id, or placement by name when new), or a
+ * collection of those. {@link ShardRoutingAspect} selects the shard before any transaction starts.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardKey {
+}
@@ -0,0 +1,237 @@
+package com.sparta.spartaglobalacademy.sharding;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Decides which shard owns a trainer or course and runs work against one shard or all of them.
+ * <p>
+ * Shard {@code i} hands out trainer and course ids from {@code [i * idRange + 1, (i + 1) * idRange]}
+ * (see {@link ShardIdRanges}), so any existing id names its shard without a lookup. A new trainer is
+ * placed on the shard its name hashes to on the {@link ConsistentHashRing}, and a course always lives
+ * on its trainer's shard. With sharding disabled there is one shard and everything runs inline.
+ */
+public class ShardRouter implements AutoCloseable {
+
+    public static final int DEFAULT_SHARD = 0;
+
+    private final List<String> names;
+    private final ConsistentHashRing ring;
+    private final int idRange;
+    private final ExecutorService executor;
+    private final long timeoutNanos;
+
+    ShardRouter(List<String> names, ConsistentHashRing ring, int idRange, int threads, Duration timeout) {
+        if ((long) names.size() * idRange > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Id blocks of " + idRange + " do not fit " + names.size() + " shards in an INT id");
+        }
+        this.names = List.copyOf(names);
+        this.ring = ring;
+        this.idRange = idRange;
+        this.timeoutNanos = timeout.toNanos();
+        this.executor = names.size() == 1 ? null : Executors.newFixedThreadPool(threads, new ScatterThreads());
+    }
+
+    public static ShardRouter of(ShardingProperties properties) {
+        if (properties.shards().isEmpty()) {
+            throw new IllegalArgumentException("academy.sharding.shards must list at least one database");
+        }
+        List<String> names = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (ShardingProperties.Shard shard : properties.shards()) {
+            names.add(shard.name());
+            weights.add(shard.weight());
+        }
+        return new ShardRouter(names, new ConsistentHashRing(names, weights, properties.virtualNodes()),
+                properties.idRange(), properties.scatterThreads(), properties.scatterTimeout());
+    }
+
+    // Sharding disabled: the configured data source is the only shard
+    public static ShardRouter single() {
+        return new ShardRouter(List.of("default"), new ConsistentHashRing(List.of("default"), List.of(1), 1),
+                Integer.MAX_VALUE, 1, Duration.ZERO);
+    }
+
+    public int shardCount() {
+        return names.size();
+    }
+
+    public boolean isSharded() {
+        return names.size() > 1;
+    }
+
+    public String shardName(int shard) {
+        return names.get(shard);
+    }
+
+    /**
+     * Shard owning a trainer or course id. Ids beyond the last block cannot exist, so they go to
+     * the default shard where the lookup simply finds nothing.
+     */
+    public int shardOfId(int id) {
+        int shard = Math.max(id - 1, 0) / idRange;
+        return shard < names.size() ? shard : DEFAULT_SHARD;
+    }
+
+    // Shard a new trainer is created on
+    public int placeTrainer(String fullName) {
+        return ring.shardFor(fullName);
+    }
+
+    // Ids handed out on the shard are above this
+    public long idFloor(int shard) {
+        return (long) shard * idRange;
+    }
+
+    public int idRange() {
+        return idRange;
+    }
+
+    /**
+     * Run the work with connections taken from the shard. Call it outside any transaction.
+     */
+    public <T> T on(int shard, Supplier<T> work) {
+        if (!isSharded()) {
+            return work.get();
+        }
+        Integer previous = ShardContext.enter(shard);
+        try {
+            return work.get();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    // Run the work against every shard in turn, on this thread
+    public void forEachShard(Runnable work) {
+        for (int shard = 0; shard < names.size(); shard++) {
+            on(shard, () -> {
+                work.run();
+                return null;
+            });
+        }
+    }
+
+    // Query every shard in parallel; results are in shard order
+    public <T> List<T> scatter(IntFunction<T> perShard) {
+        List<Integer> all = new ArrayList<>(names.size());
+        for (int shard = 0; shard < names.size(); shard++) {
+            all.add(shard);
+        }
+        return scatter(all, perShard);
+    }
+
+    /**
+     * Query the given shards in parallel and return their results in the same order. A single
+     * shard is queried on the calling thread. Fails with 503 if a shard has not answered within
+     * the scatter timeout; errors from a shard are rethrown as they are.
+     */
+    public <T> List<T> scatter(Collection<Integer> shards, IntFunction<T> perShard) {
+        if (shards.size() == 1) {
+            int shard = shards.iterator().next();
+            return List.of(on(shard, () -> perShard.apply(shard)));
+        }
+        return gather(shards, perShard);
+    }
+
+    /**
+     * Query every shard from inside a transaction: the shard the transaction runs on is queried on
+     * the calling thread, on the transaction's own connection (so it sees the transaction's writes
+     * and takes no second connection from that shard's pool), and the other shards in parallel on
+     * the scatter threads. The transaction's shard comes first in the results.
+     */
+    public <T> List<T> scatterFromTransaction(IntFunction<T> perShard) {
+        Integer current = ShardContext.current();
+        int local = current != null ? current : DEFAULT_SHARD;
+        List<Integer> others = new ArrayList<>(names.size() - 1);
+        for (int shard = 0; shard < names.size(); shard++) {
+            if (shard != local) {
+                others.add(shard);
+            }
+        }
+        List<T> results = new ArrayList<>(names.size());
+        results.add(perShard.apply(local));
+        if (!others.isEmpty()) {
+            results.addAll(gather(others, perShard));
+        }
+        return results;
+    }
+
+    // Always on the scatter threads, never the caller's
+    private <T> List<T> gather(Collection<Integer> shards, IntFunction<T> perShard) {
+        List<Future<T>> futures = new ArrayList<>(shards.size());
+        for (int shard : shards) {
+            futures.add(executor.submit(() -> on(shard, () -> perShard.apply(shard))));
+        }
+        long deadline = System.nanoTime() + timeoutNanos;
+        List<T> results = new ArrayList<>(futures.size());
+        int i = 0;
+        try {
+            for (int shard : shards) {
+                try {
+                    results.add(futures.get(i++).get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+                } catch (TimeoutException e) {
+                    throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                            "Shard " + names.get(shard) + " did not answer in time");
+                }
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Shard query failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Interrupted waiting for shards");
+        } finally {
+            for (Future<T> future : futures) {
+                future.cancel(true);
+            }
+        }
+        return results;
+    }
+
+    // Ids grouped by owning shard, shards in ascending order and ids in their given order
+    public Map<Integer, List<Integer>> groupByShard(Collection<Integer> ids) {
+        Map<Integer, List<Integer>> groups = new TreeMap<>();
+        for (Integer id : ids) {
+            groups.computeIfAbsent(shardOfId(id), k -> new ArrayList<>()).add(id);
+        }
+        return groups;
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class ScatterThreads implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "shard-scatter-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.sparta.spartaglobalacademy.sharding;
+
+import com.sparta.spartaglobalacademy.entities.CourseEntity;
+import com.sparta.spartaglobalacademy.entities.TrainerEntity;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs CourseService and TrainerService calls on the shard named by their {@link ShardKey} arguments.
+ * <p>
+ * Ordered ahead of the transaction interceptor: the shard has to be chosen before the transaction
+ * takes its connection. A call whose keys point at different shards (a batch across trainers on
+ * several shards, or moving a course to a trainer on another shard) is rejected with 400, since it
+ * could not be done in one transaction. Calls without keys are left alone; the services scatter
+ * those that read every shard themselves.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ShardRoutingAspect {
+
+    private static final int[] NO_KEYS = new int[0];
+
+    private final ShardRouter shards;
+    private final ConcurrentHashMap<Method, int[]> keyPositions = new ConcurrentHashMap<>();
+
+    public ShardRoutingAspect(ShardRouter shards) {
+        this.shards = shards;
+    }
+
+    @Around("execution(public * com.sparta.spartaglobalacademy.services.CourseService.*(..))"
+            + " || execution(public * com.sparta.spartaglobalacademy.services.TrainerService.*(..))")
+    public Object route(ProceedingJoinPoint call) throws Throwable {
+        int[] positions = keyPositions.computeIfAbsent(((MethodSignature) call.getSignature()).getMethod(),
+                ShardRoutingAspect::findKeys);
+        if (positions.length == 0) {
+            return call.proceed();
+        }
+
+        Object[] args = call.getArgs();
+        Integer shard = null;
+        for (int position : positions) {
+            shard = agree(shard, shardOf(args[position]));
+        }
+        // Nothing to route on (e.g. a null argument): let the service reject it
+        if (shard == null) {
+            return call.proceed();
+        }
+
+        Integer previous = ShardContext.enter(shard);
+        try {
+            return call.proceed();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    private Integer shardOf(Object key) {
+        if (key instanceof Integer id) {
+            return shards.shardOfId(id);
+        }
+        if (key instanceof CourseEntity course) {
+            TrainerEntity trainer = course.getTrainer();
+            return trainer == null || trainer.getId() == null ? null : shards.shardOfId(trainer.getId());
+        }
+        if (key instanceof TrainerEntity trainer) {
+            if (trainer.getId() != null) {
+                return shards.shardOfId(trainer.getId());
+            }
+            return trainer.getFullName() == null ? null : shards.placeTrainer(trainer.getFullName());
+        }
+        if (key instanceof Collection<?> keys) {
+            Integer shard = null;
+            for (Object element : keys) {
+                shard = agree(shard, shardOf(element));
+            }
+            return shard;
+        }
+        return null;
+    }
+
+    private Integer agree(Integer current, Integer next) {
+        if (current == null) {
+            return next;
+        }
+        if (next != null && !current.equals(next)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Request spans shards "
+                    + shards.shardName(current) + " and " + shards.shardName(next)
+                    + "; courses can only be written together with their trainer's shard");
+        }
+        return current;
+    }
+
+    private static int[] findKeys(Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < annotations.length; i++) {
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof ShardKey) {
+                    positions.add(i);
+                }
+            }
+        }
+        if (positions.isEmpty()) {
+            return NO_KEYS;
+        }
+        int[] result = new int[positions.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = positions.get(i);
+        }
+        return result;
+    }
+}
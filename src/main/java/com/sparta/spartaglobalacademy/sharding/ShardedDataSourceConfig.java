@@ -0,0 +1,57 @@
+package com.sparta.spartaglobalacademy.sharding;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the single {@code spring.datasource} pool with one pool per shard behind a routing data source.
+ * <p>
+ * Refuses to start with open-in-view on: the request-wide EntityManager would hold the first shard's
+ * connection for the whole request, so later calls would silently read and write the wrong shard.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "academy.sharding", name = "enabled", havingValue = "true")
+public class ShardedDataSourceConfig {
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardingProperties properties, MeterRegistry meterRegistry,
+                                 @Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException("academy.sharding.enabled=true requires spring.jpa.open-in-view=false");
+        }
+        List<DataSource> pools = new ArrayList<>();
+        for (ShardingProperties.Shard shard : properties.shards()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("shard-" + shard.name());
+            pool.setJdbcUrl(shard.url());
+            pool.setUsername(shard.username());
+            pool.setPassword(shard.password());
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.add(pool);
+        }
+        return new ShardRoutingDataSource(pools);
+    }
+
+    @Bean
+    public ShardIdRanges shardIdRanges(DataSource dataSource, ShardRouter shardRouter) throws SQLException {
+        // The bean may be wrapped by a JDBC proxy; the id blocks are set on each shard's pool directly
+        return new ShardIdRanges(dataSource.unwrap(ShardRoutingDataSource.class), shardRouter);
+    }
+
+    @Bean
+    public ShardRoutingAspect shardRoutingAspect(ShardRouter shardRouter) {
+        return new ShardRoutingAspect(shardRouter);
+    }
+}
@@ -0,0 +1,14 @@
+package com.sparta.spartaglobalacademy.sharding;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ShardingConfig {
+
+    // Always present; a single shard when academy.sharding.enabled is false
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties) {
+        return properties.enabled() ? ShardRouter.of(properties) : ShardRouter.single();
+    }
+}
@@ -0,0 +1,41 @@
+package com.sparta.spartaglobalacademy.sharding;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings for sharding courses and trainers across several databases, bound from {@code academy.sharding.*}.
+ * When disabled the application uses {@code spring.datasource.*} as a single shard.
+ */
+@ConfigurationProperties(prefix = "academy.sharding")
+public record ShardingProperties(
+        @DefaultValue("false") boolean enabled,
+
+        // One entry per database; the first is also the default for queries that are not routed
+        @DefaultValue List<Shard> shards,
+
+        // Each shard hands out trainer and course ids from its own block of this size, so an id names its shard
+        @DefaultValue("100000000") int idRange,
+
+        // Points on the hash ring per unit of shard weight
+        @DefaultValue("64") int virtualNodes,
+
+        // Cross-shard reads: worker threads and how long to wait for the slowest shard
+        @DefaultValue("8") int scatterThreads,
+        @DefaultValue("2s") Duration scatterTimeout
+) {
+
+    public record Shard(
+            String name,
+            String url,
+            String username,
+            String password,
+
+            // Relative share of new trainers placed on this shard
+            @DefaultValue("1") int weight
+    ) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.sparta.spartaglobalacademy.snapshot;
+
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.records.TrainerRecord;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Every course and trainer as of {@code takenAt}, the database time at which the snapshot was read.
+ */
+public record CatalogueSnapshot(Instant takenAt, List<CourseRecord> courses, List<TrainerRecord> trainers) {
+}
@@ -0,0 +1,208 @@
+package com.sparta.spartaglobalacademy.snapshot;
+
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.records.TrainerRecord;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Binary catalogue snapshot format.
+ * <pre>
+ * header   int magic, int version, long takenAtEpochMillis
+ * body     per row: byte tag (1 course, 2 trainer) then
+ *            course:  int id, int trainerId, int enrollEpochDay, short+bytes title, int+bytes description
+ *            trainer: int id, short+bytes fullName
+ *          byte 0 (end of body)
+ * trailer  int courseCount, int trainerCount, long crc32(body)
+ * </pre>
+ * Strings are UTF-8 and all numbers big-endian. Files are written to a temporary sibling and
+ * moved into place, so readers see either the previous snapshot or the complete new one; a
+ * truncated or corrupt file fails the checksum and is ignored.
+ */
+public final class CatalogueSnapshotFile {
+
+    static final int MAGIC = 0x41435331; // "ACS1"
+    static final int VERSION = 1;
+
+    private static final byte COURSE = 1;
+    private static final byte TRAINER = 2;
+    private static final byte END = 0;
+    private static final int HEADER_BYTES = 4 + 4 + 8;
+    private static final int TRAILER_BYTES = 4 + 4 + 8;
+
+    private CatalogueSnapshotFile() {
+    }
+
+    /**
+     * Start a new snapshot at {@code target}; nothing replaces the current file until
+     * {@link Writer#commit()}.
+     */
+    public static Writer write(Path target, Instant takenAt) throws IOException {
+        return new Writer(target, takenAt);
+    }
+
+    /**
+     * Map the file and decode it.
+     *
+     * @throws IOException if the file is missing, from another format version or corrupt
+     */
+    public static CatalogueSnapshot read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES + 1 + TRAILER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Unexpected snapshot size " + size + " for " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return decode(buffer, file);
+        }
+    }
+
+    private static CatalogueSnapshot decode(ByteBuffer buffer, Path file) throws IOException {
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            throw new IOException("Not a version " + VERSION + " catalogue snapshot: " + file);
+        }
+        Instant takenAt = Instant.ofEpochMilli(buffer.getLong());
+
+        int trailerAt = buffer.limit() - TRAILER_BYTES;
+        int courseCount = buffer.getInt(trailerAt);
+        int trainerCount = buffer.getInt(trailerAt + 4);
+        long expectedCrc = buffer.getLong(trailerAt + 8);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_BYTES, trailerAt - HEADER_BYTES));
+        if (crc.getValue() != expectedCrc) {
+            throw new IOException("Catalogue snapshot checksum mismatch: " + file);
+        }
+
+        List<CourseRecord> courses = new ArrayList<>(courseCount);
+        List<TrainerRecord> trainers = new ArrayList<>(trainerCount);
+        try {
+            for (byte tag = buffer.get(); tag != END; tag = buffer.get()) {
+                if (tag == COURSE) {
+                    int id = buffer.getInt();
+                    int trainerId = buffer.getInt();
+                    LocalDate enrollDate = LocalDate.ofEpochDay(buffer.getInt());
+                    String title = string(buffer, Short.toUnsignedInt(buffer.getShort()));
+                    String description = string(buffer, buffer.getInt());
+                    courses.add(new CourseRecord(id, title, description, enrollDate, trainerId));
+                } else if (tag == TRAINER) {
+                    int id = buffer.getInt();
+                    trainers.add(new TrainerRecord(id, string(buffer, Short.toUnsignedInt(buffer.getShort()))));
+                } else {
+                    throw new IOException("Unknown row tag " + tag + " in " + file);
+                }
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IOException("Truncated catalogue snapshot: " + file, e);
+        }
+        if (courses.size() != courseCount || trainers.size() != trainerCount) {
+            throw new IOException("Catalogue snapshot row counts do not match its trailer: " + file);
+        }
+        return new CatalogueSnapshot(takenAt, courses, trainers);
+    }
+
+    private static String string(ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Streams rows to a temporary file next to the target.
+     */
+    public static final class Writer implements AutoCloseable {
+
+        private final Path target;
+        private final Path temp;
+        private final DataOutputStream header;
+        private final CRC32 crc = new CRC32();
+        private final DataOutputStream body;
+        private int courseCount;
+        private int trainerCount;
+        private boolean committed;
+
+        private Writer(Path target, Instant takenAt) throws IOException {
+            this.target = target;
+            Path dir = target.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            this.temp = Files.createTempFile(dir, target.getFileName().toString(), ".tmp");
+            this.header = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16));
+            header.writeInt(MAGIC);
+            header.writeInt(VERSION);
+            header.writeLong(takenAt.toEpochMilli());
+            this.body = new DataOutputStream(new CheckedOutputStream(header, crc));
+        }
+
+        public void addCourse(int id, int trainerId, LocalDate enrollDate, String title, String description)
+                throws IOException {
+            body.writeByte(COURSE);
+            body.writeInt(id);
+            body.writeInt(trainerId);
+            body.writeInt(Math.toIntExact(enrollDate.toEpochDay()));
+            writeShortString(title);
+            byte[] bytes = description.getBytes(StandardCharsets.UTF_8);
+            body.writeInt(bytes.length);
+            body.write(bytes);
+            courseCount++;
+        }
+
+        public void addTrainer(int id, String fullName) throws IOException {
+            body.writeByte(TRAINER);
+            body.writeInt(id);
+            writeShortString(fullName);
+            trainerCount++;
+        }
+
+        /**
+         * Finish the file and atomically replace the target with it.
+         */
+        public void commit() throws IOException {
+            body.writeByte(END);
+            body.flush();
+            header.writeInt(courseCount);
+            header.writeInt(trainerCount);
+            header.writeLong(crc.getValue());
+            header.close();
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+        }
+
+        public int rows() {
+            return courseCount + trainerCount;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                header.close();
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        private void writeShortString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > 0xFFFF) {
+                throw new IOException("String too long for the snapshot format: " + bytes.length + " bytes");
+            }
+            body.writeShort(bytes.length);
+            body.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.sparta.spartaglobalacademy.snapshot;
+
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.records.TrainerRecord;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps a {@link CatalogueSnapshotFile} of all courses and trainers on disk and serves it to the
+ * in-memory views while the application starts.
+ * <p>
+ * At startup the file is memory-mapped and brought up to date with one query per table for rows
+ * whose updated_at is at or after the snapshot time (less an overlap for transactions that were
+ * still open when it was taken). Deletes leave no updated_at behind, so the merged row counts are
+ * checked against the tables; on any mismatch, or a missing, stale or corrupt file, the views fall
+ * back to their usual full reads. The merged catalogue is dropped once the application is ready.
+ */
+public class CatalogueSnapshotStore {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogueSnapshotStore.class);
+
+    static final String SELECT_COURSES = "SELECT course_id, title, description, enroll_date, trainer_id FROM courses";
+    static final String SELECT_TRAINERS = "SELECT trainer_id, full_name FROM trainers";
+    // Served by idx_course_updated_at / idx_trainer_updated_at
+    static final String COURSES_CHANGED_SINCE = SELECT_COURSES + " WHERE updated_at >= ?";
+    static final String TRAINERS_CHANGED_SINCE = SELECT_TRAINERS + " WHERE updated_at >= ?";
+    static final String COUNT_ROWS = "SELECT (SELECT COUNT(*) FROM courses), (SELECT COUNT(*) FROM trainers)";
+
+    private static final RowMapper<CourseRecord> COURSE_ROW = (rs, rowNum) -> new CourseRecord(
+            rs.getInt("course_id"),
+            rs.getString("title"),
+            rs.getString("description"),
+            rs.getDate("enroll_date").toLocalDate(),
+            rs.getInt("trainer_id"));
+
+    private static final RowMapper<TrainerRecord> TRAINER_ROW = (rs, rowNum) -> new TrainerRecord(
+            rs.getInt("trainer_id"),
+            rs.getString("full_name"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path file;
+    private final boolean enabled;
+    private final Duration deltaOverlap;
+    private final Duration maxAge;
+    private final MeterRegistry meterRegistry;
+    private boolean fetchSizeChosen;
+
+    private CatalogueSnapshot startupCatalogue;
+    private boolean startupLoaded;
+
+    public CatalogueSnapshotStore(DataSource dataSource, Path file, boolean enabled, Duration deltaOverlap,
+                                  Duration maxAge, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.file = file;
+        this.enabled = enabled;
+        this.deltaOverlap = deltaOverlap;
+        this.maxAge = maxAge;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * The snapshot merged with changes since it was written, loaded on the first call; empty when
+     * snapshots are disabled or unusable, and after startup has finished.
+     */
+    public synchronized Optional<CatalogueSnapshot> startupCatalogue() {
+        if (enabled && !startupLoaded) {
+            startupLoaded = true;
+            startupCatalogue = load();
+        }
+        return Optional.ofNullable(startupCatalogue);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void releaseStartupCatalogue() {
+        startupLoaded = true;
+        startupCatalogue = null;
+    }
+
+    @Scheduled(fixedDelayString = "${academy.snapshot.write-interval:900000}",
+            initialDelayString = "${academy.snapshot.write-interval:900000}")
+    public void scheduledWrite() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            write();
+        } catch (DataAccessException | IOException | UncheckedIOException e) {
+            log.warn("Catalogue snapshot not written: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stream both tables into a new snapshot file and replace the current one.
+     *
+     * @return number of rows written
+     */
+    public synchronized int write() throws IOException {
+        long start = System.nanoTime();
+        if (!fetchSizeChosen) {
+            jdbcTemplate.setFetchSize(streamingFetchSize());
+            fetchSizeChosen = true;
+        }
+        // Database time, so the delta query compares like with like whatever this node's clock says
+        Timestamp takenAt = jdbcTemplate.queryForObject("SELECT CURRENT_TIMESTAMP", Timestamp.class);
+        try (CatalogueSnapshotFile.Writer writer = CatalogueSnapshotFile.write(file, takenAt.toInstant())) {
+            jdbcTemplate.query(SELECT_TRAINERS, rs -> {
+                try {
+                    writer.addTrainer(rs.getInt(1), rs.getString(2));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            jdbcTemplate.query(SELECT_COURSES, rs -> {
+                try {
+                    writer.addCourse(rs.getInt(1), rs.getInt(5), rs.getDate(4).toLocalDate(),
+                            rs.getString(2), rs.getString(3));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.commit();
+            log.info("Catalogue snapshot written with {} rows ({} bytes) in {} ms", writer.rows(), Files.size(file),
+                    (System.nanoTime() - start) / 1_000_000);
+            return writer.rows();
+        }
+    }
+
+    /**
+     * Read the snapshot file and apply changes made since; {@code null} if the views should do a
+     * full read instead.
+     */
+    CatalogueSnapshot load() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "fallback";
+        try {
+            CatalogueSnapshot loaded = loadAndCatchUp();
+            if (loaded != null) {
+                outcome = "snapshot";
+            }
+            return loaded;
+        } finally {
+            sample.stop(Timer.builder("academy.snapshot.load")
+                    .description("Time to map the catalogue snapshot and catch up with the database")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private CatalogueSnapshot loadAndCatchUp() {
+        CatalogueSnapshot snapshot;
+        try {
+            snapshot = CatalogueSnapshotFile.read(file);
+        } catch (NoSuchFileException e) {
+            log.info("No catalogue snapshot at {}, loading from the database", file);
+            return null;
+        } catch (IOException e) {
+            log.warn("Catalogue snapshot unreadable, loading from the database: {}", e.getMessage());
+            return null;
+        }
+        if (snapshot.takenAt().isBefore(Instant.now().minus(maxAge))) {
+            log.info("Catalogue snapshot from {} is older than {}, loading from the database", snapshot.takenAt(), maxAge);
+            return null;
+        }
+
+        Timestamp since = Timestamp.from(snapshot.takenAt().minus(deltaOverlap));
+        Map<Integer, CourseRecord> courses = new LinkedHashMap<>(snapshot.courses().size() * 4 / 3 + 1);
+        for (CourseRecord course : snapshot.courses()) {
+            courses.put(course.id(), course);
+        }
+        Map<Integer, TrainerRecord> trainers = new LinkedHashMap<>(snapshot.trainers().size() * 4 / 3 + 1);
+        for (TrainerRecord trainer : snapshot.trainers()) {
+            trainers.put(trainer.id(), trainer);
+        }
+
+        int changed;
+        long[] counts;
+        try {
+            List<CourseRecord> changedCourses = jdbcTemplate.query(COURSES_CHANGED_SINCE, COURSE_ROW, since);
+            List<TrainerRecord> changedTrainers = jdbcTemplate.query(TRAINERS_CHANGED_SINCE, TRAINER_ROW, since);
+            counts = jdbcTemplate.queryForObject(COUNT_ROWS, (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+            for (CourseRecord course : changedCourses) {
+                courses.put(course.id(), course);
+            }
+            for (TrainerRecord trainer : changedTrainers) {
+                trainers.put(trainer.id(), trainer);
+            }
+            changed = changedCourses.size() + changedTrainers.size();
+        } catch (DataAccessException e) {
+            log.warn("Catalogue snapshot not caught up, database unavailable: {}", e.getMessage());
+            return null;
+        }
+
+        if (counts[0] != courses.size() || counts[1] != trainers.size()) {
+            log.info("Rows were deleted since the catalogue snapshot ({} courses / {} trainers in the database, "
+                    + "{} / {} after catch-up), loading from the database", counts[0], counts[1], courses.size(), trainers.size());
+            return null;
+        }
+        log.info("Catalogue loaded from snapshot taken at {} with {} changed rows since", snapshot.takenAt(), changed);
+        return new CatalogueSnapshot(snapshot.takenAt(), new ArrayList<>(courses.values()), new ArrayList<>(trainers.values()));
+    }
+
+    // MySQL Connector/J only streams a result set row by row when the fetch size is Integer.MIN_VALUE
+    private int streamingFetchSize() {
+        try (Connection connection = jdbcTemplate.getDataSource().getConnection()) {
+            return "MySQL".equals(connection.getMetaData().getDatabaseProductName()) ? Integer.MIN_VALUE : 10_000;
+        } catch (SQLException e) {
+            return 10_000;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.sparta.spartaglobalacademy.snapshot;
+
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+public class SnapshotConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotConfig.class);
+
+    @Bean
+    public CatalogueSnapshotStore catalogueSnapshotStore(DataSource dataSource, MeterRegistry meterRegistry,
+                                                         @Value("${academy.snapshot.enabled:false}") boolean enabled,
+                                                         @Value("${academy.snapshot.file:catalogue.snapshot}") Path file,
+                                                         @Value("${academy.snapshot.delta-overlap:5m}") Duration deltaOverlap,
+                                                         @Value("${academy.snapshot.max-age:24h}") Duration maxAge,
+                                                         ShardRouter shardRouter) {
+        // The snapshot reads one database; with several shards it would miss most of the catalogue
+        if (enabled && shardRouter.isSharded()) {
+            log.warn("Catalogue snapshot disabled: not supported with academy.sharding.enabled");
+            enabled = false;
+        }
+        return new CatalogueSnapshotStore(dataSource, file, enabled, deltaOverlap, maxAge, meterRegistry);
+    }
+}
@@ -0,0 +1,93 @@
+package com.sparta.spartaglobalacademy.titles;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * In-memory pre-check for duplicate course titles.
+ * <p>
+ * Holds a Bloom filter of every normalised title in {@code courses}. A negative answer means the
+ * title is definitely free and the database is not asked; a positive answer is only a "maybe" and
+ * callers confirm it with an indexed query. Until the first load completes every title is a maybe.
+ * The filter is only a fast path: it is local to this node, so a "definitely free" can be wrong for
+ * a title another node has just written, and the unique index on {@code courses.title_key} decides.
+ * <p>
+ * Titles are added once the write commits. Titles committed while a reload is running may be
+ * missing from the reload's snapshot, so they are replayed into the new filter before it is swapped in.
+ */
+public class CourseTitleFilter {
+
+    private static final long MIN_CAPACITY = 1024;
+
+    private final double falsePositiveRate;
+    private final Counter negatives;
+    private final Counter positives;
+    private final Counter falsePositives;
+
+    private volatile BloomFilter filter;
+    private List<String> pending;
+
+    public CourseTitleFilter(double falsePositiveRate, MeterRegistry meterRegistry) {
+        this.falsePositiveRate = falsePositiveRate;
+        this.negatives = Counter.builder("academy.titles.precheck").tag("result", "negative")
+                .description("Title checks answered by the in-memory filter alone").register(meterRegistry);
+        this.positives = Counter.builder("academy.titles.precheck").tag("result", "positive")
+                .description("Title checks that needed a database lookup").register(meterRegistry);
+        this.falsePositives = Counter.builder("academy.titles.precheck.false-positive")
+                .description("Database lookups that found no duplicate").register(meterRegistry);
+    }
+
+    /**
+     * Case- and surrounding-whitespace-insensitive form used for every comparison.
+     */
+    public static String normalize(String title) {
+        return title.strip().toLowerCase(Locale.ROOT);
+    }
+
+    public boolean mightExist(String title) {
+        BloomFilter current = filter;
+        boolean maybe = current == null || current.mightContain(normalize(title));
+        (maybe ? positives : negatives).increment();
+        return maybe;
+    }
+
+    public synchronized void add(String title) {
+        String normalized = normalize(title);
+        if (filter != null) {
+            filter.add(normalized);
+        }
+        if (pending != null) {
+            pending.add(normalized);
+        }
+    }
+
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    public boolean isLoaded() {
+        return filter != null;
+    }
+
+    synchronized BloomFilter beginRebuild(long expectedTitles) {
+        pending = new ArrayList<>();
+        // Headroom so writes between reloads do not push the false-positive rate up too quickly
+        return new BloomFilter(Math.max(MIN_CAPACITY, expectedTitles + expectedTitles / 2), falsePositiveRate);
+    }
+
+    synchronized void completeRebuild(BloomFilter rebuilt) {
+        for (String title : pending) {
+            rebuilt.add(title);
+        }
+        pending = null;
+        filter = rebuilt;
+    }
+
+    synchronized void abortRebuild() {
+        pending = null;
+    }
+}
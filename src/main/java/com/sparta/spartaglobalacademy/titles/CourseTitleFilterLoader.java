@@ -0,0 +1,99 @@
+package com.sparta.spartaglobalacademy.titles;
+
+import com.sparta.spartaglobalacademy.events.CourseChangedEvent;
+import com.sparta.spartaglobalacademy.events.CoursesCreatedEvent;
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import com.sparta.spartaglobalacademy.snapshot.CatalogueSnapshot;
+import com.sparta.spartaglobalacademy.snapshot.CatalogueSnapshotStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * Fills the title filter at startup (from the catalogue snapshot when there is one), adds titles of committed course writes and rebuilds it
+ * periodically, which resizes it for growth and sheds titles of deleted courses
+ * (a Bloom filter cannot remove them).
+ */
+public class CourseTitleFilterLoader implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseTitleFilterLoader.class);
+
+    private final CourseTitleFilter titleFilter;
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogueSnapshotStore snapshots;
+    private final ShardRouter shards;
+
+    public CourseTitleFilterLoader(CourseTitleFilter titleFilter, JdbcTemplate jdbcTemplate,
+                                   CatalogueSnapshotStore snapshots, ShardRouter shards) {
+        this.titleFilter = titleFilter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshots = snapshots;
+        this.shards = shards;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Optional<CatalogueSnapshot> catalogue = snapshots.startupCatalogue();
+        if (catalogue.isPresent()) {
+            rebuildFrom(catalogue.get());
+        } else {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${academy.titles.rebuild-interval:3600000}",
+            initialDelayString = "${academy.titles.rebuild-interval:3600000}")
+    public synchronized void rebuild() {
+        try {
+            long count = 0;
+            for (Long shardCount : shards.scatter(shard -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM courses", Long.class))) {
+                count += shardCount == null ? 0 : shardCount;
+            }
+            BloomFilter rebuilt = titleFilter.beginRebuild(count);
+            try {
+                // Titles are not retained; only the filter bits outlive the result set
+                shards.forEachShard(() -> jdbcTemplate.query("SELECT title FROM courses",
+                        rs -> { rebuilt.add(CourseTitleFilter.normalize(rs.getString(1))); }));
+            } catch (DataAccessException e) {
+                titleFilter.abortRebuild();
+                throw e;
+            }
+            titleFilter.completeRebuild(rebuilt);
+            log.info("Course title filter rebuilt for {} titles ({} bits, {} hashes)",
+                    count, rebuilt.bitSize(), rebuilt.hashCount());
+        } catch (DataAccessException e) {
+            log.warn("Course title filter not rebuilt, database unavailable: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void rebuildFrom(CatalogueSnapshot catalogue) {
+        BloomFilter rebuilt = titleFilter.beginRebuild(catalogue.courses().size());
+        for (CourseRecord course : catalogue.courses()) {
+            rebuilt.add(CourseTitleFilter.normalize(course.title()));
+        }
+        titleFilter.completeRebuild(rebuilt);
+        log.info("Course title filter built from the catalogue snapshot for {} titles", catalogue.courses().size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.course() != null) {
+            titleFilter.add(event.course().title());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCoursesCreated(CoursesCreatedEvent event) {
+        for (CourseRecord course : event.courses()) {
+            titleFilter.add(course.title());
+        }
+    }
+}
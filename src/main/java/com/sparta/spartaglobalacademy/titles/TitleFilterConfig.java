@@ -0,0 +1,26 @@
+package com.sparta.spartaglobalacademy.titles;
+
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import com.sparta.spartaglobalacademy.snapshot.CatalogueSnapshotStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class TitleFilterConfig {
+
+    @Bean
+    public CourseTitleFilter courseTitleFilter(
+            @Value("${academy.titles.false-positive-rate:0.01}") double falsePositiveRate,
+            MeterRegistry meterRegistry) {
+        return new CourseTitleFilter(falsePositiveRate, meterRegistry);
+    }
+
+    @Bean
+    public CourseTitleFilterLoader courseTitleFilterLoader(CourseTitleFilter titleFilter, JdbcTemplate jdbcTemplate,
+                                                           CatalogueSnapshotStore snapshots, ShardRouter shardRouter) {
+        return new CourseTitleFilterLoader(titleFilter, jdbcTemplate, snapshots, shardRouter);
+    }
+}
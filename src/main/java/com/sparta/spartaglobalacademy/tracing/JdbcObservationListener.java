@@ -0,0 +1,122 @@
+package com.sparta.spartaglobalacademy.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Opens an {@code academy.jdbc} observation per statement, as a child of whatever observation is
+ * current on the thread (normally a service call). Updates are closed here with their update count;
+ * queries are handed to the result set by {@link RowCountingProxyFactory} and closed once it has
+ * been read, with the number of rows fetched.
+ */
+public class JdbcObservationListener implements QueryExecutionListener {
+
+    static final String OBSERVATION_NAME = "academy.jdbc";
+
+    // Long statements (IN lists, batch inserts) are cut so spans stay small
+    static final int MAX_STATEMENT_LENGTH = 1000;
+
+    // Between beforeQuery and afterQuery / the result set being created, always on the executing thread
+    private final ThreadLocal<Observation> pending = new ThreadLocal<>();
+    private final ObservationRegistry observationRegistry;
+
+    public JdbcObservationListener(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (queryInfoList.isEmpty()) {
+            return;
+        }
+        String sql = queryInfoList.get(0).getQuery();
+        String operation = operation(sql);
+        Observation observation = Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName("jdbc " + operation)
+                .lowCardinalityKeyValue("db.operation", operation)
+                .lowCardinalityKeyValue("db.datasource", String.valueOf(execInfo.getDataSourceName()))
+                .highCardinalityKeyValue("db.statement", sql.length() > MAX_STATEMENT_LENGTH
+                        ? sql.substring(0, MAX_STATEMENT_LENGTH) : sql);
+        if (execInfo.isBatch()) {
+            observation.highCardinalityKeyValue("db.batch.size", String.valueOf(execInfo.getBatchSize()));
+        }
+        if (observation.isNoop()) {
+            return;
+        }
+        pending.set(observation.start());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Observation observation = pending.get();
+        if (observation == null) {
+            // Not observed, or already handed to the result set
+            return;
+        }
+        pending.remove();
+        if (!execInfo.isSuccess()) {
+            observation.error(execInfo.getThrowable());
+        } else {
+            long rows = updateCount(execInfo.getResult());
+            if (rows >= 0) {
+                observation.highCardinalityKeyValue("db.rows", String.valueOf(rows));
+            }
+        }
+        observation.stop();
+    }
+
+    /**
+     * Take the observation of the statement currently executing on this thread, leaving it to the
+     * caller to stop.
+     */
+    Observation takePending() {
+        Observation observation = pending.get();
+        if (observation != null) {
+            pending.remove();
+        }
+        return observation;
+    }
+
+    static String operation(String sql) {
+        int start = 0;
+        while (start < sql.length() && !Character.isLetter(sql.charAt(start))) {
+            start++;
+        }
+        int end = start;
+        while (end < sql.length() && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return end > start ? sql.substring(start, end).toLowerCase(Locale.ROOT) : "unknown";
+    }
+
+    // -1 when the result is not an update count (e.g. execute() returning a boolean)
+    static long updateCount(Object result) {
+        if (result instanceof Integer count) {
+            return count;
+        }
+        if (result instanceof Long count) {
+            return count;
+        }
+        if (result instanceof int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+        if (result instanceof long[] counts) {
+            long total = 0;
+            for (long count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+        return -1;
+    }
+}
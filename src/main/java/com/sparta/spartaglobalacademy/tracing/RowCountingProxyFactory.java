@@ -0,0 +1,70 @@
+package com.sparta.spartaglobalacademy.tracing;
+
+import io.micrometer.observation.Observation;
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.jdk.JdkJdbcProxyFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+
+/**
+ * Hands the result set of an observed query to a thin wrapper that counts {@code next()} rows and
+ * stops the statement's observation when the result set is closed. Result sets of statements that
+ * are not observed are returned untouched, so unsampled traffic pays nothing per row.
+ */
+public class RowCountingProxyFactory extends JdkJdbcProxyFactory {
+
+    private final JdbcObservationListener listener;
+
+    public RowCountingProxyFactory(JdbcObservationListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public ResultSet createResultSet(ResultSet resultSet, ConnectionInfo connectionInfo, ProxyConfig proxyConfig) {
+        Observation observation = listener.takePending();
+        if (observation == null) {
+            return resultSet;
+        }
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, new RowCounter(resultSet, observation));
+    }
+
+    private static final class RowCounter implements InvocationHandler {
+        private final ResultSet target;
+        private final Observation observation;
+        private long rows;
+        private boolean stopped;
+
+        RowCounter(ResultSet target, Observation observation) {
+            this.target = target;
+            this.observation = observation;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                if (!stopped) {
+                    observation.error(e.getTargetException());
+                }
+                throw e.getTargetException();
+            }
+            String name = method.getName();
+            if (name.equals("next") && Boolean.TRUE.equals(result)) {
+                rows++;
+            } else if (name.equals("close") && !stopped) {
+                stopped = true;
+                observation.highCardinalityKeyValue("db.rows", String.valueOf(rows));
+                observation.stop();
+            }
+            return result;
+        }
+    }
+}
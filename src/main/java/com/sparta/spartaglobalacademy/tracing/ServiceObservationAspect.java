@@ -0,0 +1,40 @@
+package com.sparta.spartaglobalacademy.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Wraps every public service method in an {@code academy.service} observation, which becomes a
+ * span under the request's {@code http.server.requests} span and above its JDBC statement spans.
+ * <p>
+ * Ordered just inside the shard routing aspect and outside the transaction interceptor, so the
+ * span includes connection checkout and commit.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ServiceObservationAspect {
+
+    static final String OBSERVATION_NAME = "academy.service";
+
+    private final ObservationRegistry observationRegistry;
+
+    public ServiceObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Around("execution(public * com.sparta.spartaglobalacademy.services.*.*(..))")
+    public Object observeServiceCall(ProceedingJoinPoint call) throws Throwable {
+        String service = call.getSignature().getDeclaringType().getSimpleName();
+        String method = call.getSignature().getName();
+        return Observation.createNotStarted(OBSERVATION_NAME, observationRegistry)
+                .contextualName(service + "." + method)
+                .lowCardinalityKeyValue("service", service)
+                .lowCardinalityKeyValue("method", method)
+                .observeChecked((Observation.CheckedCallable<Object, Throwable>) call::proceed);
+    }
+}
@@ -0,0 +1,65 @@
+package com.sparta.spartaglobalacademy.tracing;
+
+import io.micrometer.observation.ObservationRegistry;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.SimpleResultSetProxyLogicFactory;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Request tracing. Spring MVC already observes every controller request; this adds observations
+ * for service calls and JDBC statements, so each request traces as http, service and SQL spans.
+ * Which traces are kept is decided by {@code management.tracing.sampling.probability}; spans go to
+ * OTLP when {@code management.otlp.tracing.endpoint} is set and to a JSON-lines file when
+ * {@code academy.tracing.file} is set.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public ServiceObservationAspect serviceObservationAspect(ObservationRegistry observationRegistry) {
+        return new ServiceObservationAspect(observationRegistry);
+    }
+
+    // Static and lazily resolved so the data source is not created before post-processors are registered
+    @Bean
+    @ConditionalOnProperty(prefix = "academy.tracing.jdbc", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor jdbcObservationDataSourceProxy(ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                JdbcObservationListener listener = new JdbcObservationListener(observationRegistry.getObject());
+                // Another proxy (slow-query log, the tests' statement recorder) may already be in place
+                ProxyDataSource proxy = dataSource instanceof ProxyDataSource existing
+                        ? existing
+                        : ProxyDataSourceBuilder.create(dataSource).name(beanName).build();
+                proxy.getProxyConfig().getQueryListener().addListener(listener);
+                // A result set proxy factory has to be present for the proxy factory to be asked at all
+                proxy.setProxyConfig(ProxyConfig.Builder.from(proxy.getProxyConfig())
+                        .jdbcProxyFactory(new RowCountingProxyFactory(listener))
+                        .resultSetProxyLogicFactory(new SimpleResultSetProxyLogicFactory())
+                        .build());
+                return proxy;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "academy.tracing", name = "file")
+    public FileSpanExporter fileSpanExporter(@Value("${academy.tracing.file}") Path file) throws IOException {
+        return new FileSpanExporter(file);
+    }
+}
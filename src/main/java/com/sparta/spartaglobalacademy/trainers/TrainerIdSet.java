@@ -0,0 +1,103 @@
+package com.sparta.spartaglobalacademy.trainers;
+
+import com.sparta.spartaglobalacademy.collections.IntHashSet;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory set of every trainer id, so course writes naming a known trainer skip the trainer
+ * lookup. The set is local to this node, so a miss is only a hint: callers confirm it with the
+ * database (and {@link #add} the id if it is there) before rejecting the write.
+ * <p>
+ * Reads use the current snapshot without locking; each write copies the set and swaps the copy in,
+ * which suits a table that changes far less often than it is checked. The set errs on the side of
+ * holding too much: ids are added as soon as a create is published (inside its transaction) and
+ * removed only once a delete commits, so a committed trainer is never rejected. An id left behind by
+ * a rolled-back create is dropped at the next reload; until then fk_courses_trainer rejects writes
+ * naming it. A partitioned courses table has no such key, so there course writes skip this set and
+ * read the trainer row with a shared lock instead (academy.courses.partitioned).
+ * Until the first load completes every id is accepted.
+ */
+public class TrainerIdSet {
+
+    private record Change(int id, boolean added) {}
+
+    private final Counter rejected;
+
+    private volatile IntHashSet ids;
+    private List<Change> pending;
+
+    public TrainerIdSet(MeterRegistry meterRegistry) {
+        this.rejected = Counter.builder("academy.trainers.precheck.rejected")
+                .description("Course writes whose trainer was missing from the in-memory set and so was looked up")
+                .register(meterRegistry);
+        Gauge.builder("academy.trainers.ids", this, TrainerIdSet::size)
+                .description("Trainer ids held for course-write validation")
+                .register(meterRegistry);
+    }
+
+    public boolean mightExist(int id) {
+        IntHashSet current = ids;
+        boolean maybe = current == null || current.contains(id);
+        if (!maybe) {
+            rejected.increment();
+        }
+        return maybe;
+    }
+
+    public synchronized void add(int id) {
+        if (ids != null && !ids.contains(id)) {
+            IntHashSet next = new IntHashSet(ids);
+            next.add(id);
+            ids = next;
+        }
+        if (pending != null) {
+            pending.add(new Change(id, true));
+        }
+    }
+
+    public synchronized void remove(int id) {
+        if (ids != null && ids.contains(id)) {
+            IntHashSet next = new IntHashSet(ids);
+            next.remove(id);
+            ids = next;
+        }
+        if (pending != null) {
+            pending.add(new Change(id, false));
+        }
+    }
+
+    public boolean isLoaded() {
+        return ids != null;
+    }
+
+    public int size() {
+        IntHashSet current = ids;
+        return current == null ? 0 : current.size();
+    }
+
+    synchronized void beginRebuild() {
+        pending = new ArrayList<>();
+    }
+
+    // Writes seen while the snapshot was being read may be missing from it, so they are replayed in order
+    synchronized void completeRebuild(IntHashSet loaded) {
+        for (Change change : pending) {
+            if (change.added()) {
+                loaded.add(change.id());
+            } else {
+                loaded.remove(change.id());
+            }
+        }
+        pending = null;
+        ids = loaded;
+    }
+
+    synchronized void abortRebuild() {
+        pending = null;
+    }
+}
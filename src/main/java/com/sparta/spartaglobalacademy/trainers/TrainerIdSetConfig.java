@@ -0,0 +1,23 @@
+package com.sparta.spartaglobalacademy.trainers;
+
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import com.sparta.spartaglobalacademy.snapshot.CatalogueSnapshotStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class TrainerIdSetConfig {
+
+    @Bean
+    public TrainerIdSet trainerIdSet(MeterRegistry meterRegistry) {
+        return new TrainerIdSet(meterRegistry);
+    }
+
+    @Bean
+    public TrainerIdSetLoader trainerIdSetLoader(TrainerIdSet trainerIds, JdbcTemplate jdbcTemplate,
+                                                 CatalogueSnapshotStore snapshots, ShardRouter shardRouter) {
+        return new TrainerIdSetLoader(trainerIds, jdbcTemplate, snapshots, shardRouter);
+    }
+}
@@ -0,0 +1,95 @@
+package com.sparta.spartaglobalacademy.trainers;
+
+import com.sparta.spartaglobalacademy.collections.IntHashSet;
+import com.sparta.spartaglobalacademy.events.ChangeType;
+import com.sparta.spartaglobalacademy.events.TrainerChangedEvent;
+import com.sparta.spartaglobalacademy.records.TrainerRecord;
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import com.sparta.spartaglobalacademy.snapshot.CatalogueSnapshot;
+import com.sparta.spartaglobalacademy.snapshot.CatalogueSnapshotStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+
+/**
+ * Loads the trainer id set at startup (from the catalogue snapshot when there is one), keeps it current from TrainerService events and reloads it
+ * periodically to drop ids of creates that were rolled back.
+ */
+public class TrainerIdSetLoader implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(TrainerIdSetLoader.class);
+
+    private final TrainerIdSet trainerIds;
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogueSnapshotStore snapshots;
+    private final ShardRouter shards;
+
+    public TrainerIdSetLoader(TrainerIdSet trainerIds, JdbcTemplate jdbcTemplate, CatalogueSnapshotStore snapshots,
+                              ShardRouter shards) {
+        this.trainerIds = trainerIds;
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshots = snapshots;
+        this.shards = shards;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Optional<CatalogueSnapshot> catalogue = snapshots.startupCatalogue();
+        if (catalogue.isPresent()) {
+            rebuildFrom(catalogue.get());
+        } else {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${academy.trainers.rebuild-interval:3600000}",
+            initialDelayString = "${academy.trainers.rebuild-interval:3600000}")
+    public synchronized void rebuild() {
+        trainerIds.beginRebuild();
+        try {
+            IntHashSet loaded = new IntHashSet();
+            // Courses may name a trainer on any shard, so the set holds them all
+            shards.forEachShard(() ->
+                    jdbcTemplate.query("SELECT trainer_id FROM trainers", rs -> { loaded.add(rs.getInt(1)); }));
+            trainerIds.completeRebuild(loaded);
+            log.info("Trainer id set loaded with {} trainers", loaded.size());
+        } catch (DataAccessException e) {
+            trainerIds.abortRebuild();
+            log.warn("Trainer id set not loaded, database unavailable: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void rebuildFrom(CatalogueSnapshot catalogue) {
+        trainerIds.beginRebuild();
+        IntHashSet loaded = new IntHashSet();
+        for (TrainerRecord trainer : catalogue.trainers()) {
+            loaded.add(trainer.id());
+        }
+        trainerIds.completeRebuild(loaded);
+        log.info("Trainer id set loaded from the catalogue snapshot with {} trainers", loaded.size());
+    }
+
+    // In the creating transaction, so the id is known before any course can reference it
+    @EventListener
+    public void onTrainerCreated(TrainerChangedEvent event) {
+        if (event.type() == ChangeType.CREATED) {
+            trainerIds.add(event.trainerId());
+        }
+    }
+
+    // After commit, so courses keep validating against the trainer until it is really gone
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTrainerDeleted(TrainerChangedEvent event) {
+        if (event.type() == ChangeType.DELETED) {
+            trainerIds.remove(event.trainerId());
+        }
+    }
+}
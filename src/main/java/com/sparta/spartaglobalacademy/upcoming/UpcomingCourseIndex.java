@@ -0,0 +1,196 @@
+package com.sparta.spartaglobalacademy.upcoming;
+
+import com.sparta.spartaglobalacademy.collections.IntIntHashMap;
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Courses ordered by enroll date, for "what starts this week" and "next N courses" queries.
+ * <p>
+ * Entries live in a {@link ConcurrentSkipListMap} keyed by {@code (epochDay << 32) | courseId}, so
+ * a date range is one {@code subMap} view: O(log n) to find the start, then O(k) to walk it.
+ * Each trainer also has its own skip list with the same keys, so a trainer-filtered query seeks
+ * into that trainer's courses instead of walking everyone's: O(log n + k) either way.
+ * Reads are lock-free; writes are serialised on this object to keep the id to date map in step.
+ * Only courses from {@code lookbackDays} ago onwards are kept; older ones drop out at the next rebuild.
+ */
+public class UpcomingCourseIndex {
+
+    private static final int NO_DAY = Integer.MIN_VALUE;
+
+    private final Clock clock;
+    private final int lookbackDays;
+
+    private volatile ConcurrentSkipListMap<Long, CourseRecord> byDate = new ConcurrentSkipListMap<>();
+    private volatile ConcurrentHashMap<Integer, ConcurrentSkipListMap<Long, CourseRecord>> byTrainer =
+            new ConcurrentHashMap<>();
+    private volatile int horizonDay;
+    private IntIntHashMap dayById = new IntIntHashMap(1024, NO_DAY);
+    // Writes seen while a rebuild is loading; course is null for a removal
+    private record PendingWrite(int courseId, CourseRecord course) {}
+    private List<PendingWrite> pendingWrites;
+
+    public UpcomingCourseIndex(int lookbackDays) {
+        this(lookbackDays, Clock.systemDefaultZone());
+    }
+
+    UpcomingCourseIndex(int lookbackDays, Clock clock) {
+        if (lookbackDays < 0) {
+            throw new IllegalArgumentException("lookbackDays cannot be negative");
+        }
+        this.clock = clock;
+        this.lookbackDays = lookbackDays;
+        this.horizonDay = currentHorizon();
+    }
+
+    /**
+     * Earliest enroll date the index can answer for.
+     */
+    public LocalDate horizon() {
+        return LocalDate.ofEpochDay(horizonDay);
+    }
+
+    /**
+     * Courses starting between {@code from} and {@code to} inclusive, in date then id order.
+     */
+    public List<CourseRecord> between(LocalDate from, LocalDate to, Integer trainerId, int limit) {
+        long fromKey = key((int) from.toEpochDay(), 0);
+        long toKey = key((int) to.toEpochDay() + 1, 0);
+        ConcurrentNavigableMap<Long, CourseRecord> courses = courses(trainerId);
+        return collect(courses.subMap(fromKey, true, toKey, false).values(), limit);
+    }
+
+    /**
+     * The first {@code limit} courses starting on or after {@code from}.
+     */
+    public List<CourseRecord> next(LocalDate from, Integer trainerId, int limit) {
+        return collect(courses(trainerId).tailMap(key((int) from.toEpochDay(), 0), true).values(), limit);
+    }
+
+    public int size() {
+        return byDate.size();
+    }
+
+    public synchronized void upsert(CourseRecord course) {
+        apply(byDate, byTrainer, dayById, course, horizonDay);
+        if (pendingWrites != null) {
+            pendingWrites.add(new PendingWrite(course.id(), course));
+        }
+    }
+
+    public synchronized void remove(int courseId) {
+        evict(byDate, byTrainer, dayById, courseId);
+        if (pendingWrites != null) {
+            pendingWrites.add(new PendingWrite(courseId, null));
+        }
+    }
+
+    /**
+     * Start a rebuild; returns the first date the loader should read from. Writes made until
+     * {@link #completeRebuild(Collection)} are replayed onto the loaded data.
+     */
+    public synchronized LocalDate beginRebuild() {
+        pendingWrites = new ArrayList<>();
+        return LocalDate.ofEpochDay(currentHorizon());
+    }
+
+    public void completeRebuild(Collection<CourseRecord> loaded) {
+        int newHorizon = currentHorizon();
+        ConcurrentSkipListMap<Long, CourseRecord> newByDate = new ConcurrentSkipListMap<>();
+        ConcurrentHashMap<Integer, ConcurrentSkipListMap<Long, CourseRecord>> newByTrainer = new ConcurrentHashMap<>();
+        IntIntHashMap newDayById = new IntIntHashMap(loaded.size(), NO_DAY);
+        for (CourseRecord course : loaded) {
+            apply(newByDate, newByTrainer, newDayById, course, newHorizon);
+        }
+        synchronized (this) {
+            if (pendingWrites != null) {
+                for (PendingWrite write : pendingWrites) {
+                    if (write.course() == null) {
+                        evict(newByDate, newByTrainer, newDayById, write.courseId());
+                    } else {
+                        apply(newByDate, newByTrainer, newDayById, write.course(), newHorizon);
+                    }
+                }
+            }
+            pendingWrites = null;
+            dayById = newDayById;
+            horizonDay = newHorizon;
+            byTrainer = newByTrainer;
+            byDate = newByDate;
+        }
+    }
+
+    public synchronized void abortRebuild() {
+        pendingWrites = null;
+    }
+
+    // All courses, or just one trainer's; an unknown trainer gets an empty map
+    private ConcurrentNavigableMap<Long, CourseRecord> courses(Integer trainerId) {
+        if (trainerId == null) {
+            return byDate;
+        }
+        ConcurrentSkipListMap<Long, CourseRecord> courses = byTrainer.get(trainerId);
+        return courses != null ? courses : new ConcurrentSkipListMap<>();
+    }
+
+    private static void apply(ConcurrentSkipListMap<Long, CourseRecord> map,
+                              ConcurrentHashMap<Integer, ConcurrentSkipListMap<Long, CourseRecord>> trainers,
+                              IntIntHashMap days, CourseRecord course, int horizon) {
+        evict(map, trainers, days, course.id());
+        int day = (int) course.enrollDate().toEpochDay();
+        if (day >= horizon) {
+            long key = key(day, course.id());
+            map.put(key, course);
+            if (course.trainerId() != null) {
+                trainers.computeIfAbsent(course.trainerId(), id -> new ConcurrentSkipListMap<>()).put(key, course);
+            }
+            days.put(course.id(), day);
+        }
+    }
+
+    private static void evict(ConcurrentSkipListMap<Long, CourseRecord> map,
+                              ConcurrentHashMap<Integer, ConcurrentSkipListMap<Long, CourseRecord>> trainers,
+                              IntIntHashMap days, int courseId) {
+        int day = days.remove(courseId);
+        if (day != NO_DAY) {
+            long key = key(day, courseId);
+            CourseRecord old = map.remove(key);
+            if (old != null && old.trainerId() != null) {
+                ConcurrentSkipListMap<Long, CourseRecord> courses = trainers.get(old.trainerId());
+                if (courses != null) {
+                    courses.remove(key);
+                    if (courses.isEmpty()) {
+                        trainers.remove(old.trainerId());
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<CourseRecord> collect(Collection<CourseRecord> courses, int limit) {
+        List<CourseRecord> result = new ArrayList<>(Math.min(limit, 256));
+        for (CourseRecord course : courses) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(course);
+        }
+        return result;
+    }
+
+    private int currentHorizon() {
+        return (int) LocalDate.now(clock).minusDays(lookbackDays).toEpochDay();
+    }
+
+    static long key(int epochDay, int courseId) {
+        return ((long) epochDay << 32) | (courseId & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,111 @@
+package com.sparta.spartaglobalacademy.upcoming;
+
+import com.sparta.spartaglobalacademy.events.ChangeType;
+import com.sparta.spartaglobalacademy.events.CourseChangedEvent;
+import com.sparta.spartaglobalacademy.events.CoursesCreatedEvent;
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import com.sparta.spartaglobalacademy.snapshot.CatalogueSnapshot;
+import com.sparta.spartaglobalacademy.snapshot.CatalogueSnapshotStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Loads courses from the index horizon onwards at startup (from the catalogue snapshot when there is one), applies committed course writes and
+ * reloads periodically so courses that have fallen behind the horizon are dropped.
+ */
+public class UpcomingCourseIndexLoader implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(UpcomingCourseIndexLoader.class);
+
+    // Served by idx_course_enroll_date
+    static final String SELECT_FROM_DATE =
+            "SELECT course_id, title, description, enroll_date, trainer_id FROM courses WHERE enroll_date >= ?";
+
+    private final UpcomingCourseIndex index;
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogueSnapshotStore snapshots;
+    private final ShardRouter shards;
+
+    public UpcomingCourseIndexLoader(UpcomingCourseIndex index, JdbcTemplate jdbcTemplate,
+                                     CatalogueSnapshotStore snapshots, ShardRouter shards) {
+        this.index = index;
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshots = snapshots;
+        this.shards = shards;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Optional<CatalogueSnapshot> catalogue = snapshots.startupCatalogue();
+        if (catalogue.isPresent()) {
+            rebuildFrom(catalogue.get());
+        } else {
+            rebuild();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${academy.upcoming.rebuild-interval:3600000}",
+            initialDelayString = "${academy.upcoming.rebuild-interval:3600000}")
+    public synchronized void rebuild() {
+        LocalDate from = index.beginRebuild();
+        List<CourseRecord> loaded = new ArrayList<>();
+        try {
+            for (List<CourseRecord> shardCourses : shards.scatter(shard ->
+                    jdbcTemplate.query(SELECT_FROM_DATE, (rs, rowNum) -> new CourseRecord(
+                            rs.getInt("course_id"),
+                            rs.getString("title"),
+                            rs.getString("description"),
+                            rs.getDate("enroll_date").toLocalDate(),
+                            rs.getInt("trainer_id")), Date.valueOf(from)))) {
+                loaded.addAll(shardCourses);
+            }
+        } catch (DataAccessException e) {
+            index.abortRebuild();
+            log.warn("Upcoming course index not rebuilt, database unavailable: {}", e.getMessage());
+            return;
+        }
+        index.completeRebuild(loaded);
+        log.info("Upcoming course index rebuilt with {} courses from {}", index.size(), from);
+    }
+
+    private synchronized void rebuildFrom(CatalogueSnapshot catalogue) {
+        LocalDate from = index.beginRebuild();
+        List<CourseRecord> loaded = new ArrayList<>();
+        for (CourseRecord course : catalogue.courses()) {
+            if (!course.enrollDate().isBefore(from)) {
+                loaded.add(course);
+            }
+        }
+        index.completeRebuild(loaded);
+        log.info("Upcoming course index built from the catalogue snapshot with {} courses from {}", index.size(), from);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCourseChanged(CourseChangedEvent event) {
+        if (event.type() == ChangeType.DELETED || event.course() == null) {
+            index.remove(event.courseId());
+        } else {
+            index.upsert(event.course());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCoursesCreated(CoursesCreatedEvent event) {
+        for (CourseRecord course : event.courses()) {
+            index.upsert(course);
+        }
+    }
+}
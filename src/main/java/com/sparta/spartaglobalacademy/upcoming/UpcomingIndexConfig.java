@@ -0,0 +1,23 @@
+package com.sparta.spartaglobalacademy.upcoming;
+
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import com.sparta.spartaglobalacademy.snapshot.CatalogueSnapshotStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class UpcomingIndexConfig {
+
+    @Bean
+    public UpcomingCourseIndex upcomingCourseIndex(@Value("${academy.upcoming.lookback-days:7}") int lookbackDays) {
+        return new UpcomingCourseIndex(lookbackDays);
+    }
+
+    @Bean
+    public UpcomingCourseIndexLoader upcomingCourseIndexLoader(UpcomingCourseIndex index, JdbcTemplate jdbcTemplate,
+                                                               CatalogueSnapshotStore snapshots, ShardRouter shardRouter) {
+        return new UpcomingCourseIndexLoader(index, jdbcTemplate, snapshots, shardRouter);
+    }
+}
@@ -0,0 +1,158 @@
+package com.sparta.spartaglobalacademy.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.spartaglobalacademy.records.CourseLookupRecord;
+import com.sparta.spartaglobalacademy.records.CourseMapper;
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.records.TrainerMapper;
+import com.sparta.spartaglobalacademy.records.TrainerRecord;
+import com.sparta.spartaglobalacademy.services.CourseService;
+import com.sparta.spartaglobalacademy.services.TrainerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs once at startup, before the instance reports ready, so the first real requests do not pay
+ * for cold pool connections, empty caches, unparsed queries and interpreted code.
+ * <ol>
+ *   <li>opens the pool's connections by holding that many at once</li>
+ *   <li>loads every trainer (second-level and query cache) and the next upcoming courses (near-cache)
+ *       through the services, the same path requests take</li>
+ *   <li>maps and serialises the loaded records repeatedly, in memory, so the JIT compiles the
+ *       mapper and Jackson paths</li>
+ * </ol>
+ * A failed step (e.g. database down, or any other exception) is logged and ends the warm-up; the
+ * instance still starts.
+ */
+public class StartupWarmUp implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmUp.class);
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TrainerService trainerService;
+    private final CourseService courseService;
+    private final CourseMapper courseMapper;
+    private final TrainerMapper trainerMapper;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final int connections;
+    private final int hotCourses;
+    private final int iterations;
+
+    private volatile boolean finished;
+
+    public StartupWarmUp(DataSource dataSource, JdbcTemplate jdbcTemplate,
+                         TrainerService trainerService, CourseService courseService,
+                         CourseMapper courseMapper, TrainerMapper trainerMapper,
+                         ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                         int connections, int hotCourses, int iterations) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.trainerService = trainerService;
+        this.courseService = courseService;
+        this.courseMapper = courseMapper;
+        this.trainerMapper = trainerMapper;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.connections = connections;
+        this.hotCourses = hotCourses;
+        this.iterations = iterations;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            openConnections();
+            List<TrainerRecord> trainers = trainerService.getAllTrainers();
+            List<CourseRecord> courses = loadHotCourses();
+            exerciseMappingAndSerialisation(trainers, courses);
+            log.info("Warm-up finished: {} connections, {} trainers, {} courses, {} mapping rounds",
+                    connections, trainers.size(), courses.size(), iterations);
+        } catch (DataAccessException | SQLException e) {
+            outcome = "failure";
+            log.warn("Warm-up stopped early, database unavailable: {}", e.getMessage());
+        } catch (RuntimeException e) {
+            // Warming is best effort: never let it stop the application from starting
+            outcome = "failure";
+            log.warn("Warm-up stopped early", e);
+        } finally {
+            long nanos = sample.stop(Timer.builder("academy.warmup.duration")
+                    .description("Time spent warming up before reporting ready")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+            log.info("Warm-up took {} ms", nanos / 1_000_000);
+            finished = true;
+        }
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    // Holding N connections at once makes the pool open N physical connections now
+    private void openConnections() throws SQLException {
+        List<Connection> held = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                Connection connection = dataSource.getConnection();
+                held.add(connection);
+                connection.isValid(1);
+            }
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+    }
+
+    private List<CourseRecord> loadHotCourses() {
+        List<Integer> ids = jdbcTemplate.queryForList(
+                "SELECT course_id FROM courses WHERE enroll_date >= CURRENT_DATE ORDER BY enroll_date LIMIT ?",
+                Integer.class, hotCourses);
+        // Looked up in chunks the multi-get accepts, however large hot-courses is set
+        List<CourseRecord> found = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += CourseService.MAX_LOOKUP_IDS) {
+            List<Integer> chunk = ids.subList(from, Math.min(ids.size(), from + CourseService.MAX_LOOKUP_IDS));
+            found.addAll(courseService.getCoursesByIds(chunk).found());
+            // Second pass is served by the near-cache, warming that path too
+            courseService.getCoursesByIds(chunk);
+        }
+        return found;
+    }
+
+    private void exerciseMappingAndSerialisation(List<TrainerRecord> trainers, List<CourseRecord> courses) {
+        try {
+            for (int i = 0; i < iterations; i++) {
+                List<CourseRecord> mappedCourses = new ArrayList<>(courses.size());
+                for (CourseRecord course : courses) {
+                    mappedCourses.add(courseMapper.toRecord(courseMapper.toEntity(course)));
+                }
+                List<TrainerRecord> mappedTrainers = new ArrayList<>(trainers.size());
+                for (TrainerRecord trainer : trainers) {
+                    mappedTrainers.add(trainerMapper.toRecord(trainerMapper.toEntity(trainer)));
+                }
+                objectMapper.writeValueAsBytes(mappedCourses);
+                objectMapper.writeValueAsBytes(mappedTrainers);
+                objectMapper.writeValueAsBytes(new CourseLookupRecord(mappedCourses, List.of()));
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Warm-up serialisation failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.sparta.spartaglobalacademy.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.spartaglobalacademy.records.CourseMapper;
+import com.sparta.spartaglobalacademy.records.TrainerMapper;
+import com.sparta.spartaglobalacademy.services.CourseService;
+import com.sparta.spartaglobalacademy.services.TrainerService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+@Configuration
+public class WarmUpConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "academy.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public StartupWarmUp startupWarmUp(DataSource dataSource, JdbcTemplate jdbcTemplate,
+                                       TrainerService trainerService, CourseService courseService,
+                                       CourseMapper courseMapper, TrainerMapper trainerMapper,
+                                       ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                       @Value("${academy.warmup.connections:10}") int connections,
+                                       @Value("${academy.warmup.hot-courses:500}") int hotCourses,
+                                       @Value("${academy.warmup.iterations:200}") int iterations) {
+        return new StartupWarmUp(dataSource, jdbcTemplate, trainerService, courseService, courseMapper, trainerMapper,
+                objectMapper, meterRegistry, Math.min(connections, maxPoolSize(dataSource, connections)),
+                hotCourses, iterations);
+    }
+
+    // Registered even with warm-up disabled, since the readiness group names it
+    @Bean
+    public WarmUpHealthIndicator warmUpHealthIndicator(ObjectProvider<StartupWarmUp> startupWarmUp) {
+        return new WarmUpHealthIndicator(startupWarmUp.getIfAvailable());
+    }
+
+    // Holding more connections than the pool allows would block until the acquire timeout
+    private static int maxPoolSize(DataSource dataSource, int fallback) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize()
+                    : fallback;
+        } catch (SQLException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.sparta.spartaglobalacademy.warmup;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * {@code warmUp} health component: OUT_OF_SERVICE until {@link StartupWarmUp} has finished.
+ * Part of the readiness group, so the instance only receives traffic once it is warm.
+ * Always UP when warm-up is disabled.
+ */
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final StartupWarmUp warmUp;
+
+    public WarmUpHealthIndicator(StartupWarmUp warmUp) {
+        this.warmUp = warmUp;
+    }
+
+    @Override
+    public Health health() {
+        return warmUp == null || warmUp.isFinished() ? Health.up().build() : Health.outOfService().withDetail("reason", "warming up").build();
+    }
+}
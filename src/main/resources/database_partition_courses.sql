@@ -0,0 +1,130 @@
+-- ===============================================
+-- Sparta Academy — Partition courses by enroll_date
+-- MySQL 8 only (H2 and the integration tests keep the
+-- plain table from database_setup_fixed.sql)
+-- Run once after database_setup_fixed.sql:
+--   mysql -u sparta_user -p sparta_academy < src/main/resources/database_partition_courses.sql
+-- ===============================================
+--
+-- courses is split into one RANGE partition per enrolment year so that
+-- queries filtering on enroll_date (upcoming courses, warm-up, archiving)
+-- only touch the partitions they need. Check with:
+--   EXPLAIN SELECT * FROM courses WHERE enroll_date >= CURDATE();
+-- the "partitions" column should list only the current and later years.
+--
+-- MySQL requires every unique key of a partitioned table to contain the
+-- partitioning column and does not allow foreign keys on it, so:
+--   * the primary key becomes (course_id, enroll_date); course_id is still
+--     AUTO_INCREMENT and unique in practice, and lookups by course_id alone
+--     probe the primary key of each partition;
+--   * fk_courses_trainer is dropped; with academy.courses.partitioned=true the
+--     application reads the trainer row FOR SHARE in every course write and
+--     locks it FOR UPDATE before refusing to delete a trainer that still has
+--     courses, so the two cannot interleave;
+--   * uq_course_title_key becomes a plain index, and title uniqueness moves to
+--     course_title_keys (primary key title_key), kept in step by triggers, so
+--     a duplicate title still fails in the database with a duplicate-key error.
+--
+-- Old cohorts are moved to courses_archive by the application archiver
+-- (academy.archive.enabled); empty yearly partitions can then be dropped
+-- with ALTER TABLE courses DROP PARTITION pYYYY.
+-- ===============================================
+
+USE sparta_academy;
+
+ALTER TABLE courses DROP FOREIGN KEY fk_courses_trainer;
+
+CREATE TABLE course_title_keys (
+    title_key VARCHAR(50) PRIMARY KEY,
+    course_id INT NOT NULL
+) ENGINE=InnoDB CHARACTER SET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='Unique course title keys; courses is partitioned so cannot hold the unique index itself';
+
+INSERT INTO course_title_keys (title_key, course_id)
+SELECT title_key, course_id FROM courses;
+
+ALTER TABLE courses
+    DROP INDEX uq_course_title_key,
+    ADD INDEX idx_course_title_key (title_key),
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (course_id, enroll_date);
+
+ALTER TABLE courses
+PARTITION BY RANGE COLUMNS (enroll_date) (
+    PARTITION p2020 VALUES LESS THAN ('2021-01-01'),
+    PARTITION p2021 VALUES LESS THAN ('2022-01-01'),
+    PARTITION p2022 VALUES LESS THAN ('2023-01-01'),
+    PARTITION p2023 VALUES LESS THAN ('2024-01-01'),
+    PARTITION p2024 VALUES LESS THAN ('2025-01-01'),
+    PARTITION p2025 VALUES LESS THAN ('2026-01-01'),
+    PARTITION p2026 VALUES LESS THAN ('2027-01-01'),
+    PARTITION p2027 VALUES LESS THAN ('2028-01-01'),
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+
+-- Archived rows are written once and read rarely, so trade CPU for space
+ALTER TABLE courses_archive ROW_FORMAT=COMPRESSED KEY_BLOCK_SIZE=8;
+
+-- ===============================================
+-- Yearly maintenance: split pmax so next year gets its own partition
+-- Usage: CALL sp_add_course_partition(2028);
+-- ===============================================
+DELIMITER $$
+
+-- ===============================================
+-- Title uniqueness: a second course with the same title_key fails the
+-- course_title_keys primary key and so the whole course write
+-- ===============================================
+DROP TRIGGER IF EXISTS trg_courses_title_insert $$
+
+CREATE TRIGGER trg_courses_title_insert AFTER INSERT ON courses
+FOR EACH ROW
+BEGIN
+    INSERT INTO course_title_keys (title_key, course_id) VALUES (NEW.title_key, NEW.course_id);
+END $$
+
+DROP TRIGGER IF EXISTS trg_courses_title_update $$
+
+CREATE TRIGGER trg_courses_title_update AFTER UPDATE ON courses
+FOR EACH ROW
+BEGIN
+    IF NOT (NEW.title_key <=> OLD.title_key) THEN
+        DELETE FROM course_title_keys WHERE title_key = OLD.title_key AND course_id = OLD.course_id;
+        INSERT INTO course_title_keys (title_key, course_id) VALUES (NEW.title_key, NEW.course_id);
+    END IF;
+END $$
+
+DROP TRIGGER IF EXISTS trg_courses_title_delete $$
+
+CREATE TRIGGER trg_courses_title_delete AFTER DELETE ON courses
+FOR EACH ROW
+BEGIN
+    DELETE FROM course_title_keys WHERE title_key = OLD.title_key AND course_id = OLD.course_id;
+END $$
+
+DROP PROCEDURE IF EXISTS sp_add_course_partition $$
+
+CREATE PROCEDURE sp_add_course_partition(IN p_year INT)
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM information_schema.partitions
+        WHERE table_schema = DATABASE() AND table_name = 'courses'
+          AND partition_name = CONCAT('p', p_year)
+    ) THEN
+        SET @ddl = CONCAT(
+            'ALTER TABLE courses REORGANIZE PARTITION pmax INTO (',
+            'PARTITION p', p_year, ' VALUES LESS THAN (''', p_year + 1, '-01-01''), ',
+            'PARTITION pmax VALUES LESS THAN (MAXVALUE))');
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END $$
+
+DELIMITER ;
+
+-- Show the resulting layout
+SELECT partition_name, partition_description, table_rows
+FROM information_schema.partitions
+WHERE table_schema = 'sparta_academy' AND table_name = 'courses'
+ORDER BY partition_ordinal_position;
@@ -7,7 +7,11 @@
 USE sparta_academy;
 
 SET FOREIGN_KEY_CHECKS = 0;
-TRUNCATE TABLE courses;
+TRUNCATE TABLE outbox_events;
+TRUNCATE TABLE course_details_read;
+TRUNCATE TABLE courses_archive;
+-- DELETE rather than TRUNCATE so the title-key triggers of a partitioned courses table fire
+DELETE FROM courses;
 TRUNCATE TABLE trainers;
 SET FOREIGN_KEY_CHECKS = 1;
 
@@ -25,6 +29,12 @@ INSERT INTO courses (course_id, title, description, enroll_date, trainer_id) VAL
 (4, 'TECH 303', 'DevOps Engineering Course', '2023-06-01', 4),
 (5, 'DATA 304', 'Data Science Course', '2023-07-01', 5);
 
+-- Rebuild the denormalised read table
+INSERT INTO course_details_read (course_id, course_title, course_description, enroll_date, trainer_id, trainer_name)
+SELECT c.course_id, c.title, c.description, c.enroll_date, t.trainer_id, t.full_name
+FROM courses c
+INNER JOIN trainers t ON c.trainer_id = t.trainer_id;
+
 -- Refresh view (no-op if already exists)
 CREATE OR REPLACE VIEW course_details AS
 SELECT 
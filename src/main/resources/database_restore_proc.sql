@@ -30,7 +30,8 @@ BEGIN
         updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
         CONSTRAINT chk_trainer_name_not_empty CHECK (CHAR_LENGTH(TRIM(full_name)) > 0),
-        INDEX idx_trainer_name (full_name)
+        INDEX idx_trainer_name (full_name),
+        INDEX idx_trainer_updated_at (updated_at)
     ) ENGINE=InnoDB CHARACTER SET=utf8mb4 COLLATE=utf8mb4_unicode_ci
     COMMENT='Sparta Academy trainers/instructors';
 
@@ -40,6 +41,8 @@ BEGIN
         description TEXT NOT NULL,
         enroll_date DATE NOT NULL,
         trainer_id INT NOT NULL,
+        -- Normalised title the uniqueness rule is enforced on (the application stores titles stripped)
+        title_key VARCHAR(50) GENERATED ALWAYS AS (LOWER(TRIM(title))),
         created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
         updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
@@ -53,12 +56,53 @@ BEGIN
         CONSTRAINT chk_course_description_not_empty CHECK (CHAR_LENGTH(TRIM(description)) > 0),
         CONSTRAINT chk_course_enroll_date_valid CHECK (enroll_date >= '2020-01-01'),
 
+        UNIQUE INDEX uq_course_title_key (title_key),
         INDEX idx_course_title (title),
         INDEX idx_course_enroll_date (enroll_date),
-        INDEX idx_course_trainer (trainer_id)
+        INDEX idx_course_trainer (trainer_id),
+        INDEX idx_course_updated_at (updated_at)
     ) ENGINE=InnoDB CHARACTER SET=utf8mb4 COLLATE=utf8mb4_unicode_ci
     COMMENT='Sparta Academy courses and training programs';
 
+    CREATE TABLE IF NOT EXISTS outbox_events (
+        event_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+        aggregate_type VARCHAR(20) NOT NULL,
+        aggregate_id INT NOT NULL,
+        event_type VARCHAR(20) NOT NULL,
+        payload TEXT NULL,
+        created_at TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3),
+
+        INDEX idx_outbox_aggregate (aggregate_type, aggregate_id, event_id)
+    ) ENGINE=InnoDB CHARACTER SET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+    COMMENT='Transactional outbox for course/trainer change events';
+
+    CREATE TABLE IF NOT EXISTS course_details_read (
+        course_id INT PRIMARY KEY,
+        course_title VARCHAR(50) NOT NULL,
+        course_description TEXT NOT NULL,
+        enroll_date DATE NOT NULL,
+        trainer_id INT NOT NULL,
+        trainer_name VARCHAR(100) NOT NULL,
+
+        INDEX idx_cdr_trainer (trainer_id),
+        INDEX idx_cdr_enroll_date (enroll_date)
+    ) ENGINE=InnoDB CHARACTER SET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+    COMMENT='Read model for course_details (maintained by the application)';
+
+    CREATE TABLE IF NOT EXISTS courses_archive (
+        course_id INT PRIMARY KEY,
+        title VARCHAR(50) NOT NULL,
+        description TEXT NOT NULL,
+        enroll_date DATE NOT NULL,
+        trainer_id INT NOT NULL,
+        trainer_name VARCHAR(100) NOT NULL,
+        archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+        INDEX idx_archive_enroll_date (enroll_date),
+        INDEX idx_archive_trainer (trainer_id)
+    ) ENGINE=InnoDB CHARACTER SET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+    COMMENT='Archived (past) courses, read only when explicitly requested';
+
     -- Upsert canonical trainers
     INSERT INTO trainers (trainer_id, full_name)
     VALUES
@@ -84,6 +128,16 @@ BEGIN
         enroll_date = VALUES(enroll_date),
         trainer_id = VALUES(trainer_id);
 
+    -- Canonical courses live in courses again, so drop any archived copies
+    DELETE FROM courses_archive WHERE course_id BETWEEN 1 AND 5;
+
+    -- Rebuild the denormalised read table from the base tables
+    DELETE FROM course_details_read;
+    INSERT INTO course_details_read (course_id, course_title, course_description, enroll_date, trainer_id, trainer_name)
+    SELECT c.course_id, c.title, c.description, c.enroll_date, t.trainer_id, t.full_name
+    FROM courses c
+    INNER JOIN trainers t ON c.trainer_id = t.trainer_id;
+
     -- Recreate/refresh view
     CREATE OR REPLACE VIEW course_details AS
     SELECT 
@@ -14,6 +14,10 @@ SET foreign_key_checks = 1;
 -- ===============================================
 -- DROP EXISTING TABLES (if they exist)
 -- ===============================================
+DROP TABLE IF EXISTS outbox_events;
+DROP TABLE IF EXISTS courses_archive;
+DROP TABLE IF EXISTS course_details_read;
+DROP TABLE IF EXISTS course_title_keys;
 DROP TABLE IF EXISTS courses;
 DROP TABLE IF EXISTS trainers;
 
@@ -30,7 +34,8 @@ CREATE TABLE trainers (
     CONSTRAINT chk_trainer_name_not_empty CHECK (CHAR_LENGTH(TRIM(full_name)) > 0),
     
     -- Indexes
-    INDEX idx_trainer_name (full_name)
+    INDEX idx_trainer_name (full_name),
+    INDEX idx_trainer_updated_at (updated_at)
 ) ENGINE=InnoDB CHARACTER SET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='Sparta Academy trainers/instructors';
 
@@ -43,6 +48,8 @@ CREATE TABLE courses (
     description TEXT NOT NULL,
     enroll_date DATE NOT NULL,
     trainer_id INT NOT NULL,
+    -- Normalised title the uniqueness rule is enforced on (the application stores titles stripped)
+    title_key VARCHAR(50) GENERATED ALWAYS AS (LOWER(TRIM(title))),
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     
@@ -59,12 +66,71 @@ CREATE TABLE courses (
     CONSTRAINT chk_course_enroll_date_valid CHECK (enroll_date >= '2020-01-01'),
     
     -- Indexes
+    UNIQUE INDEX uq_course_title_key (title_key),
     INDEX idx_course_title (title),
     INDEX idx_course_enroll_date (enroll_date),
-    INDEX idx_course_trainer (trainer_id)
+    INDEX idx_course_trainer (trainer_id),
+    INDEX idx_course_updated_at (updated_at)
 ) ENGINE=InnoDB CHARACTER SET=utf8mb4 COLLATE=utf8mb4_unicode_ci
 COMMENT='Sparta Academy courses and training programs';
 
+-- ===============================================
+-- CREATE OUTBOX TABLE
+-- ===============================================
+-- Change events written in the same transaction as the
+-- course/trainer change and drained by the application relay
+CREATE TABLE outbox_events (
+    event_id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    aggregate_type VARCHAR(20) NOT NULL,
+    aggregate_id INT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    payload TEXT NULL,
+    created_at TIMESTAMP(3) DEFAULT CURRENT_TIMESTAMP(3),
+
+    -- Per-aggregate ordering check used by the relay
+    INDEX idx_outbox_aggregate (aggregate_type, aggregate_id, event_id)
+) ENGINE=InnoDB CHARACTER SET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='Transactional outbox for course/trainer change events';
+
+-- ===============================================
+-- CREATE COURSE DETAILS READ TABLE
+-- ===============================================
+-- Denormalised copy of the course_details view, kept current by the
+-- application on every course/trainer write (serves /course-details)
+CREATE TABLE course_details_read (
+    course_id INT PRIMARY KEY,
+    course_title VARCHAR(50) NOT NULL,
+    course_description TEXT NOT NULL,
+    enroll_date DATE NOT NULL,
+    trainer_id INT NOT NULL,
+    trainer_name VARCHAR(100) NOT NULL,
+
+    INDEX idx_cdr_trainer (trainer_id),
+    INDEX idx_cdr_enroll_date (enroll_date)
+) ENGINE=InnoDB CHARACTER SET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='Read model for course_details (maintained by the application)';
+
+-- ===============================================
+-- CREATE COURSES ARCHIVE TABLE
+-- ===============================================
+-- Past cohorts moved out of courses by the application archiver
+-- (academy.archive.*); rows carry the trainer name so they survive
+-- the trainer being removed. On MySQL, database_partition_courses.sql
+-- switches this table to a compressed row format.
+CREATE TABLE courses_archive (
+    course_id INT PRIMARY KEY,
+    title VARCHAR(50) NOT NULL,
+    description TEXT NOT NULL,
+    enroll_date DATE NOT NULL,
+    trainer_id INT NOT NULL,
+    trainer_name VARCHAR(100) NOT NULL,
+    archived_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_archive_enroll_date (enroll_date),
+    INDEX idx_archive_trainer (trainer_id)
+) ENGINE=InnoDB CHARACTER SET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+COMMENT='Archived (past) courses, read only when explicitly requested';
+
 -- ===============================================
 -- INSERT TRAINER DATA
 -- ===============================================
@@ -85,6 +151,14 @@ INSERT INTO courses (course_id, title, description, enroll_date, trainer_id) VAL
 (4, 'TECH 303', 'DevOps Engineering Course', '2023-06-01', 4),
 (5, 'DATA 304', 'Data Science Course', '2023-07-01', 5);
 
+-- ===============================================
+-- POPULATE COURSE DETAILS READ TABLE
+-- ===============================================
+INSERT INTO course_details_read (course_id, course_title, course_description, enroll_date, trainer_id, trainer_name)
+SELECT c.course_id, c.title, c.description, c.enroll_date, t.trainer_id, t.full_name
+FROM courses c
+INNER JOIN trainers t ON c.trainer_id = t.trainer_id;
+
 -- ===============================================
 -- CREATE USEFUL VIEW
 -- ===============================================
@@ -142,7 +216,7 @@ SELECT * FROM course_details ORDER BY enroll_date;
 -- ===============================================
 -- PERFORMANCE OPTIMIZATION
 -- ===============================================
-ANALYZE TABLE trainers, courses;
+ANALYZE TABLE trainers, courses, course_details_read, courses_archive;
 
 -- Show final table information
 SELECT 
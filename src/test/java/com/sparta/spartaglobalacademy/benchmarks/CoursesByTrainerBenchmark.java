@@ -0,0 +1,152 @@
+package com.sparta.spartaglobalacademy.benchmarks;
+
+import com.sparta.spartaglobalacademy.collections.IntIntHashMap;
+import com.sparta.spartaglobalacademy.collections.IntList;
+import com.sparta.spartaglobalacademy.collections.IntObjectHashMap;
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Boxed {@code HashMap<Integer, ...>} indexes against the primitive maps in
+ * {@code collections}, for the two indexes the column store keeps: courses by trainer and
+ * course id to row. The primitive side stores course ids rather than records, as the column
+ * store does. Run with {@code make bench BENCH=CoursesByTrainerBenchmark}; add
+ * {@code -prof gc} to the JMH arguments to compare allocation, and see
+ * {@link IdIndexFootprint} for retained size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CoursesByTrainerBenchmark {
+
+    private static final int LOOKUPS = 1024;
+
+    @Param({"100000", "1000000"})
+    public int courses;
+
+    @Param({"1000"})
+    public int trainers;
+
+    List<CourseRecord> records;
+    private int[] lookupTrainers;
+    private int[] lookupCourses;
+
+    private Map<Integer, List<CourseRecord>> boxedByTrainer;
+    private IntObjectHashMap<IntList> primitiveByTrainer;
+    private Map<Integer, Integer> boxedRowById;
+    private IntIntHashMap primitiveRowById;
+
+    @Setup
+    public void setUp() {
+        records = generate(courses, trainers);
+        SplittableRandom random = new SplittableRandom(11);
+        lookupTrainers = random.ints(LOOKUPS, 1, trainers + 1).toArray();
+        lookupCourses = random.ints(LOOKUPS, 1, courses + 1).toArray();
+        boxedByTrainer = buildBoxedByTrainer();
+        primitiveByTrainer = buildPrimitiveByTrainer();
+        boxedRowById = buildBoxedRowById();
+        primitiveRowById = buildPrimitiveRowById();
+    }
+
+    @Benchmark
+    public Map<Integer, List<CourseRecord>> buildBoxedByTrainer() {
+        Map<Integer, List<CourseRecord>> index = new HashMap<>();
+        for (CourseRecord record : records) {
+            index.computeIfAbsent(record.trainerId(), t -> new ArrayList<>()).add(record);
+        }
+        return index;
+    }
+
+    @Benchmark
+    public IntObjectHashMap<IntList> buildPrimitiveByTrainer() {
+        IntObjectHashMap<IntList> index = new IntObjectHashMap<>();
+        for (CourseRecord record : records) {
+            index.computeIfAbsent(record.trainerId(), t -> new IntList()).add(record.id());
+        }
+        return index;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long lookupBoxedByTrainer() {
+        long sum = 0;
+        for (int trainerId : lookupTrainers) {
+            List<CourseRecord> trainerCourses = boxedByTrainer.get(trainerId);
+            for (CourseRecord record : trainerCourses) {
+                sum += record.id();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long lookupPrimitiveByTrainer() {
+        long sum = 0;
+        for (int trainerId : lookupTrainers) {
+            IntList trainerCourses = primitiveByTrainer.get(trainerId);
+            for (int i = 0; i < trainerCourses.size(); i++) {
+                sum += trainerCourses.get(i);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long lookupBoxedRowById() {
+        long sum = 0;
+        for (int courseId : lookupCourses) {
+            sum += boxedRowById.get(courseId);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public long lookupPrimitiveRowById() {
+        long sum = 0;
+        for (int courseId : lookupCourses) {
+            sum += primitiveRowById.get(courseId);
+        }
+        return sum;
+    }
+
+    Map<Integer, Integer> buildBoxedRowById() {
+        Map<Integer, Integer> index = new HashMap<>();
+        for (int row = 0; row < records.size(); row++) {
+            index.put(records.get(row).id(), row);
+        }
+        return index;
+    }
+
+    IntIntHashMap buildPrimitiveRowById() {
+        IntIntHashMap index = new IntIntHashMap(records.size(), -1);
+        for (int row = 0; row < records.size(); row++) {
+            index.put(records.get(row).id(), row);
+        }
+        return index;
+    }
+
+    static List<CourseRecord> generate(int courses, int trainers) {
+        SplittableRandom random = new SplittableRandom(5);
+        LocalDate base = LocalDate.of(2024, 1, 1);
+        List<CourseRecord> result = new ArrayList<>(courses);
+        for (int id = 1; id <= courses; id++) {
+            result.add(new CourseRecord(id, "Course " + (id % 100), "d",
+                    base.plusDays(random.nextInt(730)), random.nextInt(1, trainers + 1)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,37 @@
+package com.sparta.spartaglobalacademy.benchmarks;
+
+import org.openjdk.jol.info.GraphLayout;
+
+/**
+ * Prints the retained heap size of the boxed and primitive indexes built by
+ * {@link CoursesByTrainerBenchmark}. The CourseRecord instances themselves are shared with the
+ * source list and excluded, so the numbers are index overhead only.
+ * <p>
+ * Run with {@code make bench-footprint}.
+ */
+public final class IdIndexFootprint {
+
+    public static void main(String[] args) {
+        for (int courses : new int[]{100_000, 1_000_000}) {
+            CoursesByTrainerBenchmark benchmark = new CoursesByTrainerBenchmark();
+            benchmark.courses = courses;
+            benchmark.trainers = 1_000;
+            benchmark.setUp();
+            GraphLayout recordsLayout = GraphLayout.parseInstance(benchmark.records.toArray());
+            long boxedByTrainer = GraphLayout.parseInstance(benchmark.buildBoxedByTrainer())
+                    .subtract(recordsLayout).totalSize();
+            long primitiveByTrainer = GraphLayout.parseInstance(benchmark.buildPrimitiveByTrainer()).totalSize();
+            long boxedRowById = GraphLayout.parseInstance(benchmark.buildBoxedRowById()).totalSize();
+            long primitiveRowById = GraphLayout.parseInstance(benchmark.buildPrimitiveRowById()).totalSize();
+
+            System.out.printf("%,d courses%n", courses);
+            System.out.printf("  by trainer:  HashMap<Integer, List<CourseRecord>> %,12d bytes   IntObjectHashMap<IntList> %,12d bytes%n",
+                    boxedByTrainer, primitiveByTrainer);
+            System.out.printf("  id -> row:   HashMap<Integer, Integer>            %,12d bytes   IntIntHashMap             %,12d bytes%n",
+                    boxedRowById, primitiveRowById);
+        }
+    }
+
+    private IdIndexFootprint() {
+    }
+}
@@ -0,0 +1,89 @@
+package com.sparta.spartaglobalacademy.benchmarks;
+
+import com.sparta.spartaglobalacademy.entities.CourseEntity;
+import com.sparta.spartaglobalacademy.entities.TrainerEntity;
+import com.sparta.spartaglobalacademy.mapping.ParallelMapper;
+import com.sparta.spartaglobalacademy.records.CourseMapper;
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sequential against fork/join mapping of course entities to records through the generated
+ * {@link CourseMapper}, across list sizes, to find where {@code academy.mapping.parallel-threshold}
+ * should sit on the target hardware: the smallest size at which {@code parallel} beats
+ * {@code sequential}. Below it the fork/join hand-off and the extra result copy cost more than
+ * the mapping saves. Run with {@code make bench BENCH=ParallelMappingBenchmark}, and add
+ * {@code -p workers=2,4} to BENCH_ARGS to match the pod's CPU limit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelMappingBenchmark {
+
+    @Param({"1000", "5000", "20000", "100000", "1000000"})
+    public int courses;
+
+    // 0 = one worker per available processor
+    @Param({"0"})
+    public int workers;
+
+    private List<CourseEntity> entities;
+    private ParallelMapper sequentialMapper;
+    private ParallelMapper parallelMapper;
+    private final CourseMapper courseMapper = CourseMapper.INSTANCE;
+
+    @Setup
+    public void setUp() {
+        entities = generate(courses);
+        int parallelism = workers > 0 ? workers : Runtime.getRuntime().availableProcessors();
+        sequentialMapper = new ParallelMapper(1, Integer.MAX_VALUE);
+        parallelMapper = new ParallelMapper(parallelism, 0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        parallelMapper.close();
+    }
+
+    @Benchmark
+    public List<CourseRecord> sequential() {
+        return sequentialMapper.map(entities, courseMapper::toRecord);
+    }
+
+    @Benchmark
+    public List<CourseRecord> parallel() {
+        return parallelMapper.map(entities, courseMapper::toRecord);
+    }
+
+    static List<CourseEntity> generate(int courses) {
+        SplittableRandom random = new SplittableRandom(17);
+        LocalDate base = LocalDate.of(2024, 1, 1);
+        List<TrainerEntity> trainers = new ArrayList<>();
+        for (int id = 1; id <= 1000; id++) {
+            TrainerEntity trainer = new TrainerEntity();
+            trainer.setId(id);
+            trainer.setFullName("Trainer " + id);
+            trainers.add(trainer);
+        }
+        List<CourseEntity> result = new ArrayList<>(courses);
+        for (int id = 1; id <= courses; id++) {
+            CourseEntity course = new CourseEntity();
+            course.setId(id);
+            course.setTitle("Course " + id);
+            course.setDescription("Generated course " + id);
+            course.setEnrollDate(base.plusDays(random.nextInt(730)));
+            course.setTrainer(trainers.get(random.nextInt(trainers.size())));
+            result.add(course);
+        }
+        return result;
+    }
+}
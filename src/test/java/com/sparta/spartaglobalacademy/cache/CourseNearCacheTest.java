@@ -0,0 +1,99 @@
+package com.sparta.spartaglobalacademy.cache;
+
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseNearCacheTest {
+
+    private InMemoryInvalidationTransport bus;
+    private CourseNearCache nodeA;
+    private CourseNearCache nodeB;
+    private SimpleMeterRegistry registryB;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InMemoryInvalidationTransport();
+        nodeA = new CourseNearCache(bus, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+        registryB = new SimpleMeterRegistry();
+        nodeB = new CourseNearCache(bus, registryB, 100, Duration.ofMinutes(5));
+    }
+
+    private static CourseRecord course(int id, String title) {
+        return new CourseRecord(id, title, "desc", LocalDate.now().plusDays(1), 1);
+    }
+
+    @Test
+    @DisplayName("second read is served from the cache")
+    void testReadThrough() {
+        AtomicInteger loads = new AtomicInteger();
+        nodeA.get(1, id -> { loads.incrementAndGet(); return course(id, "Java"); });
+        CourseRecord cached = nodeA.get(1, id -> { loads.incrementAndGet(); return course(id, "Java"); });
+
+        assertEquals("Java", cached.title());
+        assertEquals(1, loads.get());
+        assertEquals(0.5, nodeA.hitRatio());
+    }
+
+    @Test
+    @DisplayName("missing records are not cached")
+    void testNullNotCached() {
+        assertNull(nodeA.get(1, id -> null));
+        assertEquals(0, nodeA.size());
+    }
+
+    @Test
+    @DisplayName("a write on one node invalidates the copy on the other")
+    void testCrossNodeInvalidation() {
+        nodeB.get(1, id -> course(id, "Old"));
+        assertEquals(1, nodeB.size());
+
+        nodeA.refresh(1, course(1, "New"));
+
+        assertEquals(0, nodeB.size());
+        assertEquals("New", nodeB.get(1, id -> course(id, "New")).title());
+        assertEquals(1, registryB.get("academy.cache.invalidation.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("a load racing with an invalidation is not stored")
+    void testStaleLoadDiscarded() {
+        CourseRecord loaded = nodeB.get(1, id -> {
+            nodeA.invalidate(id); // write lands on another node mid-load
+            return course(id, "Stale");
+        });
+
+        assertEquals("Stale", loaded.title());
+        assertEquals(0, nodeB.size());
+    }
+
+    @Test
+    @DisplayName("UDP transport delivers invalidations over loopback")
+    void testUdpLoopback() throws Exception {
+        try (UdpInvalidationTransport receiver = new UdpInvalidationTransport(0, List.of());
+             UdpInvalidationTransport sender = new UdpInvalidationTransport(0,
+                     List.of(new InetSocketAddress("127.0.0.1", receiver.getLocalPort())))) {
+            CourseNearCache remote = new CourseNearCache(receiver, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+            CourseNearCache local = new CourseNearCache(sender, new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+            remote.get(7, id -> course(id, "Cached"));
+
+            local.invalidate(7);
+
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (remote.size() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, remote.size());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.sparta.spartaglobalacademy.collections;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntHashSetTest {
+
+    @Test
+    @DisplayName("random adds and removes agree with HashSet, including 0")
+    void testAgainstHashSet() {
+        IntHashSet set = new IntHashSet(2);
+        Set<Integer> reference = new HashSet<>();
+        Random random = new Random(3);
+
+        for (int i = 0; i < 100_000; i++) {
+            int key = random.nextInt(2_000) - 10;
+            if (random.nextBoolean()) {
+                assertEquals(reference.remove(key), set.remove(key));
+            } else {
+                assertEquals(reference.add(key), set.add(key));
+            }
+        }
+
+        assertEquals(reference.size(), set.size());
+        int[] values = set.toArray();
+        Arrays.sort(values);
+        assertArrayEquals(reference.stream().mapToInt(Integer::intValue).sorted().toArray(), values);
+    }
+
+    @Test
+    @DisplayName("a copy is independent of the original")
+    void testCopy() {
+        IntHashSet original = IntHashSet.of(1, 2, 3);
+        IntHashSet copy = new IntHashSet(original);
+        copy.add(4);
+        copy.remove(1);
+
+        assertTrue(original.contains(1));
+        assertFalse(original.contains(4));
+        assertTrue(copy.contains(4));
+        assertFalse(copy.contains(1));
+    }
+}
@@ -0,0 +1,60 @@
+package com.sparta.spartaglobalacademy.collections;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntIntHashMapTest {
+
+    @Test
+    @DisplayName("put, get, overwrite and remove, including key 0")
+    void testBasics() {
+        IntIntHashMap map = new IntIntHashMap(4, -1);
+
+        assertEquals(-1, map.put(0, 10));
+        assertEquals(-1, map.put(7, 70));
+        assertEquals(70, map.put(7, 71));
+
+        assertEquals(10, map.get(0));
+        assertEquals(71, map.get(7));
+        assertEquals(-1, map.get(8));
+        assertEquals(2, map.size());
+
+        assertEquals(10, map.remove(0));
+        assertEquals(71, map.remove(7));
+        assertEquals(-1, map.remove(7));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    @DisplayName("random puts and removes agree with HashMap across resizes")
+    void testAgainstHashMap() {
+        IntIntHashMap map = new IntIntHashMap(2, Integer.MIN_VALUE);
+        Map<Integer, Integer> reference = new HashMap<>();
+        Random random = new Random(1);
+
+        for (int i = 0; i < 200_000; i++) {
+            // Small key range so probe runs collide and removals exercise the backward shift
+            int key = random.nextInt(5_000) - 100;
+            if (random.nextInt(3) == 0) {
+                Integer expected = reference.remove(key);
+                assertEquals(expected == null ? Integer.MIN_VALUE : expected, map.remove(key));
+            } else {
+                int value = random.nextInt();
+                Integer expected = reference.put(key, value);
+                assertEquals(expected == null ? Integer.MIN_VALUE : expected, map.put(key, value));
+            }
+        }
+
+        assertEquals(reference.size(), map.size());
+        for (int key = -100; key < 4_900; key++) {
+            assertEquals(reference.containsKey(key), map.containsKey(key));
+            assertEquals(reference.getOrDefault(key, Integer.MIN_VALUE), map.get(key));
+        }
+    }
+}
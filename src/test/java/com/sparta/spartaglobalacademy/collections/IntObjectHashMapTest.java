@@ -0,0 +1,55 @@
+package com.sparta.spartaglobalacademy.collections;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntObjectHashMapTest {
+
+    @Test
+    @DisplayName("random puts and removes agree with HashMap across resizes")
+    void testAgainstHashMap() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>(2);
+        Map<Integer, String> reference = new HashMap<>();
+        Random random = new Random(2);
+
+        for (int i = 0; i < 200_000; i++) {
+            int key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(key), map.remove(key));
+            } else {
+                String value = "v" + i;
+                assertEquals(reference.put(key, value), map.put(key, value));
+            }
+        }
+
+        assertEquals(reference.size(), map.size());
+        Map<Integer, String> iterated = new HashMap<>();
+        map.forEach(iterated::put);
+        assertEquals(reference, iterated);
+    }
+
+    @Test
+    @DisplayName("computeIfAbsent creates once and returns the existing value afterwards")
+    void testComputeIfAbsent() {
+        IntObjectHashMap<IntList> map = new IntObjectHashMap<>();
+
+        map.computeIfAbsent(3, k -> new IntList()).add(1);
+        map.computeIfAbsent(3, k -> new IntList()).add(2);
+
+        assertArrayEquals(new int[]{1, 2}, map.get(3).toArray());
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    @DisplayName("Sad path: null values are rejected")
+    void testNullValue() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, null));
+    }
+}
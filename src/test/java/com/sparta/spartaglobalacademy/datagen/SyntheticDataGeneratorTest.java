@@ -0,0 +1,165 @@
+package com.sparta.spartaglobalacademy.datagen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyntheticDataGeneratorTest {
+
+    private static final LocalDate FROM = LocalDate.of(2020, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 12, 31);
+
+    private static DataGenProperties properties(int trainers, int courses, double skew) {
+        return new DataGenProperties(trainers, courses, "sql", "datagen", 3, 42L, skew, FROM, TO, true, false);
+    }
+
+    /** Keeps every row in memory so the distributions can be checked. */
+    private static final class CollectingSink implements RowSink {
+        final List<String> trainers = new ArrayList<>();
+        final List<Object[]> courses = new ArrayList<>();
+        boolean finished;
+
+        @Override
+        public void trainer(int id, String fullName) {
+            trainers.add(id + ":" + fullName);
+        }
+
+        @Override
+        public void course(int id, String title, String description, LocalDate enrollDate, int trainerId) {
+            courses.add(new Object[]{id, title, description, enrollDate, trainerId});
+        }
+
+        @Override
+        public void finish() {
+            finished = true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static CollectingSink generate(DataGenProperties properties) throws IOException {
+        CollectingSink sink = new CollectingSink();
+        new SyntheticDataGenerator(properties).generate(sink);
+        return sink;
+    }
+
+    @Test
+    @DisplayName("generates the requested counts with values that satisfy the schema")
+    void testCountsAndConstraints() throws IOException {
+        CollectingSink sink = generate(properties(20, 2_000, 1.0));
+
+        assertTrue(sink.finished);
+        assertEquals(20, sink.trainers.size());
+        assertEquals(2_000, sink.courses.size());
+        Set<String> titles = new HashSet<>();
+        for (Object[] course : sink.courses) {
+            assertTrue(((String) course[1]).length() <= 50, "title fits VARCHAR(50)");
+            assertTrue(titles.add(((String) course[1]).toLowerCase()), "titles are unique");
+            assertFalse(((String) course[2]).isBlank());
+            LocalDate date = (LocalDate) course[3];
+            assertFalse(date.isBefore(FROM) || date.isAfter(TO));
+            int trainerId = (int) course[4];
+            assertTrue(trainerId >= 1 && trainerId <= 20);
+        }
+    }
+
+    @Test
+    @DisplayName("the same seed produces the same data")
+    void testDeterministic() throws IOException {
+        CollectingSink first = generate(properties(10, 500, 1.0));
+        CollectingSink second = generate(properties(10, 500, 1.0));
+
+        assertEquals(first.trainers, second.trainers);
+        for (int i = 0; i < first.courses.size(); i++) {
+            assertArrayEquals(first.courses.get(i), second.courses.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("a Zipf skew concentrates courses on a few trainers; zero skew spreads them evenly")
+    void testTrainerSkew() throws IOException {
+        int[] skewed = coursesPerTrainer(generate(properties(100, 20_000, 1.0)), 100);
+        int[] uniform = coursesPerTrainer(generate(properties(100, 20_000, 0.0)), 100);
+
+        // Average is 200 courses per trainer
+        assertTrue(Arrays.stream(skewed).max().getAsInt() > 1_500);
+        assertTrue(Arrays.stream(uniform).max().getAsInt() < 300);
+    }
+
+    @Test
+    @DisplayName("SQL output escapes quotes and splits INSERTs by rowsPerInsert")
+    void testSqlScriptSink() throws IOException {
+        StringWriter out = new StringWriter();
+        try (SqlScriptSink sink = new SqlScriptSink(out, 2, false)) {
+            sink.trainer(1, "Miles O'Brien");
+            sink.course(1, "A", "x", FROM, 1);
+            sink.course(2, "B", "back\\slash", FROM, 1);
+            sink.course(3, "C", "z", FROM, 1);
+            sink.finish();
+        }
+        String sql = out.toString();
+
+        assertTrue(sql.contains("(1,'Miles O''Brien')"));
+        assertTrue(sql.contains("'back\\\\slash'"));
+        assertEquals(1, sql.split("INSERT INTO trainers", -1).length - 1);
+        assertEquals(2, sql.split("INSERT INTO courses", -1).length - 1);
+        assertTrue(sql.contains("INSERT INTO course_details_read"));
+    }
+
+    @Test
+    @DisplayName("a truncating SQL script empties courses with DELETE so partition title-key triggers fire")
+    void testSqlScriptSinkClearsTables() throws IOException {
+        StringWriter out = new StringWriter();
+        try (SqlScriptSink sink = new SqlScriptSink(out, 2, true)) {
+            sink.finish();
+        }
+        String sql = out.toString();
+
+        assertTrue(sql.contains("DELETE FROM courses;"));
+        assertFalse(sql.contains("TRUNCATE TABLE courses;"));
+        assertTrue(sql.contains("TRUNCATE TABLE courses_archive;"));
+    }
+
+    @Test
+    @DisplayName("CSV output quotes and backslash-escapes fields for LOAD DATA")
+    void testCsvSink() throws IOException {
+        StringWriter trainers = new StringWriter();
+        StringWriter courses = new StringWriter();
+        StringWriter load = new StringWriter();
+        try (CsvSink sink = new CsvSink(trainers, courses, load)) {
+            sink.trainer(1, "Ann \"AJ\" Lee");
+            sink.course(7, "Java, Advanced", "d", LocalDate.of(2025, 3, 1), 1);
+            sink.finish();
+        }
+
+        assertEquals("1,\"Ann \\\"AJ\\\" Lee\"\n", trainers.toString());
+        assertEquals("7,\"Java, Advanced\",\"d\",2025-03-01,1\n", courses.toString());
+        assertTrue(load.toString().contains("LOAD DATA LOCAL INFILE 'courses.csv'"));
+    }
+
+    @Test
+    @DisplayName("JDBC inserts bind one tuple of placeholders per row")
+    void testInsertSql() {
+        assertEquals("INSERT INTO t VALUES (?,?),(?,?),(?,?)", JdbcBatchSink.insertSql("INSERT INTO t VALUES ", 2, 3));
+    }
+
+    private static int[] coursesPerTrainer(CollectingSink sink, int trainers) {
+        int[] counts = new int[trainers + 1];
+        for (Object[] course : sink.courses) {
+            counts[(int) course[4]]++;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,34 @@
+package com.sparta.spartaglobalacademy.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConnectionPoolCheckTest {
+
+    @Test
+    @DisplayName("a pool that fits the server limits raises no problems")
+    void testWithinLimits() {
+        // 3 x 16 = 48 connections against 151 - 10 reserved; 30 min lifetime vs 8 h wait_timeout
+        assertTrue(ConnectionPoolCheck.problems(16, 1_800_000, 3, 151, 28_800).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Sad path: pools that together exceed max_connections are reported with a suggested size")
+    void testTooManyConnections() {
+        List<String> problems = ConnectionPoolCheck.problems(50, 1_800_000, 4, 151, 28_800);
+
+        assertEquals(1, problems.size());
+        assertTrue(problems.get(0).contains("lower the pool size to 35"), problems.get(0));
+    }
+
+    @Test
+    @DisplayName("Sad path: connections that outlive wait_timeout are reported")
+    void testLifetimeBeyondWaitTimeout() {
+        assertEquals(1, ConnectionPoolCheck.problems(10, 1_800_000, 1, 151, 600).size());
+        assertEquals(1, ConnectionPoolCheck.problems(10, 0, 1, 151, 28_800).size());
+    }
+}
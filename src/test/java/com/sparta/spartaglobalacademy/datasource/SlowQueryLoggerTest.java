@@ -0,0 +1,98 @@
+package com.sparta.spartaglobalacademy.datasource;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.KeyValuePair;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryLoggerTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SlowQueryLogger.LOGGER_NAME);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    private SimpleMeterRegistry registry;
+    private SlowQueryLogger slowQueryLogger;
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+        registry = new SimpleMeterRegistry();
+        slowQueryLogger = new SlowQueryLogger(100, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    private static ParameterSetOperation parameter(String method, Object... args) throws Exception {
+        Class<?> valueType = method.equals("setNull") ? int.class : method.equals("setInt") ? int.class : String.class;
+        return new ParameterSetOperation(PreparedStatement.class.getMethod(method, int.class, valueType), args);
+    }
+
+    private static ExecutionInfo execution(long elapsedMillis) {
+        ExecutionInfo info = new ExecutionInfo();
+        info.setElapsedTime(elapsedMillis);
+        info.setSuccess(true);
+        return info;
+    }
+
+    @Test
+    @DisplayName("statements under the threshold are not logged")
+    void testFastQueryIgnored() {
+        slowQueryLogger.afterQuery(execution(99), List.of(new QueryInfo("select 1")));
+
+        assertTrue(appender.list.isEmpty());
+        assertEquals(0.0, registry.get("academy.sql.slow").counter().count());
+    }
+
+    @Test
+    @DisplayName("slow statements are logged with their SQL, ordered bind parameters and timing")
+    void testSlowQueryLogged() throws Exception {
+        QueryInfo query = new QueryInfo("select * from courses where trainer_id = ? and title = ?");
+        query.getParametersList().add(List.of(
+                parameter("setString", 2, "TECH 300"),
+                parameter("setInt", 1, 4)));
+
+        slowQueryLogger.afterQuery(execution(250), List.of(query));
+
+        assertEquals(1, appender.list.size());
+        Map<String, Object> fields = new HashMap<>();
+        for (KeyValuePair pair : appender.list.get(0).getKeyValuePairs()) {
+            fields.put(pair.key, pair.value);
+        }
+        assertEquals(250L, fields.get("elapsedMs"));
+        assertEquals("select * from courses where trainer_id = ? and title = ?", fields.get("sql"));
+        assertEquals(List.of("(4,TECH 300)"), fields.get("params"));
+        assertEquals(1.0, registry.get("academy.sql.slow").counter().count());
+    }
+
+    @Test
+    @DisplayName("null and long parameter values are shown as NULL and truncated")
+    void testFormatParameters() throws Exception {
+        String description = "x".repeat(SlowQueryLogger.MAX_VALUE_LENGTH + 50);
+
+        String formatted = SlowQueryLogger.formatParameters(List.of(
+                parameter("setString", 1, description),
+                parameter("setNull", 2, Types.INTEGER)));
+
+        assertEquals("(" + "x".repeat(SlowQueryLogger.MAX_VALUE_LENGTH) + "...,NULL)", formatted);
+    }
+}
@@ -0,0 +1,69 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import com.sparta.spartaglobalacademy.analytics.CourseColumnLoader;
+import com.sparta.spartaglobalacademy.cache.CourseNearCache;
+import com.sparta.spartaglobalacademy.titles.CourseTitleFilterLoader;
+import com.sparta.spartaglobalacademy.trainers.TrainerIdSetLoader;
+import com.sparta.spartaglobalacademy.upcoming.UpcomingCourseIndexLoader;
+import jakarta.persistence.EntityManagerFactory;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+
+/**
+ * Base for endpoint tests against the seeded in-process database.
+ * Every test starts from the canonical seed data with empty application caches
+ * and in-memory views rebuilt from it.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("it")
+@Import(IntegrationTestConfig.class)
+public abstract class AbstractIntegrationTest {
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected SqlStatementRecorder sql;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CourseNearCache courseNearCache;
+
+    @Autowired
+    private CourseColumnLoader courseColumnLoader;
+
+    @Autowired
+    private UpcomingCourseIndexLoader upcomingCourseIndexLoader;
+
+    @Autowired
+    private CourseTitleFilterLoader courseTitleFilterLoader;
+
+    @Autowired
+    private TrainerIdSetLoader trainerIdSetLoader;
+
+    @BeforeEach
+    void resetDatabase() {
+        MySqlScriptSeeder.seed(((ProxyDataSource) dataSource).getDataSource());
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        courseNearCache.invalidate(null);
+        courseColumnLoader.rebuild();
+        upcomingCourseIndexLoader.rebuild();
+        courseTitleFilterLoader.rebuild();
+        trainerIdSetLoader.rebuild();
+    }
+}
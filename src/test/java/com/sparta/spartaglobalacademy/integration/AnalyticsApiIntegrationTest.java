@@ -0,0 +1,59 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static com.sparta.spartaglobalacademy.integration.SqlStatementRecorder.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The analytics endpoints are served from the in-memory column snapshot and must not query the database.
+ */
+class AnalyticsApiIntegrationTest extends AbstractIntegrationTest {
+
+    @Test
+    @DisplayName("GET /analytics/courses/per-month groups the seed by trainer and month without SQL")
+    void coursesPerMonth() throws Exception {
+        sql.start();
+        mockMvc.perform(get("/analytics/courses/per-month"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(jsonPath("$[0].trainerId").value(1))
+                .andExpect(jsonPath("$[0].month").value("2023-03"))
+                .andExpect(jsonPath("$[0].courses").value(1));
+        mockMvc.perform(get("/analytics/courses/per-topic")).andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].topic").value("TECH"))
+                .andExpect(jsonPath("$[0].courses").value(4));
+        List<Statement> statements = sql.stop();
+
+        assertTotal(statements, 0);
+    }
+
+    @Test
+    @DisplayName("a committed course write is visible in the snapshot straight away")
+    void snapshotFollowsWrites() throws Exception {
+        LocalDate enrollDate = LocalDate.now().plusDays(10);
+        mockMvc.perform(post("/courses").contentType(MediaType.APPLICATION_JSON).content("""
+                        {"title": "TECH 400", "description": "Analytics course", "enrollDate": "%s", "trainerId": 2}
+                        """.formatted(enrollDate)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/analytics/courses/upcoming").param("days", "30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses").value(1));
+        mockMvc.perform(get("/analytics/courses/per-month").param("trainerId", "2")
+                        .param("from", enrollDate.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].month").value(YearMonth.from(enrollDate).toString()))
+                .andExpect(jsonPath("$[0].courses").value(1));
+    }
+}
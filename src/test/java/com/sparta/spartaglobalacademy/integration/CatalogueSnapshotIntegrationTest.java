@@ -0,0 +1,86 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.records.TrainerRecord;
+import com.sparta.spartaglobalacademy.snapshot.CatalogueSnapshot;
+import com.sparta.spartaglobalacademy.snapshot.CatalogueSnapshotStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static com.sparta.spartaglobalacademy.integration.SqlStatementRecorder.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A restart reads the catalogue from the snapshot file plus a delta on updated_at, and falls back
+ * to a full read when rows have been deleted since.
+ */
+class CatalogueSnapshotIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @TempDir
+    Path dir;
+
+    private CatalogueSnapshotStore newStore() {
+        // No overlap, so the delta holds only rows written after the snapshot
+        return new CatalogueSnapshotStore(dataSource, dir.resolve("catalogue.snapshot"), true,
+                Duration.ZERO, Duration.ofHours(1), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("changes made after the snapshot are caught up with two delta queries and a count")
+    void catchesUpWithDelta() throws Exception {
+        assertThat(newStore().write()).isEqualTo(10);
+
+        mockMvc.perform(put("/courses/2").contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"title": "TECH 301 RENAMED", "description": "Java Development Course", "enrollDate": "2030-04-01", "trainerId": 2}
+                        """)).andExpect(status().isOk());
+        mockMvc.perform(post("/trainers").contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"fullName": "New Trainer"}
+                        """)).andExpect(status().isCreated());
+
+        sql.start();
+        Optional<CatalogueSnapshot> catalogue = newStore().startupCatalogue();
+        List<Statement> statements = sql.stop();
+
+        assertTotal(statements, 3);
+        assertThat(catalogue).isPresent();
+        assertThat(catalogue.get().courses()).hasSize(5)
+                .contains(new CourseRecord(2, "TECH 301 RENAMED", "Java Development Course",
+                        LocalDate.of(2030, 4, 1), 2));
+        assertThat(catalogue.get().trainers()).hasSize(6).contains(new TrainerRecord(6, "New Trainer"));
+    }
+
+    @Test
+    @DisplayName("Sad path: a delete since the snapshot forces a full read")
+    void deleteFallsBack() throws Exception {
+        newStore().write();
+        mockMvc.perform(delete("/courses/5")).andExpect(status().isNoContent());
+
+        assertThat(newStore().startupCatalogue()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Sad path: without a snapshot file the views read the tables as before")
+    void missingFile() {
+        assertThat(newStore().startupCatalogue()).isEmpty();
+    }
+}
@@ -0,0 +1,238 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import net.ttddyy.dsproxy.QueryType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.sparta.spartaglobalacademy.integration.SqlStatementRecorder.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the SQL issued per /courses endpoint. A change that adds a query (an N+1, a missing
+ * cache hit, an extra existence check) fails here rather than in production.
+ */
+class CourseApiIntegrationTest extends AbstractIntegrationTest {
+
+    private static final Duration SQL_BUDGET = Duration.ofMillis(250);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String courseJson(String title, int trainerId) {
+        return """
+                {"title": "%s", "description": "Integration course", "enrollDate": "%s", "trainerId": %d}
+                """.formatted(title, LocalDate.now().plusDays(30), trainerId);
+    }
+
+    @Test
+    @DisplayName("GET /courses loads every course with a single SELECT")
+    void getAllCourses() throws Exception {
+        sql.start();
+        mockMvc.perform(get("/courses"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(jsonPath("$[0].trainerId").value(1));
+        List<Statement> statements = sql.stop();
+
+        assertTotal(statements, 1);
+        assertTimeBelow(statements, SQL_BUDGET);
+    }
+
+    @Test
+    @DisplayName("GET /courses/{id} hits the database once, then the near-cache")
+    void getCourseById() throws Exception {
+        sql.start();
+        mockMvc.perform(get("/courses/2")).andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("TECH 301"));
+        mockMvc.perform(get("/courses/2")).andExpect(status().isOk());
+        List<Statement> statements = sql.stop();
+
+        assertTotal(statements, 1);
+        assertCount(statements, QueryType.SELECT, 1);
+    }
+
+    @Test
+    @DisplayName("GET /courses/{id} for a missing course costs one SELECT and returns 404")
+    void getMissingCourse() throws Exception {
+        sql.start();
+        mockMvc.perform(get("/courses/999")).andExpect(status().isNotFound());
+        assertTotal(sql.stop(), 1);
+    }
+
+    @Test
+    @DisplayName("GET /courses?ids= costs one IN query, then only the missing IDs go back to the database")
+    void getCoursesByIds() throws Exception {
+        sql.start();
+        mockMvc.perform(get("/courses").param("ids", "3,999,1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found.length()").value(2))
+                .andExpect(jsonPath("$.found[0].title").value("TECH 302"))
+                .andExpect(jsonPath("$.found[1].title").value("TECH 300"))
+                .andExpect(jsonPath("$.missingIds[0]").value(999));
+        mockMvc.perform(get("/courses").param("ids", "1", "3", "999"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found[0].title").value("TECH 300"));
+        List<Statement> statements = sql.stop();
+
+        assertTotal(statements, 2);
+        assertCount(statements, QueryType.SELECT, 2);
+    }
+
+    @Test
+    @DisplayName("Sad path: GET /courses?ids= rejects more IDs than one request may carry")
+    void getCoursesByIdsTooMany() throws Exception {
+        String ids = java.util.stream.IntStream.rangeClosed(1, 1001)
+                .mapToObj(String::valueOf).collect(java.util.stream.Collectors.joining(","));
+        mockMvc.perform(get("/courses").param("ids", ids)).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Sad path: GET /courses?ids= rejects an empty or non-positive ID with 400")
+    void getCoursesByIdsInvalid() throws Exception {
+        mockMvc.perform(get("/courses").param("ids", "1,,2")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/courses").param("ids", "1,0")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Sad path: a course for an unknown trainer is rejected after one confirming SELECT, singly or in a batch")
+    void createCourseUnknownTrainer() throws Exception {
+        sql.start();
+        mockMvc.perform(post("/courses").contentType(MediaType.APPLICATION_JSON).content(courseJson("TECH 400", 99)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/courses/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + courseJson("BULK 1", 1) + "," + courseJson("BULK 2", 99) + "]"))
+                .andExpect(status().isBadRequest());
+        List<Statement> statements = sql.stop();
+
+        assertTotal(statements, 2);
+        assertCount(statements, QueryType.SELECT, 2);
+    }
+
+    @Test
+    @DisplayName("a trainer is usable for courses as soon as it is created")
+    void createCourseForNewTrainer() throws Exception {
+        mockMvc.perform(post("/trainers").contentType(MediaType.APPLICATION_JSON).content("{\"fullName\": \"New Trainer\"}"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").value(6));
+        mockMvc.perform(post("/courses").contentType(MediaType.APPLICATION_JSON).content(courseJson("TECH 400", 6)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("POST /courses pays the entity INSERT plus one outbox and one read-model INSERT")
+    void createCourse() throws Exception {
+        sql.start();
+        mockMvc.perform(post("/courses").contentType(MediaType.APPLICATION_JSON).content(courseJson("TECH 400", 2)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(6));
+        List<Statement> statements = sql.stop();
+
+        assertCount(statements, QueryType.INSERT, 3);
+        assertCount(statements, QueryType.SELECT, 0);
+        assertTimeBelow(statements, SQL_BUDGET);
+    }
+
+    @Test
+    @DisplayName("POST /courses with a taken title costs one confirming SELECT and returns 409")
+    void createDuplicateCourse() throws Exception {
+        sql.start();
+        mockMvc.perform(post("/courses").contentType(MediaType.APPLICATION_JSON).content(courseJson("tech 301", 2)))
+                .andExpect(status().isConflict());
+        List<Statement> statements = sql.stop();
+
+        assertTotal(statements, 1);
+        assertCount(statements, QueryType.SELECT, 1);
+    }
+
+    @Test
+    @DisplayName("Sad path: a title the filter has not seen yet is still rejected by the unique title key")
+    void createCourseTitleTakenBehindFilter() throws Exception {
+        // Written behind the application's back, so the title filter still answers "definitely free"
+        jdbcTemplate.update("INSERT INTO courses (title, description, enroll_date, trainer_id) VALUES (?, ?, ?, ?)",
+                "Race Title", "Written directly", LocalDate.now().plusDays(30), 1);
+
+        mockMvc.perform(post("/courses").contentType(MediaType.APPLICATION_JSON).content(courseJson("  race TITLE ", 2)))
+                .andExpect(status().isConflict());
+        mockMvc.perform(post("/courses").contentType(MediaType.APPLICATION_JSON).content(courseJson("  TECH 500 ", 2)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("TECH 500"));
+    }
+
+    @Test
+    @DisplayName("POST /courses/batch checks titles without a query per course")
+    void createCoursesBatch() throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i < 50; i++) {
+            body.append(i == 0 ? "" : ",").append(courseJson("BULK " + i, 1 + i % 5));
+        }
+        body.append("]");
+
+        sql.start();
+        mockMvc.perform(post("/courses/batch").contentType(MediaType.APPLICATION_JSON).content(body.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(50));
+        List<Statement> statements = sql.stop();
+
+        // New titles are ruled out by the in-memory filter, so no existence query at all
+        assertCount(statements, QueryType.SELECT, 0);
+        // The outbox and read-model rows of the whole batch go in one batched INSERT each
+        assertEquals(1, statements.stream().filter(s -> s.sql().contains("outbox_events")).count());
+        assertEquals(1, statements.stream().filter(s -> s.sql().contains("course_details_read")).count());
+
+        mockMvc.perform(post("/courses/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + courseJson("BULK 50", 1) + "," + courseJson("bulk 7", 1) + "]"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Sad path: POST /courses/batch over the size cap is rejected with 400 before any SQL")
+    void createCoursesBatchTooLarge() throws Exception {
+        StringBuilder body = new StringBuilder("[");
+        for (int i = 0; i <= 1000; i++) {
+            body.append(i == 0 ? "" : ",").append(courseJson("BULK " + i, 1));
+        }
+        body.append("]");
+
+        sql.start();
+        mockMvc.perform(post("/courses/batch").contentType(MediaType.APPLICATION_JSON).content(body.toString()))
+                .andExpect(status().isBadRequest());
+        assertTotal(sql.stop(), 0);
+    }
+
+    @Test
+    @DisplayName("PUT /courses/{id} loads, updates and records the change")
+    void updateCourse() throws Exception {
+        sql.start();
+        mockMvc.perform(put("/courses/3").contentType(MediaType.APPLICATION_JSON).content(courseJson("TECH 302b", 4)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.trainerId").value(4));
+        List<Statement> statements = sql.stop();
+
+        assertCount(statements, QueryType.SELECT, 1);
+        assertCount(statements, QueryType.UPDATE, 2);
+        assertCount(statements, QueryType.INSERT, 1);
+        assertTimeBelow(statements, SQL_BUDGET);
+    }
+
+    @Test
+    @DisplayName("DELETE /courses/{id} removes the course, its read row and writes an outbox event")
+    void deleteCourse() throws Exception {
+        sql.start();
+        mockMvc.perform(delete("/courses/5")).andExpect(status().isNoContent());
+        List<Statement> statements = sql.stop();
+
+        assertCount(statements, QueryType.DELETE, 2);
+        assertCount(statements, QueryType.INSERT, 1);
+        assertTimeBelow(statements, SQL_BUDGET);
+    }
+}
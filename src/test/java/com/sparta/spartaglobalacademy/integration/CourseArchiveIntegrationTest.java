@@ -0,0 +1,90 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import com.sparta.spartaglobalacademy.archive.CourseArchiver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Archived courses leave every /courses view and its caches, and come back only with includeArchived.
+ * Runs as if courses were partitioned, so trainers are checked by locking reads rather than the foreign key.
+ */
+@TestPropertySource(properties = "academy.courses.partitioned=true")
+class CourseArchiveIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private CourseArchiver archiver;
+
+    @Test
+    @DisplayName("courses before the cutoff move to the archive and are read only when asked for")
+    void archivesOldCourses() throws Exception {
+        // Warm the near cache and the second-level cache so the archive has to evict them
+        mockMvc.perform(get("/courses/1")).andExpect(status().isOk());
+
+        assertThat(archiver.archive(LocalDate.of(2023, 5, 1))).isEqualTo(2);
+
+        mockMvc.perform(get("/courses"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3));
+        mockMvc.perform(get("/courses").param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5));
+
+        mockMvc.perform(get("/courses/1")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/courses/1").param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("TECH 300"))
+                .andExpect(jsonPath("$.enrollDate").value("2023-03-01"))
+                .andExpect(jsonPath("$.trainerId").value(1));
+        mockMvc.perform(get("/course-details/1")).andExpect(status().isNotFound());
+
+        assertThat(archiver.archive(LocalDate.of(2023, 5, 1))).isZero();
+    }
+
+    @Test
+    @DisplayName("a trainer whose courses are all archived can be deleted")
+    void trainerWithOnlyArchivedCourses() throws Exception {
+        archiver.archive(LocalDate.of(2023, 4, 1));
+
+        mockMvc.perform(delete("/trainers/1")).andExpect(status().isNoContent());
+        mockMvc.perform(get("/courses/1").param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.trainerId").value(1));
+    }
+
+    @Test
+    @DisplayName("Sad path: a trainer with live courses cannot be deleted")
+    void trainerWithLiveCourses() throws Exception {
+        mockMvc.perform(delete("/trainers/3")).andExpect(status().isConflict());
+        mockMvc.perform(get("/trainers/3")).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("course writes read their trainer with a shared lock and reject one that does not exist")
+    void courseWritesLockTrainer() throws Exception {
+        String course = """
+                {"title": "TECH 400", "description": "Partitioned course", "enrollDate": "%s", "trainerId": %d}
+                """;
+        sql.start();
+        mockMvc.perform(post("/courses").contentType(MediaType.APPLICATION_JSON)
+                        .content(course.formatted(LocalDate.now().plusDays(30), 2)))
+                .andExpect(status().isOk());
+        // H2 has no FOR SHARE and takes FOR UPDATE instead; MySQL 8 gets FOR SHARE
+        assertThat(sql.stop()).anyMatch(statement -> statement.sql().contains("trainers")
+                && statement.sql().toLowerCase().contains(" for "));
+        mockMvc.perform(post("/courses").contentType(MediaType.APPLICATION_JSON)
+                        .content(course.formatted(LocalDate.now().plusDays(30), 99)))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,102 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import com.sparta.spartaglobalacademy.profiling.FlightRecorderEndpoint;
+import com.sparta.spartaglobalacademy.profiling.FlightRecorderEndpoint.RecordingStatus;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Drives a recording through the jfr endpoint and checks the custom events show the service call,
+ * the repository query under it and the mapping of its result. The endpoint lives on the management
+ * port, which the mock environment does not start, so it is called directly.
+ */
+@TestPropertySource(properties = {"academy.jfr.enabled=true", "management.server.port=0"})
+class FlightRecorderIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private FlightRecorderEndpoint endpoint;
+
+    @AfterEach
+    void stopRecording() throws IOException {
+        read(endpoint.stop());
+    }
+
+    @Test
+    @DisplayName("a recording holds service, repository and mapper events but no environment or system properties")
+    void recordsServiceCalls() throws Exception {
+        WebEndpointResponse<RecordingStatus> started = endpoint.start("default");
+        assertEquals(200, started.getStatus());
+        assertEquals("RUNNING", started.getBody().state());
+        assertEquals("default", started.getBody().profile());
+        mockMvc.perform(get("/courses/2")).andExpect(status().isOk());
+
+        WebEndpointResponse<Resource> stopped = endpoint.stop();
+        assertEquals(200, stopped.getStatus());
+        Path file = Files.createTempFile("recording-", ".jfr");
+        List<RecordedEvent> events;
+        try {
+            Files.write(file, read(stopped));
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("academy.ServiceCall")
+                && e.getString("service").equals("CourseService")
+                && e.getString("method").equals("getCourseById")
+                && e.getInt("entityId") == 2 && e.getInt("rows") == 1));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("academy.RepositoryCall")
+                && e.getString("repository").equals("CourseRepository")
+                && e.getString("method").equals("findById")
+                && e.getInt("entityId") == 2));
+        assertTrue(events.stream().anyMatch(e -> e.getEventType().getName().equals("academy.MapperCall")
+                && e.getString("method").equals("toRecord")
+                && e.getInt("entityId") == 2));
+        assertTrue(events.stream().noneMatch(e -> e.getEventType().getName().equals("jdk.InitialEnvironmentVariable")
+                || e.getEventType().getName().equals("jdk.InitialSystemProperty")));
+    }
+
+    @Test
+    @DisplayName("Sad path: only one recording runs at a time and an unknown profile is rejected")
+    void rejectsSecondRecording() {
+        assertEquals(404, endpoint.stop().getStatus());
+        assertEquals(400, endpoint.start("nope").getStatus());
+
+        assertEquals(200, endpoint.start(null).getStatus());
+        assertEquals(409, endpoint.start(null).getStatus());
+        assertEquals("profile", endpoint.status().getBody().profile());
+    }
+
+    @Test
+    @DisplayName("Sad path: the endpoint is not reachable through the application port")
+    void notOnApplicationPort() throws Exception {
+        mockMvc.perform(get("/actuator/jfr")).andExpect(status().isNotFound());
+    }
+
+    // Reads and so deletes the downloaded dump
+    private static byte[] read(WebEndpointResponse<Resource> response) throws IOException {
+        if (response.getBody() == null) {
+            return new byte[0];
+        }
+        try (InputStream in = response.getBody().getInputStream()) {
+            return in.readAllBytes();
+        }
+    }
+}
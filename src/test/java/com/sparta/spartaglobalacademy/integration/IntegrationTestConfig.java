@@ -0,0 +1,45 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Role;
+
+import javax.sql.DataSource;
+
+@TestConfiguration
+public class IntegrationTestConfig {
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static SqlStatementRecorder sqlStatementRecorder() {
+        return new SqlStatementRecorder();
+    }
+
+    // Seed the in-process database before anything can use it, then route all JDBC through the recorder
+    @Bean
+    public static BeanPostProcessor seedingDataSourceProxy(SqlStatementRecorder recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // The slow-query logger may have proxied it already; join that proxy rather than nest
+                if (bean instanceof ProxyDataSource proxy) {
+                    MySqlScriptSeeder.seed(proxy.getDataSource());
+                    proxy.getProxyConfig().getQueryListener().addListener(recorder);
+                    return proxy;
+                }
+                if (bean instanceof DataSource dataSource) {
+                    MySqlScriptSeeder.seed(dataSource);
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(recorder)
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,89 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import com.sparta.spartaglobalacademy.sharding.ShardRoutingDataSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Runs database_setup_fixed.sql against the H2 (MySQL mode) test database.
+ * <p>
+ * The script is used as-is apart from the few statements H2 cannot run: USE, session SETs, ANALYZE
+ * and the verification SELECTs are skipped, MySQL's two-argument DATEDIFF is rewritten, and
+ * DROP TABLE cascades because H2, unlike MySQL, refuses to drop a table a view depends on.
+ * A sharded data source has every shard seeded.
+ */
+public final class MySqlScriptSeeder {
+
+    private static final String SCRIPT = "database_setup_fixed.sql";
+    private static final Pattern STATEMENT_END = Pattern.compile(";\\s*(\\r?\\n|$)");
+    private static final Pattern MYSQL_DATEDIFF = Pattern.compile("DATEDIFF\\(CURDATE\\(\\),\\s*([\\w.]+)\\)");
+
+    private static List<String> statements;
+
+    private MySqlScriptSeeder() {
+    }
+
+    public static void seed(DataSource dataSource) {
+        if (dataSource instanceof ShardRoutingDataSource shards) {
+            for (int shard = 0; shard < shards.shardCount(); shard++) {
+                seed(shards.shard(shard));
+            }
+            return;
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String statement : statements()) {
+            jdbcTemplate.execute(statement);
+        }
+    }
+
+    private static synchronized List<String> statements() {
+        if (statements == null) {
+            statements = parse(read());
+        }
+        return statements;
+    }
+
+    private static String read() {
+        try {
+            return new ClassPathResource(SCRIPT).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + SCRIPT, e);
+        }
+    }
+
+    static List<String> parse(String script) {
+        StringBuilder withoutComments = new StringBuilder();
+        for (String line : script.split("\\r?\\n")) {
+            if (!line.trim().startsWith("--")) {
+                withoutComments.append(line).append('\n');
+            }
+        }
+
+        List<String> result = new ArrayList<>();
+        for (String raw : STATEMENT_END.split(withoutComments)) {
+            String statement = raw.trim();
+            if (statement.isEmpty()) {
+                continue;
+            }
+            String upper = statement.toUpperCase(Locale.ROOT);
+            if (upper.startsWith("USE ") || upper.startsWith("SET ") || upper.startsWith("SELECT")
+                    || upper.startsWith("ANALYZE ")) {
+                continue;
+            }
+            if (upper.startsWith("DROP TABLE")) {
+                statement = statement + " CASCADE";
+            }
+            result.add(MYSQL_DATEDIFF.matcher(statement).replaceAll("DATEDIFF('DAY', $1, CURRENT_DATE)"));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import com.sparta.spartaglobalacademy.outbox.OutboxRelay;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class OutboxIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("relay drains every event, one per aggregate per batch, oldest first")
+    void relayDrainsInOrder() throws Exception {
+        String body = """
+                {"title": "TECH 500", "description": "Outbox course", "enrollDate": "%s", "trainerId": 1}
+                """.formatted(LocalDate.now().plusDays(10));
+        mockMvc.perform(post("/courses").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/trainers/1").contentType(MediaType.APPLICATION_JSON).content("{\"fullName\": \"A\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/trainers/1").contentType(MediaType.APPLICATION_JSON).content("{\"fullName\": \"B\"}"))
+                .andExpect(status().isOk());
+        assertEquals(3, countOutbox());
+
+        assertEquals(3, outboxRelay.drain());
+        assertEquals(0, countOutbox());
+    }
+
+    private int countOutbox() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class);
+    }
+}
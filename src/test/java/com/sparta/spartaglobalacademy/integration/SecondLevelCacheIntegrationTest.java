@@ -0,0 +1,84 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import com.sparta.spartaglobalacademy.cache.CacheInvalidation;
+import com.sparta.spartaglobalacademy.cache.CacheInvalidationTransport;
+import com.sparta.spartaglobalacademy.cache.CourseNearCache;
+import net.ttddyy.dsproxy.QueryType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.sparta.spartaglobalacademy.integration.SqlStatementRecorder.*;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Entity lookups and cacheable queries are answered by the Hibernate second-level cache once warm.
+ */
+class SecondLevelCacheIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private CacheInvalidationTransport transport;
+
+    private String courseJson(String title) {
+        return """
+                {"title": "%s", "description": "Cached course", "enrollDate": "%s", "trainerId": 3}
+                """.formatted(title, LocalDate.now().plusDays(30));
+    }
+
+    @Test
+    @DisplayName("GET /trainers is served from the query and entity caches the second time")
+    void trainerListCached() throws Exception {
+        mockMvc.perform(get("/trainers")).andExpect(status().isOk());
+
+        sql.start();
+        mockMvc.perform(get("/trainers")).andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5));
+        assertTotal(sql.stop(), 0);
+    }
+
+    @Test
+    @DisplayName("PUT /courses/{id} finds an already cached course without a SELECT")
+    void updateUsesEntityCache() throws Exception {
+        mockMvc.perform(put("/courses/3").contentType(MediaType.APPLICATION_JSON).content(courseJson("CACHED 1")))
+                .andExpect(status().isOk());
+
+        sql.start();
+        mockMvc.perform(put("/courses/3").contentType(MediaType.APPLICATION_JSON).content(courseJson("CACHED 2")))
+                .andExpect(status().isOk());
+        List<Statement> statements = sql.stop();
+
+        assertCount(statements, QueryType.SELECT, 0);
+    }
+
+    @Test
+    @DisplayName("an invalidation from another node evicts the cached course")
+    void remoteInvalidationEvicts() throws Exception {
+        mockMvc.perform(put("/courses/3").contentType(MediaType.APPLICATION_JSON).content(courseJson("CACHED 1")))
+                .andExpect(status().isOk());
+        transport.publish(new CacheInvalidation(CourseNearCache.CACHE_NAME, 3, "other-node", System.currentTimeMillis()));
+
+        sql.start();
+        mockMvc.perform(put("/courses/3").contentType(MediaType.APPLICATION_JSON).content(courseJson("CACHED 2")))
+                .andExpect(status().isOk());
+        List<Statement> statements = sql.stop();
+
+        assertCount(statements, QueryType.SELECT, 1);
+    }
+
+    @Test
+    @DisplayName("cache statistics are published per region through actuator")
+    void statisticsExposed() throws Exception {
+        mockMvc.perform(get("/trainers")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/metrics/hibernate.second.level.cache.puts"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.availableTags[?(@.tag == 'region')].values[*]", hasItem("academy.trainer")));
+    }
+}
@@ -0,0 +1,217 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import com.jayway.jsonpath.JsonPath;
+import com.sparta.spartaglobalacademy.analytics.CourseColumnLoader;
+import com.sparta.spartaglobalacademy.cache.CourseNearCache;
+import com.sparta.spartaglobalacademy.sharding.ShardIdRanges;
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import com.sparta.spartaglobalacademy.sharding.ShardRoutingDataSource;
+import com.sparta.spartaglobalacademy.titles.CourseTitleFilterLoader;
+import com.sparta.spartaglobalacademy.trainers.TrainerIdSetLoader;
+import com.sparta.spartaglobalacademy.upcoming.UpcomingCourseIndexLoader;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Courses and trainers sharded over three in-process databases (see application-sharded.properties).
+ * Shard a keeps the seed data; b and c start empty with their id blocks at 1001 and 2001.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({"it", "sharded"})
+@Import(IntegrationTestConfig.class)
+class ShardingIntegrationTest {
+
+    private static final String ENROLL_DATE = LocalDate.now().plusMonths(1).toString();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ShardRouter shards;
+
+    @Autowired
+    private ShardIdRanges shardIdRanges;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CourseNearCache courseNearCache;
+
+    @Autowired
+    private CourseColumnLoader courseColumnLoader;
+
+    @Autowired
+    private UpcomingCourseIndexLoader upcomingCourseIndexLoader;
+
+    @Autowired
+    private CourseTitleFilterLoader courseTitleFilterLoader;
+
+    @Autowired
+    private TrainerIdSetLoader trainerIdSetLoader;
+
+    private ShardRoutingDataSource routing;
+
+    @BeforeEach
+    void resetShards() throws SQLException {
+        routing = dataSource.unwrap(ShardRoutingDataSource.class);
+        MySqlScriptSeeder.seed(routing);
+        for (int shard = 1; shard < routing.shardCount(); shard++) {
+            JdbcTemplate jdbcTemplate = shardJdbc(shard);
+            jdbcTemplate.execute("DELETE FROM course_details_read");
+            jdbcTemplate.execute("DELETE FROM courses");
+            jdbcTemplate.execute("DELETE FROM trainers");
+        }
+        shardIdRanges.apply();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        courseNearCache.invalidate(null);
+        courseColumnLoader.rebuild();
+        upcomingCourseIndexLoader.rebuild();
+        courseTitleFilterLoader.rebuild();
+        trainerIdSetLoader.rebuild();
+    }
+
+    @Test
+    @DisplayName("a new trainer goes to the shard its name hashes to, and their courses follow them")
+    void trainerAndCoursesShareShard() throws Exception {
+        int trainerId = createTrainer(nameOnShard(2));
+        assertThat(trainerId).isBetween(2001, 3000);
+        assertThat(count(2, "trainers")).isEqualTo(1);
+        assertThat(count(1, "trainers")).isZero();
+
+        int courseId = createCourse("TECH 400", trainerId);
+        assertThat(courseId).isBetween(2001, 3000);
+        assertThat(count(2, "courses")).isEqualTo(1);
+        assertThat(count(2, "course_details_read")).isEqualTo(1);
+
+        mockMvc.perform(get("/courses/" + courseId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("TECH 400"));
+        mockMvc.perform(get("/trainers/" + trainerId)).andExpect(status().isOk());
+        mockMvc.perform(get("/course-details/" + courseId)).andExpect(status().isOk());
+        mockMvc.perform(get("/courses")).andExpect(jsonPath("$.length()").value(6));
+        mockMvc.perform(get("/trainers")).andExpect(jsonPath("$.length()").value(6));
+    }
+
+    @Test
+    @DisplayName("list and search pages gather every shard and merge them in ID order")
+    void pagesMergeShards() throws Exception {
+        int onC = createCourse("TECH 400", createTrainer(nameOnShard(2)));
+        int onB = createCourse("TECH 401", createTrainer(nameOnShard(1)));
+
+        mockMvc.perform(get("/courses/page").param("size", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses[*].id").value(contains(1, 2, 3, 4)))
+                .andExpect(jsonPath("$.nextAfter").value(4));
+        mockMvc.perform(get("/courses/page").param("after", "4").param("size", "4"))
+                .andExpect(jsonPath("$.courses[*].id").value(contains(5, onB, onC)))
+                .andExpect(jsonPath("$.nextAfter").doesNotExist());
+        mockMvc.perform(get("/courses/search").param("title", "tech 40").param("size", "1"))
+                .andExpect(jsonPath("$.courses[*].id").value(contains(onB)))
+                .andExpect(jsonPath("$.nextAfter").value(onB));
+        mockMvc.perform(get("/courses").param("ids", "1," + onC + "," + onB + ",999999"))
+                .andExpect(jsonPath("$.found[*].id").value(contains(1, onC, onB)))
+                .andExpect(jsonPath("$.missingIds").value(contains(999999)));
+    }
+
+    @Test
+    @DisplayName("Sad path: a write that would touch two shards is rejected with 400")
+    void crossShardWriteRejected() throws Exception {
+        int trainerB = createTrainer(nameOnShard(1));
+        int trainerC = createTrainer(nameOnShard(2));
+        int courseId = createCourse("TECH 401", trainerB);
+
+        mockMvc.perform(put("/courses/" + courseId).contentType(MediaType.APPLICATION_JSON)
+                        .content(courseJson("TECH 401", trainerC)))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/courses/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + courseJson("TECH 402", trainerB) + "," + courseJson("TECH 403", trainerC) + "]"))
+                .andExpect(status().isBadRequest());
+        assertThat(count(1, "courses") + count(2, "courses")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Sad path: a title taken on another shard is rejected with 409")
+    void titleTakenOnAnotherShard() throws Exception {
+        int trainerB = createTrainer(nameOnShard(1));
+        int courseId = createCourse("TECH 401", trainerB);
+
+        mockMvc.perform(post("/courses").contentType(MediaType.APPLICATION_JSON)
+                        .content(courseJson("tech 300", trainerB)))
+                .andExpect(status().isConflict());
+        mockMvc.perform(post("/courses/batch").contentType(MediaType.APPLICATION_JSON)
+                        .content("[" + courseJson("TECH 402", trainerB) + "," + courseJson(" Tech 301 ", trainerB) + "]"))
+                .andExpect(status().isConflict());
+        mockMvc.perform(put("/courses/" + courseId).contentType(MediaType.APPLICATION_JSON)
+                        .content(courseJson("DATA 304", trainerB)))
+                .andExpect(status().isConflict());
+        assertThat(count(1, "courses")).isEqualTo(1);
+    }
+
+    // A trainer name the hash ring places on the shard
+    private String nameOnShard(int shard) {
+        for (int i = 0; ; i++) {
+            String name = "Trainer " + i;
+            if (shards.placeTrainer(name) == shard) {
+                return name;
+            }
+        }
+    }
+
+    private int createTrainer(String fullName) throws Exception {
+        String body = mockMvc.perform(post("/trainers").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fullName\": \"" + fullName + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.id");
+    }
+
+    private int createCourse(String title, int trainerId) throws Exception {
+        String body = mockMvc.perform(post("/courses").contentType(MediaType.APPLICATION_JSON)
+                        .content(courseJson(title, trainerId)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(body, "$.id");
+    }
+
+    private static String courseJson(String title, int trainerId) {
+        return "{\"title\": \"" + title + "\", \"description\": \"Sharded course\", \"enrollDate\": \""
+                + ENROLL_DATE + "\", \"trainerId\": " + trainerId + "}";
+    }
+
+    private int count(int shard, String table) {
+        Integer count = shardJdbc(shard).queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+        return count == null ? 0 : count;
+    }
+
+    private JdbcTemplate shardJdbc(int shard) {
+        return new JdbcTemplate(routing.shard(shard));
+    }
+}
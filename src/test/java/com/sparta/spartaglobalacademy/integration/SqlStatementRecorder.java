@@ -0,0 +1,76 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.QueryType;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Records the SQL statements executed on the test thread so tests can pin exact statement
+ * counts and time budgets per endpoint. Statements from background threads are ignored.
+ */
+public class SqlStatementRecorder implements QueryExecutionListener {
+
+    public record Statement(String sql, QueryType type, long elapsedMillis) {}
+
+    private final List<Statement> statements = new ArrayList<>();
+    private volatile Thread recordingThread;
+
+    public synchronized void start() {
+        statements.clear();
+        recordingThread = Thread.currentThread();
+    }
+
+    public synchronized List<Statement> stop() {
+        recordingThread = null;
+        return List.copyOf(statements);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public synchronized void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (Thread.currentThread() != recordingThread) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            String sql = queryInfo.getQuery();
+            statements.add(new Statement(sql, QueryUtils.getQueryType(sql), execInfo.getElapsedTime()));
+        }
+    }
+
+    public static void assertCount(List<Statement> statements, QueryType type, int expected) {
+        long actual = statements.stream().filter(s -> s.type() == type).count();
+        assertEquals(expected, actual, () -> "Expected " + expected + " " + type + " statement(s) but got " + actual
+                + ":\n" + describe(statements));
+    }
+
+    public static void assertTotal(List<Statement> statements, int expected) {
+        assertEquals(expected, statements.size(), () -> "Unexpected statement count:\n" + describe(statements));
+    }
+
+    public static void assertTimeBelow(List<Statement> statements, Duration budget) {
+        long total = statements.stream().mapToLong(Statement::elapsedMillis).sum();
+        assertTrue(total < budget.toMillis(), () -> "SQL time " + total + "ms exceeded budget of "
+                + budget.toMillis() + "ms:\n" + describe(statements));
+    }
+
+    private static String describe(List<Statement> statements) {
+        StringBuilder sb = new StringBuilder();
+        for (Statement s : statements) {
+            sb.append("  [").append(s.type()).append(", ").append(s.elapsedMillis()).append("ms] ")
+                    .append(s.sql()).append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,118 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Samples every request and reads the spans back from the file exporter: one trace per request,
+ * with the service call under the http span and each statement, with its row count, under the service call.
+ */
+@AutoConfigureObservability
+@TestPropertySource(properties = {
+        "management.tracing.sampling.probability=1.0",
+        "academy.tracing.file=target/it-traces.jsonl"
+})
+class TracingIntegrationTest extends AbstractIntegrationTest {
+
+    private static final Path TRACE_FILE = Path.of("target/it-traces.jsonl");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    private long offset;
+
+    @BeforeEach
+    void skipEarlierSpans() throws Exception {
+        flush();
+        offset = Files.size(TRACE_FILE);
+    }
+
+    @Test
+    @DisplayName("GET /trainers/{id} traces as http, service and a one-row SELECT in the same trace")
+    void tracesRead() throws Exception {
+        mockMvc.perform(get("/trainers/3")).andExpect(status().isOk());
+
+        List<JsonNode> spans = newSpans();
+        JsonNode http = span(spans, "http get /trainers/{id}");
+        JsonNode service = span(spans, "trainer-service.get-trainer-by-id");
+        JsonNode select = span(spans, "jdbc select");
+
+        assertEquals(http.get("traceId"), service.get("traceId"));
+        assertEquals(http.get("spanId"), service.get("parentSpanId"));
+        assertEquals(service.get("spanId"), select.get("parentSpanId"));
+        assertEquals("1", select.get("attributes").get("db.rows").asText());
+        assertTrue(select.get("attributes").get("db.statement").asText().contains("trainers"));
+    }
+
+    @Test
+    @DisplayName("PUT /trainers/{id} records the update count on the UPDATE span")
+    void tracesWrite() throws Exception {
+        mockMvc.perform(put("/trainers/1").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fullName\": \"Philip Windridge\"}"))
+                .andExpect(status().isOk());
+
+        JsonNode service = span(newSpans(), "trainer-service.update-trainer");
+        boolean updatedTrainer = false;
+        for (JsonNode span : newSpans()) {
+            if (span.get("name").asText().equals("jdbc update")
+                    && span.get("parentSpanId").equals(service.get("spanId"))
+                    && span.get("attributes").get("db.statement").asText().contains("trainers set full_name")) {
+                assertEquals("1", span.get("attributes").get("db.rows").asText());
+                updatedTrainer = true;
+            }
+        }
+        assertTrue(updatedTrainer);
+    }
+
+    private void flush() {
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+    }
+
+    private List<JsonNode> newSpans() throws Exception {
+        flush();
+        List<JsonNode> spans = new ArrayList<>();
+        try (RandomAccessFile file = new RandomAccessFile(TRACE_FILE.toFile(), "r")) {
+            byte[] bytes = new byte[(int) (file.length() - offset)];
+            file.seek(offset);
+            file.readFully(bytes);
+            for (String line : new String(bytes, StandardCharsets.UTF_8).split("\n")) {
+                if (!line.isBlank()) {
+                    spans.add(objectMapper.readTree(line));
+                }
+            }
+        }
+        return spans;
+    }
+
+    private static JsonNode span(List<JsonNode> spans, String name) {
+        for (JsonNode span : spans) {
+            if (span.get("name").asText().equals(name)) {
+                return span;
+            }
+        }
+        return fail("No span named " + name + " in " + spans);
+    }
+}
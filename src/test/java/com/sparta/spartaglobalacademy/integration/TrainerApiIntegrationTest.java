@@ -0,0 +1,93 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import net.ttddyy.dsproxy.QueryType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.sparta.spartaglobalacademy.integration.SqlStatementRecorder.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class TrainerApiIntegrationTest extends AbstractIntegrationTest {
+
+    private static final Duration SQL_BUDGET = Duration.ofMillis(250);
+
+    @Test
+    @DisplayName("GET /trainers loads every trainer with a single SELECT and no course fetches")
+    void getAllTrainers() throws Exception {
+        sql.start();
+        mockMvc.perform(get("/trainers"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5));
+        List<Statement> statements = sql.stop();
+
+        assertTotal(statements, 1);
+        assertTimeBelow(statements, SQL_BUDGET);
+    }
+
+    @Test
+    @DisplayName("GET /trainers/{id} is a single primary-key SELECT")
+    void getTrainerById() throws Exception {
+        sql.start();
+        mockMvc.perform(get("/trainers/3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fullName").value("Nish Mandal"));
+        assertTotal(sql.stop(), 1);
+    }
+
+    @Test
+    @DisplayName("GET /trainers?ids= resolves several trainers with one IN query, in request order")
+    void getTrainersByIds() throws Exception {
+        sql.start();
+        mockMvc.perform(get("/trainers").param("ids", "4,999,2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found.length()").value(2))
+                .andExpect(jsonPath("$.found[0].fullName").value("Abdul Shahrukh Khan"))
+                .andExpect(jsonPath("$.found[1].fullName").value("Catherine French"))
+                .andExpect(jsonPath("$.missingIds[0]").value(999));
+        assertTotal(sql.stop(), 1);
+    }
+
+    @Test
+    @DisplayName("PUT /trainers/{id} renames the trainer and fans out to the read model in one UPDATE")
+    void renameTrainer() throws Exception {
+        sql.start();
+        mockMvc.perform(put("/trainers/1").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"fullName\": \"Philip Windridge\"}"))
+                .andExpect(status().isOk());
+        List<Statement> statements = sql.stop();
+
+        assertCount(statements, QueryType.UPDATE, 2);
+        assertCount(statements, QueryType.INSERT, 1);
+        assertTimeBelow(statements, SQL_BUDGET);
+
+        mockMvc.perform(get("/course-details").param("trainerId", "1"))
+                .andExpect(jsonPath("$[0].trainerName").value("Philip Windridge"));
+    }
+
+    @Test
+    @DisplayName("GET /course-details reads the denormalised table with one SELECT")
+    void getCourseDetails() throws Exception {
+        sql.start();
+        mockMvc.perform(get("/course-details"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(5))
+                .andExpect(jsonPath("$[1].trainerName").value("Catherine French"));
+        List<Statement> statements = sql.stop();
+
+        assertTotal(statements, 1);
+        assertCount(statements, QueryType.SELECT, 1);
+    }
+
+    @Test
+    @DisplayName("Sad path: GET /trainers?ids= rejects an empty or non-positive ID with 400")
+    void getTrainersByIdsInvalid() throws Exception {
+        mockMvc.perform(get("/trainers").param("ids", "1,,2")).andExpect(status().isBadRequest());
+        mockMvc.perform(get("/trainers").param("ids", "0")).andExpect(status().isBadRequest());
+    }
+}
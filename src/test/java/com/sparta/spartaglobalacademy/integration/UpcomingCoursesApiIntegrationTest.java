@@ -0,0 +1,59 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.sparta.spartaglobalacademy.integration.SqlStatementRecorder.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /courses/upcoming is answered from the in-memory enroll-date index and follows course writes.
+ */
+class UpcomingCoursesApiIntegrationTest extends AbstractIntegrationTest {
+
+    private String courseJson(String title, LocalDate enrollDate) {
+        return """
+                {"title": "%s", "description": "Upcoming course", "enrollDate": "%s", "trainerId": 1}
+                """.formatted(title, enrollDate);
+    }
+
+    @Test
+    @DisplayName("range and next-N queries reflect created, moved and deleted courses without SQL")
+    void upcomingFollowsWrites() throws Exception {
+        LocalDate today = LocalDate.now();
+        mockMvc.perform(post("/courses").contentType(MediaType.APPLICATION_JSON)
+                .content(courseJson("SOON 1", today.plusDays(2)))).andExpect(status().isOk());
+        mockMvc.perform(post("/courses").contentType(MediaType.APPLICATION_JSON)
+                .content(courseJson("SOON 2", today.plusDays(3)))).andExpect(status().isOk());
+        mockMvc.perform(put("/courses/7").contentType(MediaType.APPLICATION_JSON)
+                .content(courseJson("SOON 2", today.plusDays(30)))).andExpect(status().isOk());
+
+        sql.start();
+        mockMvc.perform(get("/courses/upcoming"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("SOON 1"));
+        mockMvc.perform(get("/courses/upcoming/next").param("n", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value(7));
+        List<Statement> statements = sql.stop();
+        assertTotal(statements, 0);
+
+        mockMvc.perform(delete("/courses/6")).andExpect(status().isNoContent());
+        mockMvc.perform(get("/courses/upcoming")).andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Sad path: dates before the index horizon are rejected")
+    void beforeHorizon() throws Exception {
+        mockMvc.perform(get("/courses/upcoming").param("from", "2023-01-01"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,23 @@
+package com.sparta.spartaglobalacademy.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class WarmUpIntegrationTest extends AbstractIntegrationTest {
+
+    @Test
+    @DisplayName("readiness is UP once warm-up has run, and its duration is exported")
+    void readyAfterWarmUp() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.components.warmUp.status").value("UP"));
+        mockMvc.perform(get("/actuator/metrics/academy.warmup.duration").param("tag", "outcome:success"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.measurements[0].value").value(1.0));
+    }
+}
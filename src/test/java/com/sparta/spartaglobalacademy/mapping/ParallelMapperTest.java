@@ -0,0 +1,95 @@
+package com.sparta.spartaglobalacademy.mapping;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelMapperTest {
+
+    private final ParallelMapper mapper = new ParallelMapper(4, 5_000);
+
+    @AfterEach
+    void tearDown() {
+        mapper.close();
+    }
+
+    @Test
+    @DisplayName("lists at or above the threshold are mapped on several workers and keep their order")
+    void testParallelKeepsOrder() {
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            source.add(i);
+        }
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        List<String> mapped = mapper.map(source, i -> {
+            threads.add(Thread.currentThread().getName());
+            return "#" + i;
+        });
+
+        assertEquals(50_000, mapped.size());
+        for (int i = 0; i < mapped.size(); i++) {
+            assertEquals("#" + i, mapped.get(i));
+        }
+        boolean onPool = false;
+        for (String thread : threads) {
+            onPool |= thread.startsWith("ForkJoinPool");
+        }
+        assertTrue(onPool);
+        mapped.add("still mutable");
+    }
+
+    @Test
+    @DisplayName("lists below the threshold are mapped on the calling thread")
+    void testSmallListsStayOnCaller() {
+        String caller = Thread.currentThread().getName();
+
+        List<String> mapped = mapper.map(List.of(1, 2, 3), i -> Thread.currentThread().getName());
+
+        assertEquals(List.of(caller, caller, caller), mapped);
+    }
+
+    @Test
+    @DisplayName("non-random-access lists are mapped correctly")
+    void testLinkedList() {
+        LinkedList<Integer> source = new LinkedList<>();
+        for (int i = 0; i < 6_000; i++) {
+            source.add(i);
+        }
+
+        List<Integer> mapped = mapper.map(source, i -> i * 2);
+
+        assertEquals(11_998, mapped.get(5_999));
+    }
+
+    // Sad path
+    @Test
+    @DisplayName("Sad path: an exception thrown by the mapping function reaches the caller")
+    void testMapperFailure() {
+        List<Integer> source = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            source.add(i);
+        }
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> mapper.map(source, i -> {
+            if (i == 7_777) {
+                throw new IllegalStateException("bad row");
+            }
+            return i;
+        }));
+        // Fork/join may rethrow a copy of the exception that wraps the original
+        Throwable root = ex;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        assertEquals("bad row", root.getMessage());
+    }
+}
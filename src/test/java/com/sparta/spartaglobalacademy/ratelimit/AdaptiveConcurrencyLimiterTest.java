@@ -0,0 +1,69 @@
+package com.sparta.spartaglobalacademy.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private AtomicLong now;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(0);
+        limiter = new AdaptiveConcurrencyLimiter(2, 1, 4,
+                TimeUnit.MILLISECONDS.toNanos(250), TimeUnit.SECONDS.toNanos(1), now::get);
+    }
+
+    @Test
+    @DisplayName("tryAcquire sheds requests above the current limit")
+    void testShedAboveLimit() {
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        limiter.release(FAST);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("fast completions raise the limit up to the maximum")
+    void testIncreaseOnFastResponses() {
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST);
+        }
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("slow completions lower the limit at most once per cooldown")
+    void testDecreaseOnSlowResponses() {
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST);
+        }
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+        assertEquals(3, limiter.getLimit());
+
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+        assertEquals(3, limiter.getLimit());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+        assertEquals(2, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+}
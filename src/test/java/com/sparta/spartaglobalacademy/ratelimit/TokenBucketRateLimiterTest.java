@@ -0,0 +1,94 @@
+package com.sparta.spartaglobalacademy.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketRateLimiterTest {
+
+    private AtomicLong now;
+    private TokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        now = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+        // burst of 3, one token per second, at most 4 tracked clients
+        limiter = new TokenBucketRateLimiter(3, 1.0, 4, now::get);
+    }
+
+    // Happy path - burst is allowed
+    @Test
+    @DisplayName("tryAcquire allows a burst up to capacity")
+    void testBurstAllowed() {
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("a"));
+    }
+
+    // Sad path - bucket exhausted
+    @Test
+    @DisplayName("tryAcquire rejects once the bucket is empty and reports the wait")
+    void testRejectWhenExhausted() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a");
+        }
+        long wait = limiter.tryAcquire("a");
+        assertTrue(wait > 0);
+        assertTrue(wait <= TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("tokens refill over time")
+    void testRefill() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a");
+        }
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+    }
+
+    @Test
+    @DisplayName("clients are limited independently")
+    void testClientsIndependent() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("a");
+        }
+        assertTrue(limiter.tryAcquire("a") > 0);
+        assertEquals(0, limiter.tryAcquire("b"));
+    }
+
+    @Test
+    @DisplayName("once maxClients buckets exist, new clients share one overflow bucket until idle ones are evicted")
+    void testMaxClients() {
+        for (String client : new String[]{"a", "b", "c", "d"}) {
+            limiter.tryAcquire(client);
+        }
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("new-" + i));
+        }
+
+        assertTrue(limiter.tryAcquire("new-3") > 0, "new clients share the overflow bucket");
+        assertEquals(5, limiter.trackedClients());
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        limiter.evictIdle();
+        assertEquals(0, limiter.tryAcquire("new-3"));
+    }
+
+    @Test
+    @DisplayName("evictIdle removes only fully refilled buckets")
+    void testEvictIdle() {
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+        now.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        limiter.tryAcquire("b");
+
+        assertEquals(1, limiter.evictIdle());
+        assertEquals(1, limiter.trackedClients());
+    }
+}
@@ -0,0 +1,59 @@
+package com.sparta.spartaglobalacademy.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteRateLimitInterceptorTest {
+
+    private WriteRateLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        // burst of 3, far too slow a refill to matter during the test
+        interceptor = new WriteRateLimitInterceptor(new TokenBucketRateLimiter(3, 0.001, 1000),
+                new AdaptiveConcurrencyLimiter(100, 1, 100, Long.MAX_VALUE, 0), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("an authenticated user is limited by name, anyone else by remote address")
+    void testClientKey() {
+        MockHttpServletRequest request = write("10.0.0.7");
+        assertEquals("ip:10.0.0.7", WriteRateLimitInterceptor.clientKey(request));
+
+        request.setUserPrincipal(() -> "alice");
+        assertEquals("user:alice", WriteRateLimitInterceptor.clientKey(request));
+    }
+
+    // Sad path
+    @Test
+    @DisplayName("Sad path: sending a new X-API-Key on every request does not earn a fresh bucket")
+    void testRotatingApiKeysShareLimit() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(interceptor.preHandle(write("10.0.0.7", UUID.randomUUID().toString()),
+                    new MockHttpServletResponse(), null));
+        }
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> interceptor.preHandle(
+                write("10.0.0.7", UUID.randomUUID().toString()), new MockHttpServletResponse(), null));
+        assertEquals(429, ex.getStatusCode().value());
+        assertTrue(interceptor.preHandle(write("10.0.0.8"), new MockHttpServletResponse(), null));
+    }
+
+    private static MockHttpServletRequest write(String remoteAddr, String... apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/courses");
+        request.setRemoteAddr(remoteAddr);
+        for (String key : apiKey) {
+            request.addHeader("X-API-Key", key);
+        }
+        return request;
+    }
+}
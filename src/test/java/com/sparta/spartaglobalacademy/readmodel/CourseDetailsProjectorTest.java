@@ -0,0 +1,69 @@
+package com.sparta.spartaglobalacademy.readmodel;
+
+import com.sparta.spartaglobalacademy.events.ChangeType;
+import com.sparta.spartaglobalacademy.events.CourseChangedEvent;
+import com.sparta.spartaglobalacademy.events.CoursesCreatedEvent;
+import com.sparta.spartaglobalacademy.events.TrainerChangedEvent;
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.records.TrainerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CourseDetailsProjectorTest {
+
+    @Mock
+    private CourseDetailsReadRepository readRepository;
+
+    @InjectMocks
+    private CourseDetailsProjector projector;
+
+    private final CourseRecord course = new CourseRecord(7, "Java", "Intro", LocalDate.now().plusDays(3), 2);
+
+    @Test
+    @DisplayName("created course is inserted into the read table")
+    void testCourseCreated() {
+        projector.onCourseChanged(new CourseChangedEvent(ChangeType.CREATED, 7, course));
+        verify(readRepository).insert(7, course);
+    }
+
+    @Test
+    @DisplayName("a batch create inserts all of its read rows in one call")
+    void testCoursesCreated() {
+        CourseRecord other = new CourseRecord(8, "Spring", "Intro", LocalDate.now().plusDays(4), 3);
+        projector.onCoursesCreated(new CoursesCreatedEvent(List.of(course, other)));
+        verify(readRepository, times(1)).insertAll(List.of(course, other));
+        verifyNoMoreInteractions(readRepository);
+    }
+
+    @Test
+    @DisplayName("updated course rewrites its read row")
+    void testCourseUpdated() {
+        projector.onCourseChanged(new CourseChangedEvent(ChangeType.UPDATED, 7, course));
+        verify(readRepository).update(7, course);
+    }
+
+    @Test
+    @DisplayName("deleted course is removed from the read table")
+    void testCourseDeleted() {
+        projector.onCourseChanged(new CourseChangedEvent(ChangeType.DELETED, 7, null));
+        verify(readRepository).delete(7);
+    }
+
+    @Test
+    @DisplayName("trainer rename fans out to all of their courses in one call")
+    void testTrainerRenamed() {
+        projector.onTrainerChanged(new TrainerChangedEvent(ChangeType.UPDATED, 2, new TrainerRecord(2, "New Name")));
+        verify(readRepository, times(1)).renameTrainer(2, "New Name");
+        verifyNoMoreInteractions(readRepository);
+    }
+}
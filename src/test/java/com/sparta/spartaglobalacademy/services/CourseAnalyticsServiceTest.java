@@ -0,0 +1,181 @@
+package com.sparta.spartaglobalacademy.services;
+
+import com.sparta.spartaglobalacademy.analytics.CourseColumnStore;
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.records.MonthlyCourseCountRecord;
+import com.sparta.spartaglobalacademy.records.TopicCourseCountRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseAnalyticsServiceTest {
+
+    private static final LocalDate BASE = LocalDate.of(2024, 1, 1);
+    // Large enough that the scans are split across several fork/join tasks
+    private static final int ROWS = 200_000;
+    private static final int TRAINERS = 50;
+
+    private CourseColumnStore store;
+    private CourseAnalyticsService analyticsService;
+    private int[] trainerOf;
+    private LocalDate[] dateOf;
+
+    @BeforeEach
+    void setUp() {
+        store = new CourseColumnStore();
+        analyticsService = new CourseAnalyticsService(store, new SimpleMeterRegistry());
+
+        Random random = new Random(7);
+        trainerOf = new int[ROWS + 1];
+        dateOf = new LocalDate[ROWS + 1];
+        CourseColumnStore.Builder builder = store.beginRebuild(ROWS);
+        for (int id = 1; id <= ROWS; id++) {
+            trainerOf[id] = 1 + random.nextInt(TRAINERS);
+            dateOf[id] = BASE.plusDays(random.nextInt(730));
+            builder.add(id, trainerOf[id], (int) dateOf[id].toEpochDay(), "Course " + (id % 10));
+        }
+        store.completeRebuild(builder);
+    }
+
+    @Test
+    @DisplayName("parallel per-month counts match a straightforward count")
+    void testCoursesPerMonth() {
+        Map<String, Integer> expected = new TreeMap<>();
+        for (int id = 1; id <= ROWS; id++) {
+            expected.merge(trainerOf[id] + "/" + YearMonth.from(dateOf[id]), 1, Integer::sum);
+        }
+
+        List<MonthlyCourseCountRecord> result = analyticsService.coursesPerMonth(null, null, null);
+
+        Map<String, Integer> actual = new TreeMap<>();
+        result.forEach(r -> actual.put(r.trainerId() + "/" + r.month(), r.courses()));
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("filters by trainer and date range, and skips deleted courses")
+    void testFilteredAndDeleted() {
+        store.remove(1);
+        LocalDate from = BASE.plusMonths(3);
+        LocalDate to = BASE.plusMonths(6).minusDays(1);
+        int expected = 0;
+        for (int id = 2; id <= ROWS; id++) {
+            if (trainerOf[id] == 3 && !dateOf[id].isBefore(from) && !dateOf[id].isAfter(to)) {
+                expected++;
+            }
+        }
+
+        int actual = analyticsService.coursesPerMonth(3, from, to).stream()
+                .mapToInt(MonthlyCourseCountRecord::courses).sum();
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("reassigning a course moves it between trainers in the per-trainer index")
+    void testReassignTrainer() {
+        int before = countFor(TRAINERS + 1);
+        store.upsert(new CourseRecord(1, "Moved", "d", BASE, TRAINERS + 1));
+
+        assertEquals(0, before);
+        assertEquals(1, countFor(TRAINERS + 1));
+        assertEquals(analyticsService.coursesPerMonth(null, null, null).stream()
+                        .filter(r -> r.trainerId() == trainerOf[1]).mapToInt(MonthlyCourseCountRecord::courses).sum(),
+                countFor(trainerOf[1]));
+    }
+
+    private int countFor(int trainerId) {
+        return analyticsService.coursesPerMonth(trainerId, null, null).stream()
+                .mapToInt(MonthlyCourseCountRecord::courses).sum();
+    }
+
+    @Test
+    @DisplayName("trainer ids from other shards' id blocks are bucketed by distinct trainer, not by id")
+    void testShardedTrainerIds() {
+        int onShardB = 100_000_001;
+        int onShardC = 200_000_007;
+        store.upsert(new CourseRecord(ROWS + 1, "B", "d", BASE, onShardB));
+        store.upsert(new CourseRecord(ROWS + 2, "C", "d", BASE.plusMonths(1), onShardC));
+        store.upsert(new CourseRecord(ROWS + 3, "C2", "d", BASE.plusMonths(1), onShardC));
+
+        List<MonthlyCourseCountRecord> result = analyticsService.coursesPerMonth(null, null, null);
+
+        assertTrue(result.contains(new MonthlyCourseCountRecord(onShardB, YearMonth.from(BASE).toString(), 1)));
+        assertTrue(result.contains(new MonthlyCourseCountRecord(onShardC, YearMonth.from(BASE.plusMonths(1)).toString(), 2)));
+        assertEquals(ROWS + 3, result.stream().mapToInt(MonthlyCourseCountRecord::courses).sum());
+        assertEquals(2, countFor(onShardC));
+    }
+
+    @Test
+    @DisplayName("upcoming window counts courses inside the inclusive date range")
+    void testUpcoming() {
+        store.upsert(new CourseRecord(ROWS + 1, "New", "d", BASE.plusDays(800), 1));
+        store.upsert(new CourseRecord(ROWS + 2, "New", "d", BASE.plusDays(809), 1));
+        store.upsert(new CourseRecord(ROWS + 3, "New", "d", BASE.plusDays(810), 1));
+
+        assertEquals(2, analyticsService.upcomingCourses(BASE.plusDays(800), 10).courses());
+    }
+
+    @Test
+    @DisplayName("titles are grouped by topic through the dictionary, ignoring case, most frequent first")
+    void testCoursesPerTopic() {
+        store.upsert(new CourseRecord(ROWS + 1, "course #1", "d", BASE, 1));
+        store.upsert(new CourseRecord(ROWS + 2, "Java Basics 3 v2", "d", BASE, 1));
+
+        List<TopicCourseCountRecord> topics = analyticsService.coursesPerTopic(3);
+
+        assertEquals(List.of(new TopicCourseCountRecord("Course", ROWS + 1), new TopicCourseCountRecord("Java Basics", 1)),
+                topics);
+    }
+
+    @Test
+    @DisplayName("a topic is the title without trailing words that contain digits")
+    void testTopicOf() {
+        assertEquals("Java Basics", CourseColumnStore.topicOf("Java Basics #12"));
+        assertEquals("TECH", CourseColumnStore.topicOf(" TECH 300 "));
+        assertEquals("Java 17 Basics", CourseColumnStore.topicOf("Java 17 Basics"));
+        assertEquals("2024", CourseColumnStore.topicOf("2024"));
+    }
+
+    @Test
+    @DisplayName("wide bucket arrays get fewer scan tasks, so their partial arrays stay within the budget")
+    void testTaskCountBoundedByBuckets() {
+        assertEquals(32, CourseAnalyticsService.tasks(10_000_000, 1, 8));
+        assertEquals(4, CourseAnalyticsService.tasks(10_000_000, CourseAnalyticsService.MAX_BUCKETS, 64));
+        assertEquals(1, CourseAnalyticsService.tasks(1_000, 10, 8));
+        for (int buckets = 1; buckets <= CourseAnalyticsService.MAX_BUCKETS; buckets *= 4) {
+            long tasks = CourseAnalyticsService.tasks(50_000_000, buckets, 256);
+            assertTrue(tasks * buckets <= CourseAnalyticsService.MAX_TOTAL_BUCKETS || tasks == 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Sad path: a reversed range is rejected")
+    void testReversedRange() {
+        assertThrows(ResponseStatusException.class,
+                () -> analyticsService.coursesPerMonth(null, BASE.plusDays(1), BASE));
+    }
+
+    @Test
+    @DisplayName("writes made while a rebuild is loading survive the swap")
+    void testWritesDuringRebuild() {
+        CourseColumnStore.Builder builder = store.beginRebuild(1);
+        builder.add(1, 1, (int) BASE.toEpochDay(), "Old");
+        store.upsert(new CourseRecord(2, "Written meanwhile", "d", BASE, 2));
+        store.completeRebuild(builder);
+
+        assertEquals(2, store.liveRows());
+        assertEquals(1, analyticsService.coursesPerMonth(2, null, null).get(0).courses());
+    }
+}
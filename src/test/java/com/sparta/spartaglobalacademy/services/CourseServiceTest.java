@@ -1,15 +1,34 @@
 package com.sparta.spartaglobalacademy.services;
 
+import com.sparta.spartaglobalacademy.cache.CourseNearCache;
+import com.sparta.spartaglobalacademy.cache.InMemoryInvalidationTransport;
+import com.sparta.spartaglobalacademy.entities.ArchivedCourseEntity;
 import com.sparta.spartaglobalacademy.entities.CourseEntity;
 import com.sparta.spartaglobalacademy.entities.TrainerEntity;
+import com.sparta.spartaglobalacademy.events.CoursesCreatedEvent;
+import com.sparta.spartaglobalacademy.mapping.ParallelMapper;
+import com.sparta.spartaglobalacademy.records.CourseLookupRecord;
 import com.sparta.spartaglobalacademy.records.CourseMapper;
+import com.sparta.spartaglobalacademy.records.CoursePageRecord;
 import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.repositories.ArchivedCourseRepository;
 import com.sparta.spartaglobalacademy.repositories.CourseRepository;
+import com.sparta.spartaglobalacademy.repositories.TrainerRepository;
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
+import com.sparta.spartaglobalacademy.titles.CourseTitleFilter;
+import com.sparta.spartaglobalacademy.trainers.TrainerIdSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import org.springframework.web.server.ResponseStatusException;
 import java.util.Optional;
@@ -20,14 +39,27 @@ import static org.mockito.Mockito.*;
 class CourseServiceTest {
 
     private CourseRepository courseRepository;
+    private TrainerRepository trainerRepository;
+    private ArchivedCourseRepository archivedCourseRepository;
     private CourseService courseService;
     private CourseMapper courseMapper;
+    private ApplicationEventPublisher events;
 
     @BeforeEach
     void setUp() {
         courseRepository = mock(CourseRepository.class);
+        trainerRepository = mock(TrainerRepository.class);
+        archivedCourseRepository = mock(ArchivedCourseRepository.class);
         courseMapper = mock(CourseMapper.class);
-        courseService = new CourseService(courseRepository, courseMapper);
+        events = mock(ApplicationEventPublisher.class);
+        CourseNearCache nearCache = new CourseNearCache(
+                new InMemoryInvalidationTransport(), new SimpleMeterRegistry(), 100, Duration.ofMinutes(5));
+        // Not loaded yet, so every title is a possible match and goes to the repository
+        CourseTitleFilter titleFilter = new CourseTitleFilter(0.01, new SimpleMeterRegistry());
+        // Not loaded yet either, so every trainer ID is accepted
+        courseService = new CourseService(courseRepository, courseMapper, nearCache, events, titleFilter,
+                new TrainerIdSet(new SimpleMeterRegistry()), trainerRepository, archivedCourseRepository, ShardRouter.single(),
+                new ParallelMapper(1, Integer.MAX_VALUE), false);
     }
 
     //HAPPY Path - CREATE
@@ -148,6 +180,84 @@ class CourseServiceTest {
         assertEquals(1, result.trainerId());
     }
 
+    @Test
+    @DisplayName("getCourseById should serve repeat reads from the near-cache")
+    void testGetCourseByIdCached() {
+        TrainerEntity trainer = new TrainerEntity();
+        trainer.setId(1);
+
+        CourseEntity course = new CourseEntity();
+        course.setId(1);
+        course.setTitle("Java Basics");
+        course.setTrainer(trainer);
+
+        when(courseRepository.findById(1)).thenReturn(Optional.of(course));
+        when(courseMapper.toRecord(course)).thenReturn(
+                new CourseRecord(1, "Java Basics", "Intro to Java", LocalDate.now().plusDays(5), 1)
+        );
+
+        courseService.getCourseById(1);
+        CourseRecord result = courseService.getCourseById(1);
+
+        assertEquals("Java Basics", result.title());
+        verify(courseRepository, times(1)).findById(1);
+    }
+
+    @Test
+    @DisplayName("getCoursesByIds should keep request order, list missing IDs and skip cached courses")
+    void testGetCoursesByIds() {
+        CourseEntity first = new CourseEntity();
+        first.setId(1);
+        CourseEntity third = new CourseEntity();
+        third.setId(3);
+        CourseRecord firstRecord = new CourseRecord(1, "Java Basics", "Intro to Java", LocalDate.now().plusDays(5), 1);
+        CourseRecord thirdRecord = new CourseRecord(3, "Spring", "Intro to Spring", LocalDate.now().plusDays(5), 1);
+        when(courseRepository.findAllById(anyIterable())).thenReturn(List.of(first, third));
+        when(courseMapper.toRecord(first)).thenReturn(firstRecord);
+        when(courseMapper.toRecord(third)).thenReturn(thirdRecord);
+
+        CourseLookupRecord result = courseService.getCoursesByIds(List.of(3, 99, 1, 3));
+
+        assertEquals(List.of(thirdRecord, firstRecord), result.found());
+        assertEquals(List.of(99), result.missingIds());
+
+        // Both courses are now in the near-cache, so only the missing ID goes back to the database
+        when(courseRepository.findAllById(List.of(99))).thenReturn(List.of());
+        courseService.getCoursesByIds(List.of(1, 3, 99));
+        verify(courseRepository).findAllById(List.of(3, 99, 1));
+        verify(courseRepository).findAllById(List.of(99));
+    }
+
+    @Test
+    @DisplayName("getCoursesByIds should split large lookups into bounded IN queries")
+    void testGetCoursesByIdsChunks() {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 1; i <= CourseService.MAX_LOOKUP_IDS; i++) {
+            ids.add(i);
+        }
+        when(courseRepository.findAllById(anyIterable())).thenReturn(List.of());
+
+        CourseLookupRecord result = courseService.getCoursesByIds(ids);
+
+        assertEquals(ids, result.missingIds());
+        verify(courseRepository, times(CourseService.MAX_LOOKUP_IDS / CourseService.ID_LOOKUP_CHUNK))
+                .findAllById(anyIterable());
+    }
+
+    @Test
+    @DisplayName("getCoursesByIds should throw 400 for too many IDs")
+    void testGetCoursesByIdsTooMany() {
+        List<Integer> ids = new ArrayList<>();
+        for (int i = 0; i <= CourseService.MAX_LOOKUP_IDS; i++) {
+            ids.add(i + 1);
+        }
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> courseService.getCoursesByIds(ids));
+        assertEquals(400, ex.getStatusCode().value());
+        verify(courseRepository, never()).findAllById(anyIterable());
+    }
+
     // Sad Path getCourseby Id
     @Test
     @DisplayName("getCourseById should throw 404 if not found")
@@ -159,6 +269,238 @@ class CourseServiceTest {
         assertEquals(404, ex.getStatusCode().value());
     }
 
+    @Test
+    @DisplayName("getCourseById should not look in the archive unless asked to")
+    void testGetCourseByIdIgnoresArchiveByDefault() {
+        when(courseRepository.findById(1)).thenReturn(Optional.empty());
+
+        assertThrows(ResponseStatusException.class, () -> courseService.getCourseById(1, false));
+        verifyNoInteractions(archivedCourseRepository);
+    }
+
+    @Test
+    @DisplayName("getCourseById should fall back to the archive when includeArchived is set")
+    void testGetCourseByIdFromArchive() {
+        ArchivedCourseEntity archived = new ArchivedCourseEntity();
+        archived.setId(1);
+        CourseRecord record = new CourseRecord(1, "TECH 300", "C# Development Course", LocalDate.of(2023, 3, 1), 1);
+        when(courseRepository.findById(1)).thenReturn(Optional.empty());
+        when(archivedCourseRepository.findById(1)).thenReturn(Optional.of(archived));
+        when(courseMapper.toRecord(archived)).thenReturn(record);
+
+        assertEquals(record, courseService.getCourseById(1, true));
+    }
+
+    @Test
+    @DisplayName("getAllCourses should append archived courses only when includeArchived is set")
+    void testGetAllCoursesIncludeArchived() {
+        CourseEntity live = validCourse("Live");
+        ArchivedCourseEntity archived = new ArchivedCourseEntity();
+        CourseRecord liveRecord = new CourseRecord(6, "Live", "Desc", LocalDate.now().plusDays(1), 1);
+        CourseRecord archivedRecord = new CourseRecord(1, "TECH 300", "C# Development Course", LocalDate.of(2023, 3, 1), 1);
+        when(courseRepository.findAll()).thenReturn(List.of(live));
+        when(archivedCourseRepository.findAll()).thenReturn(List.of(archived));
+        when(courseMapper.toRecord(live)).thenReturn(liveRecord);
+        when(courseMapper.toRecord(archived)).thenReturn(archivedRecord);
+
+        assertEquals(List.of(liveRecord), courseService.getAllCourses(false));
+        assertEquals(List.of(liveRecord, archivedRecord), courseService.getAllCourses(true));
+        verify(archivedCourseRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("updateCourse should throw 409 when another course has the new title")
+    void testUpdateCourseDuplicateTitle() {
+        CourseEntity existing = validCourse("Old Title");
+        CourseEntity updated = validCourse("Taken Title");
+        when(courseRepository.findById(1)).thenReturn(Optional.of(existing));
+        when(courseRepository.existsByTitleKeyAndIdNot("taken title", 1)).thenReturn(true);
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> courseService.updateCourse(1, updated));
+        assertEquals(409, ex.getStatusCode().value());
+        verify(courseRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("updateCourse should not look the title up when only its case changes")
+    void testUpdateCourseSameTitle() {
+        CourseEntity existing = validCourse("Old Title");
+        CourseEntity updated = validCourse("OLD TITLE");
+        when(courseRepository.findById(1)).thenReturn(Optional.of(existing));
+        when(courseRepository.save(existing)).thenReturn(existing);
+
+        courseService.updateCourse(1, updated);
+
+        verify(courseRepository, never()).existsByTitleKeyAndIdNot(anyString(), anyInt());
+    }
+
+    // Sad path - Create
+    @Test
+    @DisplayName("createCourse should throw 409 if the title is already taken")
+    void testCreateCourseDuplicateTitle() {
+        CourseEntity course = validCourse("Java Basics");
+        when(courseRepository.existsByTitleKey("java basics")).thenReturn(true);
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> courseService.createCourse(course));
+        assertEquals(409, ex.getStatusCode().value());
+        verify(courseRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("createCourse should store the title stripped and check its normalised key")
+    void testCreateCourseStripsTitle() {
+        CourseEntity course = validCourse("  Java Basics ");
+        when(courseRepository.save(course)).thenReturn(course);
+
+        courseService.createCourse(course);
+
+        assertEquals("Java Basics", course.getTitle());
+        verify(courseRepository).existsByTitleKey("java basics");
+    }
+
+    @Test
+    @DisplayName("createCourse should throw 409 when a concurrent write takes the title first")
+    void testCreateCourseTitleKeyViolation() {
+        CourseEntity course = validCourse("Java Basics");
+        when(courseRepository.save(course)).thenThrow(new DataIntegrityViolationException("insert",
+                new RuntimeException("Duplicate entry 'java basics' for key 'courses.uq_course_title_key'")));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> courseService.createCourse(course));
+        assertEquals(409, ex.getStatusCode().value());
+    }
+
+    @Test
+    @DisplayName("updateCourse should rethrow integrity violations that are not about the title")
+    void testUpdateCourseOtherViolation() {
+        CourseEntity existing = validCourse("Old Title");
+        when(courseRepository.findById(1)).thenReturn(Optional.of(existing));
+        doThrow(new DataIntegrityViolationException("fk_courses_trainer")).when(courseRepository).flush();
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> courseService.updateCourse(1, validCourse("New Title")));
+    }
+
+    @Test
+    @DisplayName("createCourses should throw 400 for an unknown trainer, confirmed by one lookup, before any course query")
+    void testCreateCoursesUnknownTrainer() {
+        TrainerIdSet trainerIds = mock(TrainerIdSet.class);
+        when(trainerIds.mightExist(1)).thenReturn(true);
+        CourseService service = new CourseService(courseRepository, courseMapper,
+                new CourseNearCache(new InMemoryInvalidationTransport(), new SimpleMeterRegistry(), 100, Duration.ofMinutes(5)),
+                events, new CourseTitleFilter(0.01, new SimpleMeterRegistry()), trainerIds, trainerRepository, archivedCourseRepository, ShardRouter.single(),
+                new ParallelMapper(1, Integer.MAX_VALUE), false);
+        CourseEntity badTrainer = validCourse("Spring Basics");
+        badTrainer.getTrainer().setId(99);
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> service.createCourses(List.of(validCourse("Java Basics"), badTrainer)));
+        assertEquals(400, ex.getStatusCode().value());
+        assertEquals("Trainer not found with ID: 99", ex.getReason());
+        verify(trainerRepository).existsById(99);
+        verifyNoInteractions(courseRepository);
+    }
+
+    @Test
+    @DisplayName("createCourse should accept a trainer this node has not seen yet once the database confirms it")
+    void testCreateCourseTrainerFromAnotherNode() {
+        TrainerIdSet trainerIds = mock(TrainerIdSet.class);
+        CourseService service = new CourseService(courseRepository, courseMapper,
+                new CourseNearCache(new InMemoryInvalidationTransport(), new SimpleMeterRegistry(), 100, Duration.ofMinutes(5)),
+                events, new CourseTitleFilter(0.01, new SimpleMeterRegistry()), trainerIds, trainerRepository, archivedCourseRepository, ShardRouter.single(),
+                new ParallelMapper(1, Integer.MAX_VALUE), false);
+        CourseEntity course = validCourse("Java Basics");
+        when(trainerRepository.existsById(1)).thenReturn(true);
+        when(courseRepository.save(course)).thenReturn(course);
+
+        service.createCourse(course);
+
+        verify(trainerIds).add(1);
+        verify(courseRepository).save(course);
+    }
+
+    @Test
+    @DisplayName("on a partitioned table course writes lock each named trainer once instead of trusting the in-memory set")
+    void testPartitionedLocksTrainers() {
+        TrainerIdSet trainerIds = mock(TrainerIdSet.class);
+        CourseService service = new CourseService(courseRepository, courseMapper,
+                new CourseNearCache(new InMemoryInvalidationTransport(), new SimpleMeterRegistry(), 100, Duration.ofMinutes(5)),
+                events, new CourseTitleFilter(0.01, new SimpleMeterRegistry()), trainerIds, trainerRepository, archivedCourseRepository, ShardRouter.single(),
+                new ParallelMapper(1, Integer.MAX_VALUE), true);
+        List<CourseEntity> courses = List.of(validCourse("Java Basics"), validCourse("Spring Basics"));
+        when(trainerRepository.lockForShare(1)).thenReturn(Optional.of(1));
+        when(courseRepository.findExistingTitleKeys(anyCollection())).thenReturn(List.of());
+        when(courseRepository.saveAll(courses)).thenReturn(courses);
+
+        service.createCourses(courses);
+
+        verify(trainerRepository, times(1)).lockForShare(1);
+        verifyNoInteractions(trainerIds);
+    }
+
+    @Test
+    @DisplayName("Sad path: on a partitioned table a trainer the locking read cannot find is rejected with 400")
+    void testPartitionedMissingTrainer() {
+        CourseService service = new CourseService(courseRepository, courseMapper,
+                new CourseNearCache(new InMemoryInvalidationTransport(), new SimpleMeterRegistry(), 100, Duration.ofMinutes(5)),
+                events, new CourseTitleFilter(0.01, new SimpleMeterRegistry()), new TrainerIdSet(new SimpleMeterRegistry()),
+                trainerRepository, archivedCourseRepository, ShardRouter.single(), new ParallelMapper(1, Integer.MAX_VALUE), true);
+        when(trainerRepository.lockForShare(1)).thenReturn(Optional.empty());
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> service.createCourse(validCourse("Java Basics")));
+        assertEquals(400, ex.getStatusCode().value());
+        verify(courseRepository, never()).save(any());
+    }
+
+    //  Happy Path - CREATE MANY
+
+    @Test
+    @DisplayName("createCourses should look titles up in bounded chunks and publish one event for the batch")
+    void testCreateCoursesChunksTitleLookup() {
+        List<CourseEntity> courses = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            courses.add(validCourse("Course " + i));
+        }
+        when(courseRepository.findExistingTitleKeys(anyCollection())).thenReturn(List.of());
+        when(courseRepository.saveAll(courses)).thenReturn(courses);
+
+        List<CourseRecord> created = courseService.createCourses(courses);
+
+        assertEquals(2500, created.size());
+        verify(courseRepository, times(3)).findExistingTitleKeys(anyCollection());
+        verify(courseRepository, never()).existsByTitleKey(anyString());
+        verify(courseRepository, times(1)).flush();
+        verify(events, times(1)).publishEvent(any(CoursesCreatedEvent.class));
+    }
+
+    // Sad path - Create many
+    @Test
+    @DisplayName("createCourses should throw 409 when the batch repeats a title, ignoring case")
+    void testCreateCoursesDuplicateWithinBatch() {
+        List<CourseEntity> courses = List.of(validCourse("Java Basics"), validCourse(" JAVA basics"));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> courseService.createCourses(courses));
+        assertEquals(409, ex.getStatusCode().value());
+        verify(courseRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("createCourses should throw 409 when a title is already stored")
+    void testCreateCoursesDuplicateStored() {
+        List<CourseEntity> courses = List.of(validCourse("Java Basics"), validCourse("Spring Basics"));
+        when(courseRepository.findExistingTitleKeys(anyCollection())).thenReturn(List.of("spring basics"));
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> courseService.createCourses(courses));
+        assertEquals(409, ex.getStatusCode().value());
+        assertTrue(ex.getReason().contains("spring basics"));
+        verify(courseRepository, never()).saveAll(any());
+    }
+
     //  Happy Path - UPDATE
 
     @Test
@@ -214,6 +556,49 @@ class CourseServiceTest {
     }
 
 
+    @Test
+    @DisplayName("getCoursePage should return the next page after the cursor with a cursor for the one after")
+    void testGetCoursePage() {
+        CourseEntity first = validCourse("First");
+        first.setId(6);
+        CourseEntity second = validCourse("Second");
+        second.setId(7);
+        CourseRecord firstRecord = new CourseRecord(6, "First", "Description", first.getEnrollDate(), 1);
+        CourseRecord secondRecord = new CourseRecord(7, "Second", "Description", second.getEnrollDate(), 1);
+        when(courseRepository.findByIdGreaterThanOrderByIdAsc(5, Limit.of(2))).thenReturn(List.of(first, second));
+        when(courseMapper.toRecord(first)).thenReturn(firstRecord);
+        when(courseMapper.toRecord(second)).thenReturn(secondRecord);
+
+        CoursePageRecord page = courseService.getCoursePage(5, 2);
+
+        assertEquals(List.of(firstRecord, secondRecord), page.courses());
+        assertEquals(7, page.nextAfter());
+    }
+
+    @Test
+    @DisplayName("getCoursePage should end with a null cursor when the page is not full")
+    void testGetCoursePageLast() {
+        when(courseRepository.findByIdGreaterThanOrderByIdAsc(0, Limit.of(20))).thenReturn(List.of());
+
+        CoursePageRecord page = courseService.getCoursePage(null, 20);
+
+        assertTrue(page.courses().isEmpty());
+        assertNull(page.nextAfter());
+    }
+
+    // Sad path - pages
+    @Test
+    @DisplayName("getCoursePage and searchCourses should reject page sizes outside 1..100 and empty search text")
+    void testCoursePageInvalidArguments() {
+        assertEquals(400, assertThrows(ResponseStatusException.class,
+                () -> courseService.getCoursePage(0, 0)).getStatusCode().value());
+        assertEquals(400, assertThrows(ResponseStatusException.class,
+                () -> courseService.getCoursePage(0, 101)).getStatusCode().value());
+        assertEquals(400, assertThrows(ResponseStatusException.class,
+                () -> courseService.searchCourses(" ", 0, 20)).getStatusCode().value());
+        verifyNoInteractions(courseRepository);
+    }
+
     //  Happy Path - DELETE
 
     @Test
@@ -239,4 +624,15 @@ class CourseServiceTest {
         assertFalse(result);
         verify(courseRepository, never()).deleteById(anyInt());
     }
+
+    private static CourseEntity validCourse(String title) {
+        TrainerEntity trainer = new TrainerEntity();
+        trainer.setId(1);
+        CourseEntity course = new CourseEntity();
+        course.setTitle(title);
+        course.setDescription("Description");
+        course.setEnrollDate(LocalDate.now().plusDays(5));
+        course.setTrainer(trainer);
+        return course;
+    }
 }
@@ -0,0 +1,120 @@
+package com.sparta.spartaglobalacademy.services;
+
+import com.sparta.spartaglobalacademy.records.IndexUsageRecord;
+import com.sparta.spartaglobalacademy.records.SlowStatementRecord;
+import com.sparta.spartaglobalacademy.records.TableStatsRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DbDiagnosticsServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private DbDiagnosticsService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        service = new DbDiagnosticsService(jdbcTemplate, Duration.ofMinutes(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenIndexUsage(List<IndexUsageRecord> rows) {
+        when(jdbcTemplate.query(eq(DbDiagnosticsService.INDEX_USAGE_SQL), any(RowMapper.class))).thenReturn(rows);
+    }
+
+    private static IndexUsageRecord usage(String index, long fetched) {
+        return new IndexUsageRecord("courses", index, fetched, 0, 0, 0, fetched / 10.0);
+    }
+
+    @Test
+    @DisplayName("getTableStats queries information_schema once per TTL")
+    @SuppressWarnings("unchecked")
+    void testTableStatsCached() {
+        List<TableStatsRecord> stats = List.of(new TableStatsRecord("courses", 5, 16384, 65536, 0));
+        when(jdbcTemplate.query(eq(DbDiagnosticsService.TABLE_STATS_SQL), any(RowMapper.class))).thenReturn(stats);
+
+        assertEquals(stats, service.getTableStats());
+        assertEquals(stats, service.getTableStats());
+        verify(jdbcTemplate, times(1)).query(eq(DbDiagnosticsService.TABLE_STATS_SQL), any(RowMapper.class));
+    }
+
+    @Test
+    @DisplayName("a zero TTL re-queries on every call")
+    @SuppressWarnings("unchecked")
+    void testZeroTtlReloads() {
+        DbDiagnosticsService uncached = new DbDiagnosticsService(jdbcTemplate, Duration.ZERO);
+        givenIndexUsage(List.of(usage("PRIMARY", 10)));
+
+        uncached.getIndexUsage();
+        uncached.getIndexUsage();
+        verify(jdbcTemplate, times(2)).query(eq(DbDiagnosticsService.INDEX_USAGE_SQL), any(RowMapper.class));
+    }
+
+    @Test
+    @DisplayName("getUnusedIndexes lists only untouched secondary indexes, from the cached index usage")
+    @SuppressWarnings("unchecked")
+    void testUnusedIndexes() {
+        IndexUsageRecord unused = usage("idx_course_title", 0);
+        givenIndexUsage(List.of(usage("PRIMARY", 0), usage(null, 500), usage("idx_course_trainer", 42), unused));
+
+        assertEquals(List.of(unused), service.getUnusedIndexes());
+        assertEquals(4, service.getIndexUsage().size());
+        verify(jdbcTemplate, times(1)).query(eq(DbDiagnosticsService.INDEX_USAGE_SQL), any(RowMapper.class));
+    }
+
+    @Test
+    @DisplayName("getSlowStatements serves every limit from one cached top list")
+    @SuppressWarnings("unchecked")
+    void testSlowStatementsLimit() {
+        List<SlowStatementRecord> top = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            top.add(new SlowStatementRecord("d" + i, "SELECT ?", 1, 10 - i, 10 - i, 10 - i, 1, 1, 0));
+        }
+        when(jdbcTemplate.query(eq(DbDiagnosticsService.SLOW_STATEMENTS_SQL), any(RowMapper.class),
+                eq(DbDiagnosticsService.MAX_SLOW_STATEMENTS))).thenReturn(top);
+
+        assertEquals(top.subList(0, 2), service.getSlowStatements(2));
+        assertEquals(top, service.getSlowStatements(50));
+        verify(jdbcTemplate, times(1)).query(eq(DbDiagnosticsService.SLOW_STATEMENTS_SQL), any(RowMapper.class),
+                eq(DbDiagnosticsService.MAX_SLOW_STATEMENTS));
+    }
+
+    // Sad path - limit out of range
+    @Test
+    @DisplayName("getSlowStatements should throw 400 for a limit outside 1..MAX")
+    void testSlowStatementsBadLimit() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> service.getSlowStatements(0));
+        assertEquals(400, ex.getStatusCode().value());
+        assertThrows(ResponseStatusException.class,
+                () -> service.getSlowStatements(DbDiagnosticsService.MAX_SLOW_STATEMENTS + 1));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    // Sad path - performance_schema unavailable
+    @Test
+    @DisplayName("getIndexUsage should throw 503 when performance_schema cannot be read, and retry next time")
+    @SuppressWarnings("unchecked")
+    void testUnavailableNotCached() {
+        when(jdbcTemplate.query(eq(DbDiagnosticsService.INDEX_USAGE_SQL), any(RowMapper.class)))
+                .thenThrow(new DataAccessResourceFailureException("SELECT command denied"))
+                .thenReturn(List.of());
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> service.getIndexUsage());
+        assertEquals(503, ex.getStatusCode().value());
+        assertEquals(List.of(), service.getIndexUsage());
+    }
+}
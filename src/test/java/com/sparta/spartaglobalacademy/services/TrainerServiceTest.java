@@ -1,22 +1,32 @@
 package com.sparta.spartaglobalacademy.services;
 
 import com.sparta.spartaglobalacademy.entities.TrainerEntity;
+import com.sparta.spartaglobalacademy.events.ChangeType;
+import com.sparta.spartaglobalacademy.events.TrainerChangedEvent;
+import com.sparta.spartaglobalacademy.mapping.ParallelMapper;
+import com.sparta.spartaglobalacademy.records.TrainerLookupRecord;
 import com.sparta.spartaglobalacademy.records.TrainerRecord;
 import com.sparta.spartaglobalacademy.records.TrainerMapper;
 import com.sparta.spartaglobalacademy.repositories.TrainerRepository;
+import com.sparta.spartaglobalacademy.sharding.ShardRouter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 import java.util.Optional;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,6 +39,15 @@ class TrainerServiceTest {
     @Mock
     private TrainerMapper trainerMapper;
 
+    @Mock
+    private ApplicationEventPublisher events;
+
+    @Spy
+    private ShardRouter shards = ShardRouter.single();
+
+    @Spy
+    private ParallelMapper parallelMapper = new ParallelMapper(1, Integer.MAX_VALUE);
+
     @InjectMocks
     private TrainerService trainerService;
 
@@ -140,6 +159,7 @@ void getTrainerByIdThrowsExceptionIfNotExists() {
         assertThat(result).isNotNull();
         assertThat(result.id()).isEqualTo(1);
         assertThat(result.fullName()).isEqualTo("Alice Smith");
+        verify(events).publishEvent(new TrainerChangedEvent(ChangeType.CREATED, 1, trainerRecord));
     }
     // Sad Path - CreateTrainer should throw if entity is null
     @Test
@@ -189,7 +209,7 @@ void getTrainerByIdThrowsExceptionIfNotExists() {
         // Arrange
         Integer trainerId = 1;
 
-        when(mockTrainerRepository.existsById(trainerId)).thenReturn(true);
+        when(mockTrainerRepository.lockForUpdate(trainerId)).thenReturn(java.util.Optional.of(trainerId));
 
         // Act
         trainerService.deleteTrainerById(trainerId);
@@ -220,11 +240,57 @@ void getTrainerByIdThrowsExceptionIfNotExists() {
         // Arrange
         Integer trainerId = 99;
 
-        when(mockTrainerRepository.existsById(trainerId)).thenReturn(false);
+        when(mockTrainerRepository.lockForUpdate(trainerId)).thenReturn(java.util.Optional.empty());
 
         // The service method returns false when trainer doesn't exist, it doesn't throw
         boolean result = trainerService.deleteTrainerById(trainerId);
         
         assertThat(result).isFalse();
     }
+
+    // Sad path - Delete trainer that still has courses
+    @Test
+    @DisplayName("deleteTrainerById should return 409 when the trainer still has courses")
+    void deleteTrainerByIdConflictsWhenCoursesRemain() {
+        when(mockTrainerRepository.lockForUpdate(1)).thenReturn(java.util.Optional.of(1));
+        when(mockTrainerRepository.hasCourses(1)).thenReturn(true);
+
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> trainerService.deleteTrainerById(1));
+
+        assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        verify(mockTrainerRepository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("getTrainersByIds returns trainers in request order and lists missing IDs")
+    void testGetTrainersByIds() {
+        // Arrange
+        TrainerEntity phil = new TrainerEntity();
+        phil.setId(1);
+        TrainerEntity nish = new TrainerEntity();
+        nish.setId(3);
+        TrainerRecord philRecord = new TrainerRecord(1, "Phil Windridge");
+        TrainerRecord nishRecord = new TrainerRecord(3, "Nish Mandal");
+
+        when(mockTrainerRepository.findAllById(List.of(3, 42, 1))).thenReturn(List.of(phil, nish));
+        when(trainerMapper.toRecord(phil)).thenReturn(philRecord);
+        when(trainerMapper.toRecord(nish)).thenReturn(nishRecord);
+
+        // Act
+        TrainerLookupRecord result = trainerService.getTrainersByIds(List.of(3, 42, 1, 42));
+
+        // Assert
+        assertThat(result.found()).containsExactly(nishRecord, philRecord);
+        assertThat(result.missingIds()).containsExactly(42);
+    }
+
+    @Test
+    @DisplayName("getTrainersByIds should throw 400 when no IDs are given")
+    void testGetTrainersByIdsEmpty() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+                () -> trainerService.getTrainersByIds(List.of()));
+
+        assertThat(ex.getStatusCode().value()).isEqualTo(400);
+    }
 }
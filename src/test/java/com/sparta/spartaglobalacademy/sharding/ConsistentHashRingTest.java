@@ -0,0 +1,68 @@
+package com.sparta.spartaglobalacademy.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 20_000;
+
+    @Test
+    @DisplayName("keys spread over shards in proportion to their weights")
+    void testWeightedSpread() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b", "c"), List.of(1, 1, 2), 64);
+
+        int[] counts = new int[3];
+        for (int i = 0; i < KEYS; i++) {
+            counts[ring.shardFor("Trainer " + i)]++;
+        }
+
+        assertEquals(0.25, counts[0] / (double) KEYS, 0.05);
+        assertEquals(0.25, counts[1] / (double) KEYS, 0.05);
+        assertEquals(0.50, counts[2] / (double) KEYS, 0.05);
+    }
+
+    @Test
+    @DisplayName("adding a shard only moves keys onto the new shard")
+    void testAddingShardMovesFewKeys() {
+        ConsistentHashRing before = new ConsistentHashRing(List.of("a", "b", "c"), List.of(1, 1, 1), 64);
+        ConsistentHashRing after = new ConsistentHashRing(List.of("a", "b", "c", "d"), List.of(1, 1, 1, 1), 64);
+
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String key = "Trainer " + i;
+            int from = before.shardFor(key);
+            int to = after.shardFor(key);
+            if (from != to) {
+                assertEquals(3, to, "a key may only move to the new shard");
+                moved++;
+            }
+        }
+        assertEquals(0.25, moved / (double) KEYS, 0.05);
+    }
+
+    @Test
+    @DisplayName("placement depends on shard names, not the order they are listed in")
+    void testOrderIndependent() {
+        ConsistentHashRing ring = new ConsistentHashRing(List.of("a", "b"), List.of(1, 1), 64);
+        ConsistentHashRing reversed = new ConsistentHashRing(List.of("b", "a"), List.of(1, 1), 64);
+
+        for (int i = 0; i < 1000; i++) {
+            String key = "Trainer " + i;
+            assertEquals(ring.shardFor(key), 1 - reversed.shardFor(key));
+        }
+    }
+
+    // Sad path
+    @Test
+    @DisplayName("Sad path: mismatched names and weights or a zero weight are rejected")
+    void testInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(List.of("a"), List.of(1, 2), 64));
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(List.of("a"), List.of(0), 64));
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(List.of(), List.of(), 64));
+    }
+}
@@ -0,0 +1,21 @@
+package com.sparta.spartaglobalacademy.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetMergeTest {
+
+    @Test
+    @DisplayName("sorted runs are merged in key order up to the limit")
+    void testMerge() {
+        List<List<Integer>> runs = List.of(List.of(1, 4, 9), List.of(), List.of(2, 3, 10, 11), List.of(5));
+
+        assertEquals(List.of(1, 2, 3, 4, 5), KeysetMerge.merge(runs, Integer::intValue, 5));
+        assertEquals(List.of(1, 2, 3, 4, 5, 9, 10, 11), KeysetMerge.merge(runs, Integer::intValue, 100));
+        assertTrue(KeysetMerge.merge(List.of(List.<Integer>of()), Integer::intValue, 5).isEmpty());
+    }
+}
@@ -0,0 +1,126 @@
+package com.sparta.spartaglobalacademy.sharding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardRouterTest {
+
+    private ShardRouter shards;
+
+    @BeforeEach
+    void setUp() {
+        List<String> names = List.of("one", "two", "three");
+        shards = new ShardRouter(names, new ConsistentHashRing(names, List.of(1, 1, 1), 16), 1000, 3,
+                Duration.ofMillis(500));
+    }
+
+    @AfterEach
+    void tearDown() {
+        shards.close();
+    }
+
+    @Test
+    @DisplayName("an id names the shard whose block it falls in; ids past the last block go to the default shard")
+    void testShardOfId() {
+        assertEquals(0, shards.shardOfId(1));
+        assertEquals(0, shards.shardOfId(1000));
+        assertEquals(1, shards.shardOfId(1001));
+        assertEquals(2, shards.shardOfId(3000));
+        assertEquals(ShardRouter.DEFAULT_SHARD, shards.shardOfId(3001));
+        assertEquals(Map.of(0, List.of(5, 7), 2, List.of(2500)), shards.groupByShard(List.of(5, 2500, 7)));
+    }
+
+    @Test
+    @DisplayName("scatter runs every shard in parallel with its shard selected and keeps shard order")
+    void testScatter() {
+        CountDownLatch allStarted = new CountDownLatch(3);
+        List<String> results = shards.scatter(shard -> {
+            allStarted.countDown();
+            try {
+                assertTrue(allStarted.await(1, TimeUnit.SECONDS), "shards should run at the same time");
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return shard + ":" + ShardContext.current();
+        });
+
+        assertEquals(List.of("0:0", "1:1", "2:2"), results);
+        assertNull(ShardContext.current());
+    }
+
+    @Test
+    @DisplayName("scatterFromTransaction queries the caller's shard on the calling thread and only the others on the pool")
+    void testScatterFromTransaction() {
+        Thread caller = Thread.currentThread();
+        List<String> results = shards.on(1, () -> shards.scatterFromTransaction(shard ->
+                shard + ":" + ShardContext.current() + ":" + (Thread.currentThread() == caller ? "caller" : "pool")));
+
+        assertEquals(List.of("1:1:caller", "0:0:pool", "2:2:pool"), results);
+        assertNull(ShardContext.current());
+    }
+
+    @Test
+    @DisplayName("on() selects the shard for the call and restores the previous one")
+    void testOnNests() {
+        Integer inner = shards.on(1, () -> shards.on(2, ShardContext::current));
+
+        assertEquals(2, inner);
+        assertEquals(1, shards.on(1, () -> {
+            shards.on(2, ShardContext::current);
+            return ShardContext.current();
+        }));
+        assertNull(ShardContext.current());
+    }
+
+    @Test
+    @DisplayName("with sharding disabled everything runs inline against a single shard")
+    void testSingle() {
+        try (ShardRouter single = ShardRouter.single()) {
+            assertFalse(single.isSharded());
+            assertEquals(0, single.shardOfId(Integer.MAX_VALUE));
+            assertEquals(List.of("same thread"), single.scatter(shard ->
+                    Thread.currentThread().getName().startsWith("shard-") ? "pool" : "same thread"));
+        }
+    }
+
+    // Sad path
+    @Test
+    @DisplayName("Sad path: a shard slower than the scatter timeout fails the call with 503")
+    void testScatterTimeout() {
+        ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> shards.scatter(shard -> {
+            if (shard == 1) {
+                try {
+                    Thread.sleep(5_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return shard;
+        }));
+        assertEquals(503, ex.getStatusCode().value());
+        assertTrue(ex.getReason().contains("two"));
+    }
+
+    @Test
+    @DisplayName("Sad path: a failing shard's exception reaches the caller")
+    void testScatterFailure() {
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> shards.scatter(shard -> {
+            if (shard == 2) {
+                throw new IllegalStateException("shard down");
+            }
+            return shard;
+        }));
+        assertEquals("shard down", ex.getMessage());
+    }
+}
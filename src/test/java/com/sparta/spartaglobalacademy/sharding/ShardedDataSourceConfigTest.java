@@ -0,0 +1,25 @@
+package com.sparta.spartaglobalacademy.sharding;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardedDataSourceConfigTest {
+
+    @Test
+    @DisplayName("Sad path: sharding refuses to start while open-in-view is on")
+    void testOpenInViewRejected() {
+        ShardingProperties properties = new ShardingProperties(true,
+                List.of(new ShardingProperties.Shard("a", "jdbc:h2:mem:a", "sa", "", 1)),
+                1000, 64, 1, Duration.ofSeconds(2));
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+                () -> new ShardedDataSourceConfig().dataSource(properties, new SimpleMeterRegistry(), true));
+        assertTrue(ex.getMessage().contains("spring.jpa.open-in-view=false"));
+    }
+}
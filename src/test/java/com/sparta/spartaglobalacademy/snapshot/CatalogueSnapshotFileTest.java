@@ -0,0 +1,85 @@
+package com.sparta.spartaglobalacademy.snapshot;
+
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import com.sparta.spartaglobalacademy.records.TrainerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogueSnapshotFileTest {
+
+    private static final Instant TAKEN_AT = Instant.parse("2025-06-02T10:15:30Z");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("rows written are read back unchanged, including multi-byte text")
+    void testRoundTrip() throws IOException {
+        Path file = dir.resolve("catalogue.snapshot");
+        try (CatalogueSnapshotFile.Writer writer = CatalogueSnapshotFile.write(file, TAKEN_AT)) {
+            writer.addTrainer(1, "Phil Windridge");
+            writer.addTrainer(2, "Zoë Ødegaard");
+            writer.addCourse(1, 1, LocalDate.of(2023, 3, 1), "TECH 300", "C# Development Course");
+            writer.addCourse(7, 2, LocalDate.of(2026, 1, 15), "DATA 401", "Ünïcödé – description".repeat(500));
+            writer.commit();
+        }
+
+        CatalogueSnapshot snapshot = CatalogueSnapshotFile.read(file);
+
+        assertEquals(TAKEN_AT, snapshot.takenAt());
+        assertEquals(List.of(new TrainerRecord(1, "Phil Windridge"), new TrainerRecord(2, "Zoë Ødegaard")),
+                snapshot.trainers());
+        assertEquals(List.of(
+                new CourseRecord(1, "TECH 300", "C# Development Course", LocalDate.of(2023, 3, 1), 1),
+                new CourseRecord(7, "DATA 401", "Ünïcödé – description".repeat(500), LocalDate.of(2026, 1, 15), 2)),
+                snapshot.courses());
+    }
+
+    @Test
+    @DisplayName("a writer closed without commit leaves the previous snapshot in place")
+    void testUncommittedWriteKeepsPrevious() throws IOException {
+        Path file = dir.resolve("catalogue.snapshot");
+        try (CatalogueSnapshotFile.Writer writer = CatalogueSnapshotFile.write(file, TAKEN_AT)) {
+            writer.addTrainer(1, "Phil Windridge");
+            writer.commit();
+        }
+        try (CatalogueSnapshotFile.Writer writer = CatalogueSnapshotFile.write(file, TAKEN_AT.plusSeconds(60))) {
+            writer.addTrainer(2, "Catherine French");
+        }
+
+        assertEquals(List.of(new TrainerRecord(1, "Phil Windridge")), CatalogueSnapshotFile.read(file).trainers());
+        try (var files = Files.list(dir)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Sad path: a corrupted or truncated file is rejected")
+    void testCorruptFileRejected() throws IOException {
+        Path file = dir.resolve("catalogue.snapshot");
+        try (CatalogueSnapshotFile.Writer writer = CatalogueSnapshotFile.write(file, TAKEN_AT)) {
+            writer.addCourse(1, 1, LocalDate.of(2023, 3, 1), "TECH 300", "C# Development Course");
+            writer.commit();
+        }
+        byte[] bytes = Files.readAllBytes(file);
+
+        bytes[20] ^= 0x01;
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> CatalogueSnapshotFile.read(file));
+
+        bytes[20] ^= 0x01;
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 5));
+        assertThrows(IOException.class, () -> CatalogueSnapshotFile.read(file));
+    }
+}
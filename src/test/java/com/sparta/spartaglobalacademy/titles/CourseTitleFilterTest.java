@@ -0,0 +1,88 @@
+package com.sparta.spartaglobalacademy.titles;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CourseTitleFilterTest {
+
+    private CourseTitleFilter titleFilter;
+
+    @BeforeEach
+    void setUp() {
+        titleFilter = new CourseTitleFilter(0.01, new SimpleMeterRegistry());
+    }
+
+    private void load(String... titles) {
+        BloomFilter rebuilt = titleFilter.beginRebuild(titles.length);
+        for (String title : titles) {
+            rebuilt.add(CourseTitleFilter.normalize(title));
+        }
+        titleFilter.completeRebuild(rebuilt);
+    }
+
+    @Test
+    @DisplayName("every title is a possible match until the first load")
+    void testUnloaded() {
+        assertFalse(titleFilter.isLoaded());
+        assertTrue(titleFilter.mightExist("Anything"));
+    }
+
+    @Test
+    @DisplayName("loaded and added titles match regardless of case and surrounding spaces")
+    void testMatches() {
+        load("TECH 300", "Data 304");
+        titleFilter.add("Java Basics");
+
+        assertTrue(titleFilter.mightExist("tech 300"));
+        assertTrue(titleFilter.mightExist("  DATA 304 "));
+        assertTrue(titleFilter.mightExist("JAVA BASICS"));
+        assertFalse(titleFilter.mightExist("TECH 999"));
+    }
+
+    @Test
+    @DisplayName("false positives stay near the configured rate")
+    void testFalsePositiveRate() {
+        String[] titles = new String[10_000];
+        for (int i = 0; i < titles.length; i++) {
+            titles[i] = "Course " + i;
+        }
+        load(titles);
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (titleFilter.mightExist("Other " + i)) {
+                falsePositives++;
+            }
+        }
+        // Sized with headroom, so the observed rate sits well under 1%
+        assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("titles committed during a rebuild are carried into the new filter")
+    void testAddDuringRebuild() {
+        load("TECH 300");
+        BloomFilter rebuilt = titleFilter.beginRebuild(1);
+        titleFilter.add("Java Basics");
+        rebuilt.add(CourseTitleFilter.normalize("TECH 300"));
+        titleFilter.completeRebuild(rebuilt);
+
+        assertTrue(titleFilter.mightExist("java basics"));
+        assertTrue(titleFilter.mightExist("tech 300"));
+    }
+
+    @Test
+    @DisplayName("Sad path: an aborted rebuild keeps the previous filter")
+    void testAbortRebuild() {
+        load("TECH 300");
+        titleFilter.beginRebuild(1);
+        titleFilter.abortRebuild();
+
+        assertTrue(titleFilter.mightExist("TECH 300"));
+        assertFalse(titleFilter.mightExist("TECH 999"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.sparta.spartaglobalacademy.trainers;
+
+import com.sparta.spartaglobalacademy.collections.IntHashSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrainerIdSetTest {
+
+    private TrainerIdSet trainerIds;
+
+    @BeforeEach
+    void setUp() {
+        trainerIds = new TrainerIdSet(new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("every trainer ID is accepted until the first load")
+    void testUnloaded() {
+        assertFalse(trainerIds.isLoaded());
+        assertTrue(trainerIds.mightExist(42));
+    }
+
+    @Test
+    @DisplayName("loaded, added and removed IDs are reflected immediately")
+    void testWrites() {
+        trainerIds.beginRebuild();
+        trainerIds.completeRebuild(IntHashSet.of(1, 2, 3));
+
+        trainerIds.add(6);
+        trainerIds.remove(2);
+
+        assertTrue(trainerIds.mightExist(1));
+        assertTrue(trainerIds.mightExist(6));
+        assertFalse(trainerIds.mightExist(2));
+        assertFalse(trainerIds.mightExist(99));
+        assertEquals(3, trainerIds.size());
+    }
+
+    @Test
+    @DisplayName("writes made while a reload reads the table are replayed onto the new snapshot")
+    void testWritesDuringRebuild() {
+        trainerIds.beginRebuild();
+        trainerIds.completeRebuild(IntHashSet.of(1, 2));
+
+        trainerIds.beginRebuild();
+        // The snapshot below was read before trainer 7 was created and before trainer 1 was deleted
+        trainerIds.add(7);
+        trainerIds.remove(1);
+        trainerIds.completeRebuild(IntHashSet.of(1, 2));
+
+        assertTrue(trainerIds.mightExist(7));
+        assertFalse(trainerIds.mightExist(1));
+        assertTrue(trainerIds.mightExist(2));
+    }
+}
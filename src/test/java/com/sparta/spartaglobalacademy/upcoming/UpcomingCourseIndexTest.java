@@ -0,0 +1,110 @@
+package com.sparta.spartaglobalacademy.upcoming;
+
+import com.sparta.spartaglobalacademy.records.CourseRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpcomingCourseIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 2);
+
+    private UpcomingCourseIndex index;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        index = new UpcomingCourseIndex(7, clock);
+    }
+
+    private static CourseRecord course(int id, int daysFromToday, int trainerId) {
+        return new CourseRecord(id, "Course " + id, "desc", TODAY.plusDays(daysFromToday), trainerId);
+    }
+
+    private static List<Integer> ids(List<CourseRecord> courses) {
+        return courses.stream().map(CourseRecord::id).toList();
+    }
+
+    @Test
+    @DisplayName("range queries return courses in date then id order, inclusive of both ends")
+    void testBetween() {
+        index.upsert(course(3, 2, 1));
+        index.upsert(course(1, 2, 1));
+        index.upsert(course(2, 0, 2));
+        index.upsert(course(4, 7, 1));
+
+        assertEquals(List.of(2, 1, 3), ids(index.between(TODAY, TODAY.plusDays(6), null, 100)));
+        assertEquals(List.of(1, 3, 4), ids(index.between(TODAY.plusDays(2), TODAY.plusDays(7), 1, 100)));
+        assertEquals(List.of(2), ids(index.between(TODAY, TODAY.plusDays(7), null, 1)));
+    }
+
+    @Test
+    @DisplayName("next N walks forward from the given date")
+    void testNext() {
+        for (int id = 1; id <= 20; id++) {
+            index.upsert(course(id, id, id % 2 == 0 ? 2 : 1));
+        }
+
+        assertEquals(List.of(5, 6, 7), ids(index.next(TODAY.plusDays(5), null, 3)));
+        assertEquals(List.of(6, 8), ids(index.next(TODAY.plusDays(5), 2, 2)));
+    }
+
+    @Test
+    @DisplayName("updates move a course to its new date and deletes remove it")
+    void testUpdateAndRemove() {
+        index.upsert(course(1, 1, 1));
+        index.upsert(course(1, 10, 1));
+        index.upsert(course(2, 3, 1));
+        index.remove(2);
+
+        assertTrue(index.between(TODAY, TODAY.plusDays(5), null, 100).isEmpty());
+        assertEquals(List.of(1), ids(index.next(TODAY, null, 10)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("trainer filters follow reassignments and removals, and an unknown trainer gets nothing")
+    void testTrainerFilter() {
+        index.upsert(course(1, 1, 1));
+        index.upsert(course(2, 2, 2));
+        index.upsert(course(3, 3, 1));
+        index.upsert(course(3, 3, 2));
+        index.remove(1);
+
+        assertTrue(index.next(TODAY, 1, 10).isEmpty());
+        assertEquals(List.of(2, 3), ids(index.next(TODAY, 2, 10)));
+        assertEquals(List.of(3), ids(index.between(TODAY.plusDays(3), TODAY.plusDays(3), 2, 10)));
+        assertTrue(index.next(TODAY, 99, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("courses before the lookback horizon are not kept")
+    void testHorizon() {
+        index.upsert(course(1, -8, 1));
+        index.upsert(course(2, -7, 1));
+
+        assertEquals(TODAY.minusDays(7), index.horizon());
+        assertEquals(List.of(2), ids(index.next(index.horizon(), null, 10)));
+    }
+
+    @Test
+    @DisplayName("writes made during a rebuild are replayed in order onto the loaded data")
+    void testWritesDuringRebuild() {
+        index.upsert(course(1, 1, 1));
+        LocalDate from = index.beginRebuild();
+        index.upsert(course(5, 4, 1));
+        index.remove(5);
+        index.upsert(course(6, 5, 1));
+        index.completeRebuild(List.of(course(1, 1, 1), course(5, 4, 1)));
+
+        assertEquals(TODAY.minusDays(7), from);
+        assertEquals(List.of(1, 6), ids(index.next(TODAY, null, 10)));
+    }
+}
@@ -0,0 +1,77 @@
+package com.sparta.spartaglobalacademy.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.spartaglobalacademy.records.CourseLookupRecord;
+import com.sparta.spartaglobalacademy.records.CourseMapper;
+import com.sparta.spartaglobalacademy.records.TrainerMapper;
+import com.sparta.spartaglobalacademy.services.CourseService;
+import com.sparta.spartaglobalacademy.services.TrainerService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class StartupWarmUpTest {
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TrainerService trainerService;
+    private CourseService courseService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+        jdbcTemplate = mock(JdbcTemplate.class);
+        trainerService = mock(TrainerService.class);
+        courseService = mock(CourseService.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private StartupWarmUp warmUp(int hotCourses) {
+        return new StartupWarmUp(dataSource, jdbcTemplate, trainerService, courseService,
+                mock(CourseMapper.class), mock(TrainerMapper.class), new ObjectMapper(), meterRegistry,
+                2, hotCourses, 1);
+    }
+
+    @Test
+    @DisplayName("hot courses beyond one multi-get are looked up in chunks the service accepts")
+    void testChunksHotCourses() {
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 1; id <= 2500; id++) {
+            ids.add(id);
+        }
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(2500))).thenReturn(ids);
+        when(courseService.getCoursesByIds(anyList())).thenReturn(new CourseLookupRecord(List.of(), List.of()));
+
+        StartupWarmUp warmUp = warmUp(2500);
+        warmUp.run(null);
+
+        assertTrue(warmUp.isFinished());
+        verify(courseService, times(6)).getCoursesByIds(argThat(chunk -> chunk.size() <= CourseService.MAX_LOOKUP_IDS));
+        assertEquals(1, meterRegistry.get("academy.warmup.duration").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("Sad path: an unexpected exception ends the warm-up without stopping startup")
+    void testRuntimeExceptionDoesNotEscape() {
+        when(trainerService.getAllTrainers()).thenThrow(new IllegalStateException("boom"));
+
+        StartupWarmUp warmUp = warmUp(10);
+        assertDoesNotThrow(() -> warmUp.run(null));
+
+        assertTrue(warmUp.isFinished());
+        assertEquals(1, meterRegistry.get("academy.warmup.duration").tag("outcome", "failure").timer().count());
+    }
+}